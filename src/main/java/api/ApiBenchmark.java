@@ -0,0 +1,148 @@
+package api;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import simulation.FrequencyGuessStrategy;
+
+/**
+ * Plays games against a {@link GameApiServer} from many concurrent clients for a fixed duration.
+ * Each client creates a game and guesses letters in frequency order until the game is over, then starts the next.
+ * The latency of every successful request is recorded, so percentiles are exact rather than estimated;
+ * requests answered with any other status count as errors only.
+ */
+public class ApiBenchmark {
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final String IN_PROGRESS = "\"status\":\"IN_PROGRESS\"";
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final double P50 = 0.50;
+    private static final double P99 = 0.99;
+
+    private final URI base;
+    private final int clients;
+    private final long durationNanos;
+    private final HttpClient httpClient;
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder games = new LongAdder();
+
+    /**
+     * Constructs a benchmark.
+     *
+     * @param base          The server URI, such as {@code http://127.0.0.1:8080}.
+     * @param clients       The number of concurrent clients.
+     * @param durationNanos How long to keep sending requests.
+     */
+    public ApiBenchmark(URI base, int clients, long durationNanos) {
+        this.base = base;
+        this.clients = clients;
+        this.durationNanos = durationNanos;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    /**
+     * Runs all clients until the duration is over.
+     *
+     * @return The report.
+     * @throws InterruptedException If interrupted while waiting for the clients.
+     */
+    public BenchmarkReport run() throws InterruptedException {
+        long startTime = System.nanoTime();
+        long deadline = startTime + durationNanos;
+        List<Future<LongArrayList>> results = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> playUntil(deadline)));
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        LongArrayList latencies = new LongArrayList();
+        for (Future<LongArrayList> result : results) {
+            latencies.addAll(result.resultNow());
+        }
+        long[] sorted = latencies.toLongArray();
+        Arrays.sort(sorted);
+        return new BenchmarkReport(
+            sorted.length,
+            errors.sum(),
+            games.sum(),
+            percentile(sorted, P50),
+            percentile(sorted, P99),
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1],
+            elapsed
+        );
+    }
+
+    private LongArrayList playUntil(long deadline) {
+        LongArrayList latencies = new LongArrayList();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<String> created = send(HttpRequest.newBuilder(base.resolve("/games"))
+                    .POST(HttpRequest.BodyPublishers.ofString("{}")), CREATED, latencies);
+                Matcher id = ID.matcher(created.body());
+                if (created.statusCode() != CREATED || !id.find()) {
+                    errors.increment();
+                    continue;
+                }
+                URI guesses = base.resolve("/games/" + id.group(1) + "/guesses");
+                for (int i = 0; i < FrequencyGuessStrategy.ORDER.length(); i++) {
+                    char letter = FrequencyGuessStrategy.ORDER.charAt(i);
+                    HttpResponse<String> response = send(HttpRequest.newBuilder(guesses)
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"guess\":\"" + letter + "\"}")), OK, latencies);
+                    if (response.statusCode() != OK) {
+                        errors.increment();
+                        break;
+                    }
+                    if (!response.body().contains(IN_PROGRESS)) {
+                        games.increment();
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                errors.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return latencies;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request, int expectedStatus, LongArrayList latencies)
+        throws IOException, InterruptedException {
+        long sent = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(
+            request.header("Content-Type", "application/json").build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        long latency = System.nanoTime() - sent;
+        if (response.statusCode() == expectedStatus) {
+            latencies.add(latency);
+        }
+        return response;
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
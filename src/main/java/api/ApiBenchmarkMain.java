@@ -0,0 +1,51 @@
+package api;
+
+import handlers.OutputHandler;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.UtilityClass;
+import util.CommandLine;
+import util.HangmanWords;
+import util.Nanos;
+
+/**
+ * Entry point for API benchmarks; see {@link ApiBenchmarkOptions} for the flags, or run with {@code --help}.
+ * Without a server URI an embedded server is started on a free port.
+ */
+@UtilityClass
+public class ApiBenchmarkMain {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ApiBenchmarkOptions options = new ApiBenchmarkOptions();
+        if (!CommandLine.parse("hangman-api-benchmark", options, args)) {
+            return;
+        }
+        int clients = options.clients();
+
+        GameApiServer server = null;
+        URI base;
+        if (options.server() != null) {
+            base = options.server();
+        } else {
+            server = new GameApiServer(new HangmanWords(), Integer.MAX_VALUE);
+            server.start(InetAddress.getLoopbackAddress(), 0);
+            base = URI.create("http://127.0.0.1:" + server.port());
+        }
+
+        BenchmarkReport report = new ApiBenchmark(base, clients, TimeUnit.SECONDS.toNanos(options.seconds())).run();
+        if (server != null) {
+            server.close();
+        }
+
+        OutputHandler.printf(Locale.ROOT, "Clients:    %d%n", clients);
+        OutputHandler.printf(Locale.ROOT, "Requests:   %d (%.0f/s)%n", report.requests(), report.requestsPerSecond());
+        OutputHandler.printf(Locale.ROOT, "Errors:     %d%n", report.errors());
+        OutputHandler.printf(Locale.ROOT, "Games:      %d%n", report.games());
+        OutputHandler.printf(Locale.ROOT, "Latency:    p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+            Nanos.toMillis(report.p50Nanos()), Nanos.toMillis(report.p99Nanos()),
+            Nanos.toMillis(report.maxNanos()));
+        OutputHandler.flush();
+    }
+}
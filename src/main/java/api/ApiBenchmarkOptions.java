@@ -0,0 +1,26 @@
+package api;
+
+import com.beust.jcommander.Parameter;
+import java.net.URI;
+import lombok.Getter;
+
+/**
+ * Command-line configuration of {@link ApiBenchmarkMain}.
+ */
+@Getter
+public class ApiBenchmarkOptions {
+    private static final int DEFAULT_CLIENTS = 64;
+    private static final int DEFAULT_SECONDS = 10;
+
+    @Parameter(names = {"--clients", "-n"}, description = "Number of concurrent clients")
+    private int clients = DEFAULT_CLIENTS;
+
+    @Parameter(names = "--seconds", description = "How long the clients keep sending requests")
+    private int seconds = DEFAULT_SECONDS;
+
+    @Parameter(names = "--server", description = "URI of a running server; without it an embedded server is started")
+    private URI server;
+
+    @Parameter(names = {"--help", "-h"}, description = "Show this help", help = true)
+    private boolean help = false;
+}
@@ -0,0 +1,33 @@
+package api;
+
+import handlers.OutputHandler;
+import java.io.IOException;
+import java.net.InetAddress;
+import lombok.experimental.UtilityClass;
+import util.CommandLine;
+import util.HangmanWords;
+
+/**
+ * Entry point for the HTTP API; see {@link ApiServerOptions} for the flags, or run with {@code --help}.
+ * With a stats file, statistics survive restarts and are shared by all servers using the file.
+ * With a journal directory, games in progress survive restarts and crashes.
+ */
+@UtilityClass
+public class ApiServerMain {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ApiServerOptions options = new ApiServerOptions();
+        if (!CommandLine.parse("hangman-api", options, args)) {
+            return;
+        }
+
+        GameApiServer server = new GameApiServer(new HangmanWords(), options.maxGames(), options.stats(),
+            GameApiServer.DEFAULT_IDLE_TIMEOUT, options.journal());
+        server.syncAcknowledgements(options.syncAcknowledgements());
+        server.start(InetAddress.getLoopbackAddress(), options.port());
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        OutputHandler.println("Hangman API listening on http://localhost:" + server.port() + "/games");
+        OutputHandler.flush();
+        Thread.currentThread().join();
+    }
+}
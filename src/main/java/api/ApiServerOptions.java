@@ -0,0 +1,35 @@
+package api;
+
+import com.beust.jcommander.Parameter;
+import java.nio.file.Path;
+import lombok.Getter;
+
+/**
+ * Command-line configuration of {@link ApiServerMain}.
+ */
+@Getter
+public class ApiServerOptions {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_MAX_GAMES = 1_000_000;
+
+    @Parameter(names = {"--port", "-p"}, description = "Port to listen on, 0 for any free port")
+    private int port = DEFAULT_PORT;
+
+    @Parameter(names = "--max-games", description = "Games in progress at once, above which new games are refused")
+    private int maxGames = DEFAULT_MAX_GAMES;
+
+    @Parameter(names = "--stats",
+        description = "Stats file, so statistics survive restarts and are shared by all servers using it")
+    private Path stats;
+
+    @Parameter(names = "--journal",
+        description = "Journal directory, so games in progress survive restarts and crashes")
+    private Path journal;
+
+    @Parameter(names = "--sync-acknowledgements",
+        description = "Acknowledge journaled requests only once they are committed to the disk")
+    private boolean syncAcknowledgements = false;
+
+    @Parameter(names = {"--help", "-h"}, description = "Show this help", help = true)
+    private boolean help = false;
+}
@@ -0,0 +1,33 @@
+package api;
+
+import util.Nanos;
+
+/**
+ * The outcome of an {@link ApiBenchmark} run.
+ *
+ * @param requests     The number of successful requests, answered with 200 or 201.
+ * @param errors       The number of failed requests, including those answered with another status.
+ * @param games        The number of games played to the end.
+ * @param p50Nanos     The median latency of the successful requests.
+ * @param p99Nanos     The 99th percentile latency of the successful requests.
+ * @param maxNanos     The longest latency of a successful request.
+ * @param elapsedNanos The wall-clock time of the run.
+ */
+public record BenchmarkReport(
+    long requests,
+    long errors,
+    long games,
+    long p50Nanos,
+    long p99Nanos,
+    long maxNanos,
+    long elapsedNanos
+) {
+    /**
+     * Returns the number of successful requests per second.
+     *
+     * @return The throughput.
+     */
+    public double requestsPerSecond() {
+        return Nanos.perSecond(requests, elapsedNanos);
+    }
+}
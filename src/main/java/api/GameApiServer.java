@@ -0,0 +1,609 @@
+package api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import game.GameEngine;
+import game.GuessListener;
+import game.GuessOutcome;
+import hangman.Hangman;
+import hangman.SimpleHangman;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import jfr.GameEvents;
+import journal.EventJournal;
+import journal.RecoveredSessions;
+import journal.SessionRecovery;
+import keyboard.CapitalizedKeyboard;
+import lombok.Getter;
+import session.WordTable;
+import stats.GameStats;
+import stats.StatsFile;
+import util.HangmanWords;
+import util.WordDictionary;
+import word.CapitalizedWord;
+
+/**
+ * A JSON API over HTTP that drives {@link GameEngine} directly, without rendering anything.
+ * <ul>
+ *     <li>{@code POST /games} with an optional body {@code {"category": 1, "attempts": 6}} creates a game</li>
+ *     <li>{@code GET /games/{id}} returns the state of a game</li>
+ *     <li>{@code POST /games/{id}/guesses} with a body {@code {"guess": "e"}} guesses a letter or a word</li>
+ *     <li>{@code GET /stats} returns live statistics of the finished games</li>
+ * </ul>
+ * Every exchange runs on its own virtual thread. Response bodies are assembled in pooled buffers,
+ * so a response is sent with a fixed length in a single write.
+ * <p>
+ * Games in progress count against the game limit until they end or stay idle for the idle timeout,
+ * after which they are dropped. A finished game no longer counts and stays readable for a minute.
+ * <p>
+ * With a journal directory, every game start and guess is appended to an {@link EventJournal} before it is
+ * acknowledged. The journal lives in mapped memory that outlives a crash of the process and is committed to the disk
+ * within its commit interval; with {@link #syncAcknowledgements(boolean)} a request is only acknowledged once
+ * its events are committed, so it also survives a power loss. The games in progress are checkpointed every
+ * minute and on {@link #close()}, and the journal segments before the checkpoint are deleted.
+ * On startup the games are recovered from the latest checkpoint and the journal tail after it.
+ */
+public class GameApiServer implements AutoCloseable {
+    /**
+     * How long a game in progress is kept after its last request, unless the server is given another timeout.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final String GAMES = "games";
+    private static final String GUESSES = "guesses";
+    private static final String STATS = "stats";
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String UNKNOWN_RESOURCE = "Unknown resource";
+    private static final String UNKNOWN_GAME = "Unknown game: ";
+    // Indexes of the path segments, after the empty one before the leading slash
+    private static final int RESOURCE_SEGMENT = 1;
+    private static final int ID_SEGMENT = 2;
+    private static final int ACTION_SEGMENT = 3;
+    private static final int LEADERBOARD_SIZE = 10;
+    private static final int LEADERBOARD_MIN_PLAYS = 20;
+    private static final Duration FINISHED_RETENTION = Duration.ofMinutes(1);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(5);
+    private static final String JOURNAL_LOG = "log";
+    private static final String JOURNAL_CHECKPOINT = "checkpoint";
+    private static final int JOURNAL_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final Duration JOURNAL_COMMIT_INTERVAL = Duration.ofMillis(10);
+    private static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(1);
+    private static final String NO_DELAY = "sun.net.httpserver.nodelay";
+    private static final int BACKLOG = 1024;
+    private static final int BUFFER_POOL_SIZE = 256;
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int CONFLICT = 409;
+    private static final int INTERNAL_ERROR = 500;
+    private static final int UNAVAILABLE = 503;
+
+    private final HangmanWords hangmanWords;
+    private final WordDictionary dictionary;
+    private final WordTable wordTable;
+    private final StatsFile statsFile;
+    private final Path journalPath;
+    private final EventJournal journal;
+    @Getter private final GameStats stats;
+    @Getter private final int maxGames;
+    private final GameJson json = new GameJson();
+    // Games in progress, and finished games kept for their final state
+    private final Cache<Long, GameEngine> games;
+    private final Cache<Long, GameEngine> finishedGames;
+    private final AtomicInteger liveGames = new AtomicInteger();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final BlockingQueue<ResponseBuffer> buffers = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong checkpointFailures = new AtomicLong();
+    private volatile boolean syncAcknowledgements;
+    private HttpServer server;
+    private ExecutorService executor;
+    private ScheduledExecutorService checkpointer;
+
+    /**
+     * Constructs a server; no port is bound until {@link #start(InetAddress, int)} is called.
+     *
+     * @param hangmanWords The words to choose from.
+     * @param maxGames     The number of games in progress at once, above which new games are refused.
+     */
+    public GameApiServer(HangmanWords hangmanWords, int maxGames) {
+        this(hangmanWords, maxGames, null);
+    }
+
+    /**
+     * Constructs a server that keeps its statistics in a stats file, shared with other servers on the host.
+     *
+     * @param hangmanWords The words to choose from.
+     * @param maxGames     The number of games in progress at once, above which new games are refused.
+     * @param statsPath    The stats file, created if needed, or {@code null} to keep statistics in memory.
+     */
+    public GameApiServer(HangmanWords hangmanWords, int maxGames, Path statsPath) {
+        this(hangmanWords, maxGames, statsPath, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Constructs a server that drops games left idle for the given time.
+     *
+     * @param hangmanWords The words to choose from.
+     * @param maxGames     The number of games in progress at once, above which new games are refused.
+     * @param statsPath    The stats file, created if needed, or {@code null} to keep statistics in memory.
+     * @param idleTimeout  How long a game in progress is kept after its last request.
+     */
+    public GameApiServer(HangmanWords hangmanWords, int maxGames, Path statsPath, Duration idleTimeout) {
+        this(hangmanWords, maxGames, statsPath, idleTimeout, null);
+    }
+
+    /**
+     * Constructs a server that journals its games and recovers the games in progress of its last run.
+     * Recovered games count against the game limit and keep their ids.
+     *
+     * @param hangmanWords The words to choose from, the same as in the last run.
+     * @param maxGames     The number of games in progress at once, above which new games are refused.
+     * @param statsPath    The stats file, created if needed, or {@code null} to keep statistics in memory.
+     * @param idleTimeout  How long a game in progress is kept after its last request.
+     * @param journalPath  The journal directory, created if needed, or {@code null} to keep games in memory only.
+     * @throws java.io.UncheckedIOException If the journal cannot be opened or recovered.
+     */
+    public GameApiServer(HangmanWords hangmanWords, int maxGames, Path statsPath, Duration idleTimeout,
+        Path journalPath) {
+        this(hangmanWords, maxGames, statsPath, idleTimeout, journalPath, Ticker.systemTicker());
+    }
+
+    GameApiServer(HangmanWords hangmanWords, int maxGames, Path statsPath, Duration idleTimeout, Path journalPath,
+        Ticker ticker) {
+        this.games = Caffeine.newBuilder()
+            .ticker(ticker)
+            .expireAfterAccess(idleTimeout)
+            .scheduler(Scheduler.systemScheduler())
+            .executor(Runnable::run)
+            .removalListener(this::releaseGame)
+            .build();
+        this.finishedGames = Caffeine.newBuilder()
+            .ticker(ticker)
+            .expireAfterWrite(FINISHED_RETENTION)
+            .maximumSize(maxGames)
+            .scheduler(Scheduler.systemScheduler())
+            .build();
+        this.hangmanWords = hangmanWords;
+        this.dictionary = WordDictionary.of(hangmanWords);
+        this.wordTable = WordTable.of(hangmanWords);
+        this.statsFile = statsPath != null ? new StatsFile(statsPath, wordTable) : null;
+        this.stats = statsFile != null
+            ? new GameStats(statsFile, wordTable, LEADERBOARD_SIZE, LEADERBOARD_MIN_PLAYS)
+            : new GameStats(wordTable, LEADERBOARD_SIZE, LEADERBOARD_MIN_PLAYS);
+        this.maxGames = maxGames;
+        this.journalPath = journalPath;
+        this.journal = journalPath != null ? openJournal() : null;
+    }
+
+    private EventJournal openJournal() {
+        RecoveredSessions recovered = SessionRecovery.recover(journalPath.resolve(JOURNAL_CHECKPOINT),
+            journalPath.resolve(JOURNAL_LOG), wordTable);
+        EventJournal opened = new EventJournal(journalPath.resolve(JOURNAL_LOG), JOURNAL_SEGMENT_SIZE,
+            JOURNAL_COMMIT_INTERVAL);
+        long lastId = 0;
+        for (Long2ObjectMap.Entry<GameEngine> entry : recovered.sessions().long2ObjectEntrySet()) {
+            long id = entry.getLongKey();
+            GameEngine engine = entry.getValue();
+            // The category is not journaled, so a recovered game is counted under a random category
+            attach(engine, opened.listener(id), 0, wordTable.id(new String(engine.word().word())));
+            liveGames.incrementAndGet();
+            games.put(id, engine);
+            lastId = Math.max(lastId, id);
+        }
+        // Ids of finished games may be dealt again: they are no longer readable after a restart
+        nextId.set(lastId + 1);
+        return opened;
+    }
+
+    private void attach(GameEngine engine, GuessListener journalListener, int categoryId, int wordId) {
+        engine.dictionary(dictionary);
+        GuessListener statsListener = stats.listener(engine, categoryId, wordId);
+        engine.guessListener(journalListener != null ? journalListener.andThen(statsListener) : statsListener);
+    }
+
+    /**
+     * Chooses whether journaled requests are acknowledged only once their events are committed to the disk.
+     * Waiting adds the commit of the journal to every response, but the request then survives a power loss
+     * and not only a crash of the process. Off by default.
+     *
+     * @param sync {@code true} to wait for the commit before responding.
+     */
+    public void syncAcknowledgements(boolean sync) {
+        this.syncAcknowledgements = sync;
+    }
+
+    // Blocks until the journal holds everything appended so far on the disk, when acknowledgements are synchronous
+    private void awaitJournal(long position) {
+        if (!syncAcknowledgements) {
+            return;
+        }
+        try {
+            journal.awaitCommit(position);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(UNAVAILABLE, "The server is shutting down");
+        }
+    }
+
+    /**
+     * Binds the port and starts serving requests.
+     *
+     * @param address The local address to bind, {@code null} for all addresses.
+     * @param port    The port, 0 for any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public void start(InetAddress address, int port) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("The server is already started!");
+        }
+        // The JDK server keeps Nagle's algorithm on by default, so small responses wait for the client's delayed ACK.
+        // The property is read once, when the first server is created.
+        if (System.getProperty(NO_DELAY) == null) {
+            System.setProperty(NO_DELAY, "true");
+        }
+        server = HttpServer.create(new InetSocketAddress(address, port), BACKLOG);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/" + GAMES, this::handle);
+        server.createContext("/" + STATS, this::handle);
+        server.start();
+        if (journal != null) {
+            checkpointer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("journal-checkpoint").factory());
+            checkpointer.scheduleWithFixedDelay(this::checkpointLive, CHECKPOINT_INTERVAL.toMillis(),
+                CHECKPOINT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the bound port.
+     *
+     * @return The port.
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of games in progress.
+     *
+     * @return The game count.
+     */
+    public int gameCount() {
+        return liveGames.get();
+    }
+
+    /**
+     * Returns the number of periodic checkpoints that could not be written.
+     *
+     * @return The failure count.
+     */
+    public long checkpointFailures() {
+        return checkpointFailures.get();
+    }
+
+    // Runs on the removing thread, so a game that ends or expires frees its slot at once
+    private void releaseGame(Long id, GameEngine engine, RemovalCause cause) {
+        if (cause != RemovalCause.REPLACED) {
+            liveGames.decrementAndGet();
+        }
+    }
+
+    private boolean reserveGame() {
+        int count;
+        do {
+            count = liveGames.get();
+            if (count >= maxGames) {
+                return false;
+            }
+        } while (!liveGames.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        ResponseBuffer body = acquireBuffer();
+        try (exchange) {
+            int status;
+            try {
+                status = route(exchange, body);
+            } catch (ApiException e) {
+                body.reset();
+                json.writeError(body, e.getMessage());
+                status = e.status();
+            } catch (RuntimeException e) {
+                body.reset();
+                json.writeError(body, "Internal error");
+                status = INTERNAL_ERROR;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                body.writeTo(out);
+            }
+        } finally {
+            GameEvents.unbindSession();
+            releaseBuffer(body);
+        }
+    }
+
+    private int route(HttpExchange exchange, ResponseBuffer body) throws IOException {
+        // "/stats", "/games", "/games/{id}" or "/games/{id}/guesses"
+        String[] segments = exchange.getRequestURI().getPath().split("/");
+        String method = exchange.getRequestMethod();
+        int last = segments.length - 1;
+        // A context matches every path it prefixes, "/gamesfoo" included
+        String resource = last >= RESOURCE_SEGMENT ? segments[RESOURCE_SEGMENT] : "";
+        if (STATS.equals(resource) && last == RESOURCE_SEGMENT) {
+            return serveStats(method, body);
+        }
+        if (!GAMES.equals(resource) || last > ACTION_SEGMENT
+            || last == ACTION_SEGMENT && !GUESSES.equals(segments[ACTION_SEGMENT])) {
+            throw new ApiException(NOT_FOUND, UNKNOWN_RESOURCE);
+        }
+        if (last == RESOURCE_SEGMENT) {
+            return serveGames(method, exchange.getRequestBody(), body);
+        }
+        long id = parseId(segments[ID_SEGMENT]);
+        GameEvents.bindSession(id);
+        GameEngine engine = findGame(id);
+        return last == ID_SEGMENT
+            ? serveGame(method, id, engine, body)
+            : serveGuesses(method, exchange.getRequestBody(), id, engine, body);
+    }
+
+    // GET /stats
+    private int serveStats(String method, ResponseBuffer body) throws IOException {
+        requireMethod(method, GET);
+        json.writeStats(body, stats.snapshot());
+        return OK;
+    }
+
+    // POST /games
+    private int serveGames(String method, InputStream request, ResponseBuffer body) throws IOException {
+        requireMethod(method, POST);
+        return createGame(request, body);
+    }
+
+    // GET /games/{id}
+    private int serveGame(String method, long id, GameEngine engine, ResponseBuffer body) throws IOException {
+        requireMethod(method, GET);
+        synchronized (engine) {
+            json.writeState(body, id, engine, null);
+        }
+        return OK;
+    }
+
+    // POST /games/{id}/guesses
+    private int serveGuesses(String method, InputStream request, long id, GameEngine engine, ResponseBuffer body)
+        throws IOException {
+        requireMethod(method, POST);
+        String guess = readFields(request).get("guess");
+        if (guess == null || guess.isEmpty() || !guess.chars().allMatch(c -> c >= 'A' && c <= 'Z'
+            || c >= 'a' && c <= 'z')) {
+            throw new ApiException(BAD_REQUEST, "The guess must be a latin letter or word");
+        }
+        String upper = guess.toUpperCase(Locale.ROOT);
+        long journaled;
+        synchronized (engine) {
+            if (engine.status().isOver()) {
+                throw new ApiException(CONFLICT, "The game is already over");
+            }
+            GuessOutcome outcome = upper.length() == 1 ? engine.guess(upper.charAt(0)) : engine.guessWord(upper);
+            if (outcome.isTerminal()) {
+                finishedGames.put(id, engine);
+                games.invalidate(id);
+            }
+            json.writeState(body, id, engine, outcome);
+            journaled = journal != null ? journal.position() : 0;
+        }
+        if (journal != null) {
+            awaitJournal(journaled);
+        }
+        return OK;
+    }
+
+    private GameEngine findGame(long id) {
+        GameEngine engine = games.getIfPresent(id);
+        if (engine == null) {
+            engine = finishedGames.getIfPresent(id);
+        }
+        if (engine == null) {
+            throw new ApiException(NOT_FOUND, UNKNOWN_GAME + id);
+        }
+        return engine;
+    }
+
+    private int createGame(InputStream request, ResponseBuffer body) throws IOException {
+        Map<String, String> fields = readFields(request);
+        int categoryId = intField(fields, "category", 0);
+        int attempts = intField(fields, "attempts", Hangman.MAX_ATTEMPTS);
+        if (attempts < 1 || attempts > Hangman.MAX_ATTEMPTS) {
+            throw new ApiException(BAD_REQUEST, "Unsupported attempt count: " + attempts);
+        }
+        // Expired games only free their slots when the cache is maintained
+        if (!reserveGame()) {
+            games.cleanUp();
+            if (!reserveGame()) {
+                throw new ApiException(UNAVAILABLE, "Too many games, try again later");
+            }
+        }
+        long id = nextId.getAndIncrement();
+        GameEvents.bindSession(id);
+        String word;
+        GameEngine engine;
+        try {
+            word = hangmanWords.getRandomWord(categoryId).toUpperCase(Locale.ROOT);
+            engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(word));
+            engine.start(attempts);
+        } catch (IllegalArgumentException e) {
+            liveGames.decrementAndGet();
+            throw new ApiException(BAD_REQUEST, e.getMessage());
+        }
+        int wordId = wordTable.id(word);
+        synchronized (engine) {
+            // The game is listed before its start is appended, so a checkpoint that misses it replays the start,
+            // and guesses wait for the monitor, so they follow the start in the journal
+            games.put(id, engine);
+            if (journal != null) {
+                journal.appendStart(id, wordId, attempts);
+                attach(engine, journal.listener(id), categoryId, wordId);
+            } else {
+                attach(engine, null, categoryId, wordId);
+            }
+        }
+        json.writeState(body, id, engine, null);
+        if (journal != null) {
+            awaitJournal(journal.position());
+        }
+        return CREATED;
+    }
+
+    private Map<String, String> readFields(InputStream request) {
+        try (request) {
+            return json.readFields(request);
+        } catch (IOException e) {
+            throw new ApiException(BAD_REQUEST, "Malformed JSON body");
+        }
+    }
+
+    private static int intField(Map<String, String> fields, String name, int defaultValue) {
+        String value = fields.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(BAD_REQUEST, "Not a number: " + name);
+        }
+    }
+
+    private static long parseId(String segment) {
+        try {
+            return Long.parseLong(segment);
+        } catch (NumberFormatException e) {
+            throw new ApiException(NOT_FOUND, UNKNOWN_GAME + segment);
+        }
+    }
+
+    private static void requireMethod(String actual, String expected) {
+        if (!expected.equals(actual)) {
+            throw new ApiException(METHOD_NOT_ALLOWED, "Method not allowed: " + actual);
+        }
+    }
+
+    private ResponseBuffer acquireBuffer() {
+        ResponseBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : new ResponseBuffer();
+    }
+
+    private void releaseBuffer(ResponseBuffer buffer) {
+        if (buffer.capacity() <= ResponseBuffer.MAX_POOLED_SIZE) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Stops serving requests, checkpoints the games in progress to the journal, if any,
+     * and writes the stats file, if any, to the disk. Calls after the first do nothing.
+     */
+    @Override
+    public void close() {
+        if (closed.getAndSet(true)) {
+            return;
+        }
+        if (checkpointer != null) {
+            checkpointer.shutdownNow();
+            try {
+                checkpointer.awaitTermination(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Requests still running could count a game after the stats file is written
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (journal != null) {
+            checkpoint();
+        }
+        if (statsFile != null) {
+            statsFile.close();
+        }
+    }
+
+    /**
+     * Checkpoints the games in progress while they are played and deletes the journal segments before it.
+     * A failed checkpoint leaves the previous one and the journal in place, and the next one tries again.
+     */
+    void checkpointLive() {
+        try {
+            long from = SessionRecovery.checkpoint(journalPath.resolve(JOURNAL_CHECKPOINT), journal, games.asMap(),
+                wordTable);
+            journal.deleteBefore(from);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (UncheckedIOException e) {
+            // Thrown out of a scheduled task, it would cancel all later checkpoints
+            checkpointFailures.incrementAndGet();
+        }
+    }
+
+    private void checkpoint() {
+        // No request is running anymore, so the games stay still while they are written
+        Long2ObjectOpenHashMap<GameEngine> live = new Long2ObjectOpenHashMap<>(games.asMap());
+        long position = journal.position();
+        journal.close();
+        SessionRecovery.checkpoint(journalPath.resolve(JOURNAL_CHECKPOINT), position, live, wordTable);
+        journal.deleteBefore(position);
+    }
+
+    /**
+     * A request that cannot be served, answered with the given HTTP status.
+     */
+    @Getter
+    private static final class ApiException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
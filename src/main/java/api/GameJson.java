@@ -0,0 +1,158 @@
+package api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import game.GameEngine;
+import game.GuessOutcome;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import stats.StatsSnapshot;
+
+/**
+ * Reads requests and writes game states with the Jackson streaming API, without an object model.
+ * Jackson's internal buffers come from a lock-free shared pool: the default pool is thread-local,
+ * which recycles nothing when every request runs on a new virtual thread.
+ */
+final class GameJson {
+    private static final String ATTEMPTS = "attempts";
+    private static final String WORD = "word";
+    private static final String GAMES = "games";
+    private static final String WIN_RATE = "winRate";
+    private static final String AVERAGE_MISSES = "averageMisses";
+
+    private final JsonFactory factory = JsonFactory.builder()
+        .recyclerPool(JsonRecyclerPools.sharedLockFreePool())
+        .build();
+
+    /**
+     * Reads a flat JSON object of scalar fields.
+     * An empty body reads as an empty object.
+     *
+     * @param in The request body.
+     * @return The field values as text.
+     * @throws IOException If the body is not a flat JSON object.
+     */
+    Map<String, String> readFields(InputStream in) throws IOException {
+        Map<String, String> fields = new HashMap<>();
+        try (JsonParser parser = factory.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return fields;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                if (!parser.nextToken().isScalarValue()) {
+                    throw new IOException("Expected a scalar value for " + name);
+                }
+                fields.put(name, parser.getText());
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Writes the state of a game.
+     * The word is only included once the game is over.
+     *
+     * @param out     The response body.
+     * @param id      The game ID.
+     * @param engine  The game.
+     * @param outcome The outcome of the guess that was just made, or {@code null}.
+     * @throws IOException If writing fails.
+     */
+    void writeState(OutputStream out, long id, GameEngine engine, GuessOutcome outcome) throws IOException {
+        int length = engine.word().word().length;
+        char[] scratch = new char[Math.max(GameEngine.ALPHABET_SIZE, length)];
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeStringField("status", engine.status().name());
+            if (outcome != null) {
+                generator.writeStringField("outcome", outcome.name());
+            }
+            generator.writeFieldName("pattern");
+            generator.writeString(engine.pattern(scratch), 0, length);
+            generator.writeFieldName("guessed");
+            generator.writeString(scratch, 0, guessedLetters(engine.guessedMask(), scratch));
+            generator.writeNumberField(ATTEMPTS, engine.attempts());
+            generator.writeNumberField("misses", engine.misses());
+            generator.writeNumberField("remaining", engine.remainingAttempts());
+            if (engine.status().isOver()) {
+                char[] word = engine.word().word();
+                generator.writeFieldName(WORD);
+                generator.writeString(word, 0, word.length);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes statistics.
+     *
+     * @param out   The response body.
+     * @param stats The statistics.
+     * @throws IOException If writing fails.
+     */
+    void writeStats(OutputStream out, StatsSnapshot stats) throws IOException {
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField(GAMES, stats.games());
+            generator.writeNumberField(WIN_RATE, stats.winRate());
+            generator.writeNumberField(AVERAGE_MISSES, stats.averageMisses());
+            generator.writeArrayFieldStart("byCategory");
+            for (StatsSnapshot.CellStats cell : stats.cells()) {
+                generator.writeStartObject();
+                generator.writeNumberField("category", cell.categoryId());
+                generator.writeNumberField(ATTEMPTS, cell.attempts());
+                generator.writeNumberField(GAMES, cell.games());
+                generator.writeNumberField(WIN_RATE, cell.winRate());
+                generator.writeNumberField(AVERAGE_MISSES, cell.averageMisses());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("hardestWords");
+            for (StatsSnapshot.WordDifficulty word : stats.hardest()) {
+                generator.writeStartObject();
+                generator.writeStringField(WORD, word.word());
+                generator.writeNumberField("plays", word.plays());
+                generator.writeNumberField("lossRate", word.lossRate());
+                generator.writeNumberField(AVERAGE_MISSES, word.averageMisses());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes an error.
+     *
+     * @param out     The response body.
+     * @param message The error message.
+     * @throws IOException If writing fails.
+     */
+    void writeError(OutputStream out, String message) throws IOException {
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+        }
+    }
+
+    private static int guessedLetters(int mask, char[] into) {
+        int count = 0;
+        for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            into[count++] = (char) ('A' + Integer.numberOfTrailingZeros(remaining));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,21 @@
+package api;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * A response body assembled in memory, so its length is known before the headers are sent.
+ * Instances are pooled and reset between requests instead of being reallocated.
+ */
+final class ResponseBuffer extends ByteArrayOutputStream {
+    static final int INITIAL_SIZE = 512;
+    // Buffers grown beyond this by an unusual response are dropped instead of being pooled
+    static final int MAX_POOLED_SIZE = 16 * 1024;
+
+    ResponseBuffer() {
+        super(INITIAL_SIZE);
+    }
+
+    int capacity() {
+        return buf.length;
+    }
+}
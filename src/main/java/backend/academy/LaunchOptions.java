@@ -0,0 +1,116 @@
+package backend.academy;
+
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+import hangman.Hangman;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.Getter;
+import util.HangmanWords;
+
+/**
+ * Command-line configuration of a game.
+ * Launching with any option skips the interactive setup wizard entirely;
+ * options that are not given fall back to their defaults instead of being prompted for.
+ */
+@Getter
+public class LaunchOptions {
+    private static final int MAX_CATEGORY = HangmanWords.Category.values().length;
+    private static final int MAX_PORT = 65_535;
+
+    /**
+     * How guesses are read and the game is redrawn.
+     */
+    public enum DisplayMode {
+        /**
+         * Whole lines, allowing full-word guesses.
+         */
+        LINE,
+        /**
+         * Single keystrokes in raw terminal mode, falling back to lines when stdin is not a terminal.
+         */
+        KEYSTROKE
+    }
+
+    @Parameter(names = {"--attempts", "-a"}, description = "Attempt count (1-6)")
+    private int attempts = Hangman.MAX_ATTEMPTS;
+
+    @Parameter(names = {"--category", "-c"},
+        description = "Word category (0 - Random, 1 - Fruits, 2 - Animals, 3 - Countries, 4 - Sports, 5 - Colors)")
+    private int category = 0;
+
+    @Parameter(names = {"--word", "-w"}, description = "Word to guess instead of a random one from the category")
+    private String word;
+
+    @Parameter(names = {"--seed", "-s"}, description = "Seed of the word choice, for reproducible launches")
+    private Long seed;
+
+    @Parameter(names = {"--display", "-d"}, description = "Input mode: line or keystroke")
+    private DisplayMode display = DisplayMode.LINE;
+
+    @Parameter(names = "--evil", description = "Let the host keep switching words to dodge guesses")
+    private boolean evil = false;
+
+    @Parameter(names = "--dictionary",
+        description = "Word list, one word per line, for the dictionary check and evil mode")
+    private Path dictionary;
+
+    @Parameter(names = "--hints", description = "Answer '?' with the most informative letter to guess")
+    private boolean hints = false;
+
+    @Parameter(names = "--dictionary-check",
+        description = "Reject full-word guesses that are not in the dictionary without costing an attempt")
+    private boolean dictionaryCheck = false;
+
+    @Parameter(names = "--record", description = "Replay file to record the game to")
+    private Path recordFile;
+
+    @Parameter(names = "--cast", description = "Asciicast file to record the terminal output to")
+    private Path cast;
+
+    @Parameter(names = "--metrics",
+        description = "Port to serve hot-path metrics on at /metrics, also readable over JMX")
+    private Integer metrics;
+
+    @Parameter(names = "--jfr", description = "Flight recording file to record game events to")
+    private Path jfr;
+
+    @Parameter(names = {"--help", "-h"}, description = "Show this help", help = true)
+    private boolean help = false;
+
+    /**
+     * Checks the parsed values against each other and the available words.
+     *
+     * @throws ParameterException If an option is out of range or the dictionary cannot be read.
+     */
+    public void validate() {
+        validateRanges();
+        validateWords();
+        if (recordFile != null && evil) {
+            throw new ParameterException("Evil games cannot be recorded, their word is not fixed");
+        }
+    }
+
+    private void validateRanges() {
+        if (attempts < 1 || attempts > Hangman.MAX_ATTEMPTS) {
+            throw new ParameterException(
+                "Attempt count must be between 1 and " + Hangman.MAX_ATTEMPTS + ": " + attempts);
+        }
+        if (category < 0 || category > MAX_CATEGORY) {
+            throw new ParameterException("Unknown category ID: " + category);
+        }
+        if (metrics != null && (metrics < 0 || metrics > MAX_PORT)) {
+            throw new ParameterException("Metrics port must be between 0 and " + MAX_PORT + ": " + metrics);
+        }
+    }
+
+    private void validateWords() {
+        if (word != null && (word.isEmpty() || !word.chars().allMatch(c -> c >= 'A' && c <= 'Z'
+            || c >= 'a' && c <= 'z'))) {
+            throw new ParameterException("The word must consist of latin letters: " + word);
+        }
+        if (dictionary != null && !Files.isReadable(dictionary)) {
+            throw new ParameterException("Cannot read the dictionary: " + dictionary);
+        }
+    }
+}
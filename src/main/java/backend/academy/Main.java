@@ -1,26 +1,197 @@
 package backend.academy;
 
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import display.TerminalRecorder;
 import game.Game;
+import handlers.OutputHandler;
 import hangman.SimpleHangman;
+import hint.HintEngine;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import jfr.FrameOutputStream;
+import jfr.GameEvents;
 import keyboard.CapitalizedKeyboard;
 import lombok.experimental.UtilityClass;
+import metrics.CountingOutputStream;
+import metrics.Metrics;
+import metrics.MetricsServer;
+import replay.GameRecorder;
+import util.HangmanWords;
 import util.SetupWizard;
+import util.WordDictionary;
 import word.CapitalizedWord;
+import word.EvilWord;
+import word.Word;
 
 @UtilityClass
 public class Main {
-    public static void main(String[] args) {
+    private static final int USAGE_ERROR = 2;
+    private static final int CAST_WIDTH = 80;
+    private static final int CAST_HEIGHT = 24;
+
+    public static void main(String[] args) throws IOException {
+        LaunchOptions options = new LaunchOptions();
+        JCommander commander = JCommander.newBuilder()
+            .programName("hangman")
+            .addObject(options)
+            .build();
+        try {
+            commander.parse(args);
+            options.validate();
+        } catch (ParameterException e) {
+            exitWithUsage(commander, e.getMessage());
+        }
+        if (options.help()) {
+            printUsage(commander);
+        } else {
+            launch(commander, options, args.length == 0);
+        }
+    }
+
+    private static void launch(JCommander commander, LaunchOptions options, boolean wizard) throws IOException {
+        if (options.jfr() != null) {
+            GameEvents.startRecording(options.jfr());
+            OutputHandler.printStream(new PrintStream(new FrameOutputStream(OutputHandler.printStream()), false,
+                StandardCharsets.UTF_8));
+        }
+
+        HangmanWords hangmanWords = new HangmanWords();
+        Setup setup = wizard ? setupWithWizard(hangmanWords) : setupFromOptions(options, hangmanWords);
+        String word = options.word() != null ? options.word() : hangmanWords.getRandomWord(setup.categoryId());
+        word = word.toUpperCase(Locale.ROOT);
+        List<String> dictionaryWords = options.dictionary() != null
+            ? readWords(options.dictionary())
+            : hangmanWords.getWords(0);
+
+        Word hiddenWord;
+        try {
+            hiddenWord = hideWord(options, hangmanWords, dictionaryWords, setup.categoryId(), word);
+        } catch (IllegalArgumentException e) {
+            exitWithUsage(commander, e.getMessage());
+            return;
+        }
+        int hintCategoryId = options.word() != null ? 0 : setup.categoryId();
+        Game hangmanGame = buildGame(options, hangmanWords, hiddenWord, hintCategoryId, dictionaryWords);
+        play(options, hangmanGame, hangmanWords, hintCategoryId, setup.attempts());
+    }
+
+    private static Setup setupWithWizard(HangmanWords hangmanWords) {
         SetupWizard.setupConsole();
-        int difficulty = SetupWizard.setupDifficulty();
-        String word = SetupWizard.setupWordChoice();
+        int attempts = SetupWizard.setupDifficulty();
+        return new Setup(attempts, SetupWizard.setupCategory(hangmanWords));
+    }
+
+    private static Setup setupFromOptions(LaunchOptions options, HangmanWords hangmanWords) {
+        if (options.seed() != null) {
+            hangmanWords.reseed(options.seed());
+        }
+        return new Setup(options.attempts(), options.category());
+    }
 
+    // The host of an evil game only commits to the length, and dodges among the category words
+    private static Word hideWord(LaunchOptions options, HangmanWords hangmanWords, List<String> dictionaryWords,
+        int categoryId, String word) {
+        return options.evil()
+            ? new EvilWord(options.dictionary() != null ? dictionaryWords : hangmanWords.getWords(categoryId),
+            word.length())
+            : new CapitalizedWord(word);
+    }
+
+    private static Game buildGame(LaunchOptions options, HangmanWords hangmanWords, Word hiddenWord,
+        int hintCategoryId, List<String> dictionaryWords) {
         Game hangmanGame = new Game(
             new SimpleHangman(),
             new CapitalizedKeyboard(),
-            new CapitalizedWord(word)
+            hiddenWord
         );
-
+        if (options.hints()) {
+            hangmanGame.enableHints(new HintEngine(hangmanWords), hintCategoryId);
+        }
+        if (options.dictionaryCheck()) {
+            // The secret word must pass the check even when it is not in the word list
+            List<String> acceptedWords = new ArrayList<>(dictionaryWords);
+            acceptedWords.add(new String(hiddenWord.word()));
+            hangmanGame.enableDictionaryCheck(new WordDictionary(acceptedWords));
+        }
+        if (options.display() == LaunchOptions.DisplayMode.KEYSTROKE) {
+            hangmanGame.enableKeystrokeInput();
+        }
         hangmanGame.build();
-        hangmanGame.start(difficulty);
+        return hangmanGame;
+    }
+
+    private static void play(LaunchOptions options, Game hangmanGame, HangmanWords hangmanWords, int hintCategoryId,
+        int attempts) throws IOException {
+        // Both only run alongside the game, so they are closed explicitly rather than as unused resources
+        MetricsServer metrics = options.metrics() != null ? startMetrics(options.metrics()) : null;
+        try {
+            TerminalRecorder cast = options.cast() != null
+                ? new TerminalRecorder(options.cast(), CAST_WIDTH, CAST_HEIGHT)
+                : null;
+            try {
+                if (options.recordFile() != null) {
+                    GameRecorder.recordGame(hangmanGame, hangmanWords, hintCategoryId, attempts)
+                        .write(options.recordFile());
+                } else {
+                    hangmanGame.start(attempts);
+                }
+            } finally {
+                if (cast != null) {
+                    cast.close();
+                }
+            }
+        } finally {
+            if (metrics != null) {
+                metrics.close();
+            }
+        }
+    }
+
+    private static MetricsServer startMetrics(int port) throws IOException {
+        Metrics.enable();
+        OutputHandler.printStream(new PrintStream(new CountingOutputStream(OutputHandler.printStream()), false,
+            StandardCharsets.UTF_8));
+        MetricsServer server = new MetricsServer(port);
+        OutputHandler.println("Metrics on http://localhost:" + server.port() + "/metrics");
+        OutputHandler.flush();
+        return server;
+    }
+
+    private static void exitWithUsage(JCommander commander, String message) {
+        OutputHandler.println(message);
+        printUsage(commander);
+        System.exit(USAGE_ERROR);
+    }
+
+    private static void printUsage(JCommander commander) {
+        StringBuilder usage = new StringBuilder();
+        commander.getUsageFormatter().usage(usage);
+        OutputHandler.print(usage);
+        OutputHandler.flush();
+    }
+
+    private static List<String> readWords(Path path) throws IOException {
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return lines.map(String::strip)
+                .filter(line -> !line.isEmpty() && line.charAt(0) != '#')
+                .toList();
+        }
+    }
+
+    /**
+     * The attempt count and category of a launch, from the wizard or the command line.
+     *
+     * @param attempts   The number of misses allowed.
+     * @param categoryId The category to choose the word from.
+     */
+    private record Setup(int attempts, int categoryId) {
     }
 }
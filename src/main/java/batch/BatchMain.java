@@ -0,0 +1,69 @@
+package batch;
+
+import handlers.OutputHandler;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import lombok.experimental.UtilityClass;
+import util.Nanos;
+
+/**
+ * Entry point for batch runs.
+ * Usage: {@code BatchMain <script file or directory> [result file]}.
+ * Results are written as tab-separated lines, to the result file or to the standard output,
+ * followed by a {@code #}-prefixed summary line.
+ */
+@UtilityClass
+public class BatchMain {
+    private static final int WRITE_BUFFER = 64 * 1024;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            OutputHandler.println("Usage: BatchMain <script file or directory> [result file]");
+            return;
+        }
+        Path scripts = Path.of(args[0]);
+        Writer writer = args.length > 1
+            ? Files.newBufferedWriter(Path.of(args[1]), StandardCharsets.UTF_8)
+            : new BufferedWriter(new OutputStreamWriter(OutputHandler.printStream(), StandardCharsets.UTF_8),
+                WRITE_BUFFER);
+
+        long startTime = System.nanoTime();
+        LongAdder total = new LongAdder();
+        LongAdder won = new LongAdder();
+        try (Stream<BatchResult> results = BatchRunner.run(scripts)) {
+            results.forEachOrdered(result -> {
+                total.increment();
+                if (result.status() == BatchStatus.WON) {
+                    won.increment();
+                }
+                write(writer, result.toLine());
+            });
+            double seconds = Nanos.toSeconds(System.nanoTime() - startTime);
+            write(writer, String.format(Locale.ROOT, "# %d scripts, %d won, %.3f s, %.0f scripts/s",
+                total.sum(), won.sum(), seconds, total.sum() / seconds));
+        } finally {
+            writer.flush();
+            if (args.length > 1) {
+                writer.close();
+            }
+        }
+    }
+
+    private static void write(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package batch;
+
+/**
+ * The outcome of one {@link GuessScript}.
+ *
+ * @param source     The file the script was read from.
+ * @param lineNumber The one-based line number in that file.
+ * @param word       The word, as written in the script.
+ * @param status     How the script ended.
+ * @param misses     The number of misses.
+ * @param guesses    The number of guesses played before the game ended.
+ * @param message    The reason for an {@code INVALID} status, empty otherwise.
+ */
+public record BatchResult(
+    String source,
+    int lineNumber,
+    String word,
+    BatchStatus status,
+    int misses,
+    int guesses,
+    String message
+) {
+    /**
+     * Formats the result as a single tab-separated line.
+     *
+     * @return The line, without a line terminator.
+     */
+    public String toLine() {
+        return source + ':' + lineNumber + '\t' + word + '\t' + status + '\t' + misses + '\t' + guesses
+            + (message.isEmpty() ? "" : '\t' + message);
+    }
+}
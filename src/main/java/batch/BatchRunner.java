@@ -0,0 +1,156 @@
+package batch;
+
+import game.GameEngine;
+import game.GuessOutcome;
+import hangman.SimpleHangman;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import keyboard.CapitalizedKeyboard;
+import word.CapitalizedWord;
+
+/**
+ * Plays guess scripts through the {@link GameEngine} without prompts or terminal output.
+ * A script file holds one game per line: {@code <word> <attempts> <guess> <guess> ...},
+ * separated by whitespace, where a guess is a letter or a whole word.
+ * Empty lines and lines starting with {@code #} are skipped.
+ */
+public final class BatchRunner {
+    private static final String COMMENT = "#";
+    private static final int MIN_FIELDS = 2;
+
+    private BatchRunner() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Lists the script lines of a file, or of every regular file below a directory in path order.
+     * The lines are collected up front: a stream of lines flat-mapped from files would play each file
+     * on a single core.
+     *
+     * @param path A script file or a directory of script files.
+     * @return The script lines in file and line order.
+     * @throws UncheckedIOException If a file cannot be read.
+     */
+    private static List<ScriptLine> scriptLines(Path path) {
+        try (Stream<Path> files = Files.isDirectory(path) ? Files.walk(path) : Stream.of(path)) {
+            List<Path> regularFiles = files.filter(Files::isRegularFile).sorted().toList();
+            return regularFiles.stream().flatMap(BatchRunner::numberedLines).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Plays every script below the path on all cores.
+     * The work runs in parallel, while the results keep the order of the scripts.
+     *
+     * @param path A script file or a directory of script files.
+     * @return The results, one per script.
+     */
+    public static Stream<BatchResult> run(Path path) {
+        return scriptLines(path)
+            .parallelStream()
+            .map(line -> play(line.source(), line.lineNumber(), line.text()));
+    }
+
+    /**
+     * Parses and plays a single script line.
+     *
+     * @param source     The file name to report.
+     * @param lineNumber The one-based line number to report.
+     * @param line       The script line.
+     * @return The result; malformed scripts produce an {@code INVALID} result.
+     */
+    public static BatchResult play(String source, int lineNumber, String line) {
+        String[] fields = line.trim().split("\\s+");
+        if (fields.length < MIN_FIELDS) {
+            return invalid(source, lineNumber, fields[0], "expected a word and an attempt count");
+        }
+        try {
+            GuessScript script = new GuessScript(
+                source,
+                lineNumber,
+                fields[0].toUpperCase(Locale.ROOT),
+                Integer.parseInt(fields[1]),
+                Arrays.asList(fields).subList(MIN_FIELDS, fields.length)
+            );
+            return play(script);
+        } catch (IllegalArgumentException e) {
+            return invalid(source, lineNumber, fields[0], e.getMessage());
+        }
+    }
+
+    /**
+     * Plays a parsed script.
+     * Guesses after the end of the game are ignored, invalid guesses are skipped like in the console game.
+     *
+     * @param script The script.
+     * @return The result.
+     * @throws IllegalArgumentException If the word or the attempt count are not playable.
+     */
+    public static BatchResult play(GuessScript script) {
+        // A word with other characters could never be revealed, the game would always be lost
+        if (!isLatinWord(script.word())) {
+            throw new IllegalArgumentException("The word must consist of latin letters: " + script.word());
+        }
+        GameEngine engine = new GameEngine(
+            new SimpleHangman(),
+            new CapitalizedKeyboard(),
+            new CapitalizedWord(script.word())
+        );
+        engine.start(script.attempts());
+
+        int played = 0;
+        for (String guess : script.guesses()) {
+            if (engine.status().isOver()) {
+                break;
+            }
+            GuessOutcome outcome = applyGuess(engine, guess.toUpperCase(Locale.ROOT));
+            if (outcome != null) {
+                ++played;
+            }
+        }
+        return new BatchResult(
+            script.source(), script.lineNumber(), script.word(), BatchStatus.of(engine.status()), engine.misses(),
+            played, ""
+        );
+    }
+
+    private static GuessOutcome applyGuess(GameEngine engine, String guess) {
+        if (!isLatinWord(guess)) {
+            return null;
+        }
+        return guess.length() == 1 ? engine.guess(guess.charAt(0)) : engine.guessWord(guess);
+    }
+
+    private static boolean isLatinWord(String word) {
+        return !word.isEmpty() && word.chars().allMatch(c -> c >= 'A' && c <= 'Z');
+    }
+
+    private static BatchResult invalid(String source, int lineNumber, String word, String message) {
+        return new BatchResult(source, lineNumber, word, BatchStatus.INVALID, 0, 0, message);
+    }
+
+    private static Stream<ScriptLine> numberedLines(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            String source = file.toString();
+            return IntStream.range(0, lines.size())
+                .filter(i -> !lines.get(i).isBlank() && !lines.get(i).stripLeading().startsWith(COMMENT))
+                .mapToObj(i -> new ScriptLine(source, i + 1, lines.get(i)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record ScriptLine(String source, int lineNumber, String text) {
+    }
+}
@@ -0,0 +1,33 @@
+package batch;
+
+import game.GameStatus;
+
+/**
+ * How a {@link GuessScript} ended.
+ */
+public enum BatchStatus {
+    /**
+     * The guesses ran out before the game ended.
+     */
+    IN_PROGRESS,
+    WON,
+    LOST,
+    /**
+     * The script could not be played.
+     */
+    INVALID;
+
+    /**
+     * Returns the status of a script whose game ended, or did not, with the given status.
+     *
+     * @param status The status of the game.
+     * @return The script status.
+     */
+    public static BatchStatus of(GameStatus status) {
+        return switch (status) {
+            case IN_PROGRESS -> IN_PROGRESS;
+            case WON -> WON;
+            case LOST -> LOST;
+        };
+    }
+}
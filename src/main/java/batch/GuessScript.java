@@ -0,0 +1,15 @@
+package batch;
+
+import java.util.List;
+
+/**
+ * A scripted game: the word, the attempt count and the guesses to play, in order.
+ *
+ * @param source     The file the script was read from.
+ * @param lineNumber The one-based line number in that file.
+ * @param word       The uppercase word to guess.
+ * @param attempts   The number of misses allowed.
+ * @param guesses    The guesses, single letters or whole words.
+ */
+public record GuessScript(String source, int lineNumber, String word, int attempts, List<String> guesses) {
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import lombok.experimental.UtilityClass;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the JMH microbenchmarks of the game's hot paths.
+ * Usage: {@code BenchmarkMain [include regex] [result file]}.
+ * Every benchmark runs with the GC profiler, so the JSON results report bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}) next to the time per operation.
+ * For other JMH options run {@code org.openjdk.jmh.Main} with {@code -prof gc} instead.
+ */
+@UtilityClass
+public class BenchmarkMain {
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkMain.class.getPackageName() + "\\.";
+        String result = args.length > 1 ? args[1] : "jmh-result.json";
+
+        Options options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result)
+            .build();
+        new Runner(options).run();
+    }
+}
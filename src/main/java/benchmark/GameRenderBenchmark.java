@@ -0,0 +1,80 @@
+package benchmark;
+
+import display.ConsoleDisplay;
+import display.Line;
+import game.GameEngine;
+import handlers.OutputHandler;
+import hangman.SimpleHangman;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import keyboard.CapitalizedKeyboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import word.CapitalizedWord;
+
+/**
+ * The render cost of a guess: whole games on the 17-line console board, each guess redrawing its lines
+ * in place on a display printing to a null stream, reported per guess. The boards are built and first drawn
+ * before each invocation, so only the guesses are measured. An invocation plays a batch of separate boards,
+ * which keeps the timing overhead of the per-invocation setup small against the guesses.
+ * The bytes per guess of the GC profiler still include the setup, since it counts whole iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("MagicNumber")
+public class GameRenderBenchmark {
+    private static final String WORD = "KIWI";
+    // Three misses, two hits and the winning guess
+    private static final char[] GUESSES = "EAOKIW".toCharArray();
+    private static final int BOARDS = 32;
+
+    private final GameEngine[] engines = new GameEngine[BOARDS];
+
+    @Setup(Level.Trial)
+    public void redirectOutput() {
+        OutputHandler.setPrintStream(OutputStream.nullOutputStream(), false);
+    }
+
+    @Setup(Level.Invocation)
+    public void drawBoards() {
+        for (int board = 0; board < BOARDS; board++) {
+            GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(),
+                new CapitalizedWord(WORD));
+            List<Line> lines = new ArrayList<>();
+            RenderBenchmark.addGameLines(lines, engine);
+            ConsoleDisplay display = new ConsoleDisplay(lines);
+            engine.start(6);
+            display.render();
+            engines[board] = engine;
+        }
+        OutputHandler.flush();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(6 * BOARDS)
+    public void renderGuess(Blackhole blackhole) {
+        for (GameEngine engine : engines) {
+            for (char letter : GUESSES) {
+                blackhole.consume(engine.guess(letter));
+                OutputHandler.flush();
+            }
+        }
+    }
+}
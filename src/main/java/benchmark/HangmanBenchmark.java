@@ -0,0 +1,41 @@
+package benchmark;
+
+import hangman.SimpleHangman;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link SimpleHangman#nextStage()} until the hangman is complete, per stage, including the reset
+ * by {@link SimpleHangman#setAttempts(int)} that starts every round.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("MagicNumber")
+public class HangmanBenchmark {
+    private static final int ATTEMPTS = 6;
+
+    private final SimpleHangman hangman = new SimpleHangman();
+
+    @Benchmark
+    @OperationsPerInvocation(ATTEMPTS)
+    public void nextStage(Blackhole blackhole) {
+        hangman.setAttempts(ATTEMPTS);
+        for (int stage = 0; stage < ATTEMPTS; stage++) {
+            blackhole.consume(hangman.nextStage());
+        }
+    }
+}
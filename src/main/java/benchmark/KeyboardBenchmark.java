@@ -0,0 +1,59 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import keyboard.CapitalizedKeyboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link CapitalizedKeyboard#crossOutLetter(String)}: a letter crossed out before, which scans the keyboard
+ * without a change, and the letters of a whole word on a fresh keyboard, which includes building it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("MagicNumber")
+public class KeyboardBenchmark {
+    @Param({"4", "8", "16"})
+    private int wordLength;
+
+    private String[] guesses;
+    private CapitalizedKeyboard keyboard;
+
+    @Setup
+    public void setUp() {
+        String word = Words.word(wordLength, 0);
+        guesses = new String[wordLength];
+        for (int i = 0; i < wordLength; i++) {
+            guesses[i] = String.valueOf(word.charAt(i));
+        }
+        keyboard = new CapitalizedKeyboard();
+        keyboard.crossOutLetter("M");
+    }
+
+    @Benchmark
+    public boolean crossOutCrossedLetter() {
+        return keyboard.crossOutLetter("M");
+    }
+
+    @Benchmark
+    public void crossOutWord(Blackhole blackhole) {
+        CapitalizedKeyboard fresh = new CapitalizedKeyboard();
+        for (String guess : guesses) {
+            blackhole.consume(fresh.crossOutLetter(guess));
+        }
+    }
+}
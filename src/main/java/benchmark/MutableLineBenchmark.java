@@ -0,0 +1,56 @@
+package benchmark;
+
+import display.MutableLine;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MutableLine#getContent()} and {@link MutableLine#replaceContent(Object, Object)} on a word line
+ * of underlined letters, with the display listening as in a game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("MagicNumber")
+public class MutableLineBenchmark {
+    private static final String HIDDEN = "\u001B[4m \u001B[0m";
+    private static final String REVEALED = "\u001B[4mA\u001B[0m";
+
+    @Param({"4", "8", "16"})
+    private int wordLength;
+
+    private MutableLine<String> line;
+    private int changes;
+
+    @Setup
+    public void setUp() {
+        line = new MutableLine<>(Collections.nCopies(wordLength, HIDDEN));
+        line.addListener(changed -> ++changes);
+    }
+
+    @Benchmark
+    public String getContent() {
+        return line.getContent();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public int replaceContent() {
+        return line.replaceContent(HIDDEN, REVEALED) + line.replaceContent(REVEALED, HIDDEN);
+    }
+}
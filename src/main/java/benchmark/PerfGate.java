@@ -0,0 +1,308 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares JMH results against a stored baseline and decides whether the hot paths regressed.
+ * <p>
+ * A benchmark is keyed by its class, method and parameters, such as
+ * {@code WordBenchmark.pushMissingLetter[wordLength=8]}. It regresses when its time per operation exceeds
+ * the baseline by more than the relative time tolerance plus a fixed slack, or when its allocation per
+ * operation ({@code gc.alloc.rate.norm}) does the same with the allocation tolerance and slack.
+ * The slacks keep nanosecond paths that allocate nothing from failing on noise. A baseline benchmark
+ * missing from the results fails as well, so the gate cannot pass by skipping a benchmark.
+ * <p>
+ * The baseline file holds the tolerances next to the measurements, and the machine they were recorded on.
+ * Times depend on the machine, so a baseline is only meaningful on a machine with the same architecture,
+ * processor count and Java feature release. Kernel and JVM build strings are kept for the report only.
+ */
+@SuppressWarnings("MagicNumber")
+public final class PerfGate {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final String TOLERANCES = "tolerances";
+    private static final String MACHINE = "machine";
+    private static final String BENCHMARKS = "benchmarks";
+    private static final String BENCHMARK = "benchmark";
+    private static final String NANOS_PER_OP = "nanosPerOp";
+    private static final String BYTES_PER_OP = "bytesPerOp";
+    private static final String SCORE = "score";
+    private static final String PASSED = "passed";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Tolerances tolerances;
+    private final Map<String, Measurement> baseline;
+    private final Machine machine;
+
+    /**
+     * Constructs a gate whose baseline machine is unknown.
+     *
+     * @param tolerances How far measurements may exceed the baseline.
+     * @param baseline   The baseline measurements by benchmark key.
+     */
+    public PerfGate(Tolerances tolerances, Map<String, Measurement> baseline) {
+        this(tolerances, baseline, null);
+    }
+
+    /**
+     * Constructs a gate.
+     *
+     * @param tolerances How far measurements may exceed the baseline.
+     * @param baseline   The baseline measurements by benchmark key.
+     * @param machine    The machine the baseline was recorded on, {@code null} if unknown.
+     */
+    public PerfGate(Tolerances tolerances, Map<String, Measurement> baseline, Machine machine) {
+        this.tolerances = tolerances;
+        this.baseline = new TreeMap<>(baseline);
+        this.machine = machine;
+    }
+
+    /**
+     * Returns the machine the baseline was recorded on.
+     *
+     * @return The machine, {@code null} if the baseline does not say.
+     */
+    public Machine machine() {
+        return machine;
+    }
+
+    /**
+     * Checks whether the baseline was recorded on a machine comparable to the given one.
+     * A baseline that does not name its machine was recorded nowhere in particular.
+     *
+     * @param current The machine the gate runs on.
+     * @return {@code true} if the baseline names the same architecture, processor count and Java feature release.
+     */
+    public boolean recordedOn(Machine current) {
+        return machine != null && machine.arch().equals(current.arch()) && machine.processors() == current.processors()
+            && machine.javaVersion() == current.javaVersion();
+    }
+
+    /**
+     * Reads a baseline file.
+     *
+     * @param file The baseline file.
+     * @return The gate.
+     * @throws IOException If the file cannot be read or is malformed.
+     */
+    public static PerfGate readBaseline(Path file) throws IOException {
+        JsonNode root = MAPPER.readTree(file.toFile());
+        JsonNode limits = required(root, TOLERANCES);
+        Tolerances tolerances = new Tolerances(
+            required(limits, "time").asDouble(),
+            required(limits, "timeSlackNanos").asDouble(),
+            required(limits, "allocation").asDouble(),
+            required(limits, "allocationSlack").asDouble());
+        JsonNode recordedOn = root.get(MACHINE);
+        Machine machine = recordedOn == null ? null : new Machine(
+            required(recordedOn, "os").asText(),
+            required(recordedOn, "arch").asText(),
+            required(recordedOn, "processors").asInt(),
+            required(recordedOn, "jvm").asText(),
+            required(recordedOn, "javaVersion").asInt());
+        Map<String, Measurement> baseline = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> benchmarks = required(root, BENCHMARKS).fields();
+        while (benchmarks.hasNext()) {
+            Map.Entry<String, JsonNode> entry = benchmarks.next();
+            baseline.put(entry.getKey(), new Measurement(required(entry.getValue(), NANOS_PER_OP).asDouble(),
+                required(entry.getValue(), BYTES_PER_OP).asDouble()));
+        }
+        return new PerfGate(tolerances, baseline, machine);
+    }
+
+    /**
+     * Reads the JSON results of a JMH run that used the GC profiler.
+     *
+     * @param file The JMH result file.
+     * @return The measurements by benchmark key, in the order of the file.
+     * @throws IOException If the file cannot be read, is malformed, or a result lacks the allocation metric.
+     */
+    public static Map<String, Measurement> readResults(Path file) throws IOException {
+        Map<String, Measurement> results = new LinkedHashMap<>();
+        for (JsonNode result : MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(required(result, BENCHMARK).asText());
+            // Drops the package, results only come from this one
+            key.delete(0, key.indexOf(".") + 1);
+            JsonNode params = result.get("params");
+            if (params != null && !params.isEmpty()) {
+                key.append('[');
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(param.getKey()).append('=').append(param.getValue().asText());
+                    key.append(fields.hasNext() ? "," : "]");
+                }
+            }
+            JsonNode allocation = required(result, "secondaryMetrics").get(ALLOCATION_METRIC);
+            if (allocation == null) {
+                throw new IOException("No " + ALLOCATION_METRIC + " for " + key + ", run with the GC profiler");
+            }
+            results.put(key.toString(), new Measurement(required(required(result, "primaryMetric"), SCORE)
+                .asDouble(), required(allocation, SCORE).asDouble()));
+        }
+        return results;
+    }
+
+    private static JsonNode required(JsonNode node, String field) throws IOException {
+        JsonNode value = node.get(field);
+        if (value == null) {
+            throw new IOException("Missing field: " + field);
+        }
+        return value;
+    }
+
+    /**
+     * Checks every baseline benchmark against the results; results without a baseline are ignored.
+     *
+     * @param results The measurements by benchmark key.
+     * @return One check per baseline benchmark, by benchmark key.
+     */
+    public List<Check> check(Map<String, Measurement> results) {
+        List<Check> checks = new ArrayList<>(baseline.size());
+        for (Map.Entry<String, Measurement> entry : baseline.entrySet()) {
+            Measurement expected = entry.getValue();
+            Measurement current = results.get(entry.getKey());
+            if (current == null) {
+                checks.add(new Check(entry.getKey(), expected, null, false, false));
+                continue;
+            }
+            checks.add(new Check(entry.getKey(), expected, current,
+                Tolerances.within(expected.nanosPerOp(), current.nanosPerOp(), tolerances.time(),
+                    tolerances.timeSlackNanos()),
+                Tolerances.within(expected.bytesPerOp(), current.bytesPerOp(), tolerances.allocation(),
+                    tolerances.allocationSlack())));
+        }
+        return checks;
+    }
+
+    /**
+     * Writes the checks as a machine-readable report.
+     *
+     * @param checks The checks.
+     * @param file   The report file, replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeReport(List<Check> checks, Path file) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put(PASSED, checks.stream().allMatch(Check::passed));
+        root.set(TOLERANCES, MAPPER.valueToTree(tolerances));
+        ArrayNode entries = root.putArray(BENCHMARKS);
+        for (Check check : checks) {
+            ObjectNode entry = entries.addObject();
+            entry.put(BENCHMARK, check.benchmark());
+            entry.put(PASSED, check.passed());
+            entry.set("baseline", MAPPER.valueToTree(check.baseline()));
+            entry.set("current", check.current() == null ? null : MAPPER.valueToTree(check.current()));
+            entry.put("timeOk", check.timeOk());
+            entry.put("bytesOk", check.bytesOk());
+        }
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+
+    /**
+     * Writes a baseline file holding the tolerances of this gate and the given results, recorded on this machine.
+     *
+     * @param results The measurements by benchmark key.
+     * @param file    The baseline file, replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeBaseline(Map<String, Measurement> results, Path file) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.set(TOLERANCES, MAPPER.valueToTree(tolerances));
+        root.set(MACHINE, MAPPER.valueToTree(Machine.current()));
+        ObjectNode benchmarks = root.putObject(BENCHMARKS);
+        for (Map.Entry<String, Measurement> entry : new TreeMap<>(results).entrySet()) {
+            // Two decimals are well below the run-to-run noise
+            benchmarks.putObject(entry.getKey())
+                .put(NANOS_PER_OP, Math.round(entry.getValue().nanosPerOp() * 100) / 100.0)
+                .put(BYTES_PER_OP, Math.round(entry.getValue().bytesPerOp() * 100) / 100.0);
+        }
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+
+    /**
+     * The time and allocation of one operation.
+     *
+     * @param nanosPerOp The average time, in nanoseconds.
+     * @param bytesPerOp The bytes allocated, in bytes.
+     */
+    public record Measurement(double nanosPerOp, double bytesPerOp) {
+    }
+
+    /**
+     * The machine a baseline was recorded on, as far as the JVM can tell.
+     *
+     * @param os          The operating system name and version.
+     * @param arch        The processor architecture.
+     * @param processors  The number of processors available to the JVM.
+     * @param jvm         The JVM name and version.
+     * @param javaVersion The feature release of the JVM, such as 22.
+     */
+    public record Machine(String os, String arch, int processors, String jvm, int javaVersion) {
+        /**
+         * Describes the machine this JVM runs on.
+         *
+         * @return The machine.
+         */
+        public static Machine current() {
+            return new Machine(System.getProperty("os.name") + " " + System.getProperty("os.version"),
+                System.getProperty("os.arch"), Runtime.getRuntime().availableProcessors(),
+                System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version"),
+                Runtime.version().feature());
+        }
+    }
+
+    /**
+     * How far a measurement may exceed its baseline.
+     *
+     * @param time            The allowed relative time increase, 0.25 for 25%.
+     * @param timeSlackNanos  The time increase always allowed, in nanoseconds.
+     * @param allocation      The allowed relative allocation increase.
+     * @param allocationSlack The allocation increase always allowed, in bytes.
+     */
+    public record Tolerances(double time, double timeSlackNanos, double allocation, double allocationSlack) {
+        /**
+         * Checks whether a value is within the tolerance of its baseline.
+         *
+         * @param baseline The baseline value.
+         * @param current  The measured value.
+         * @param relative The allowed relative increase.
+         * @param slack    The increase always allowed.
+         * @return {@code true} if the value did not regress.
+         */
+        static boolean within(double baseline, double current, double relative, double slack) {
+            return current <= baseline * (1 + relative) + slack;
+        }
+    }
+
+    /**
+     * The verdict on one baseline benchmark.
+     *
+     * @param benchmark The benchmark key.
+     * @param baseline  The baseline measurement.
+     * @param current   The measurement, {@code null} if the benchmark did not run.
+     * @param timeOk    Whether the time stayed within the tolerance.
+     * @param bytesOk   Whether the allocation stayed within the tolerance.
+     */
+    public record Check(String benchmark, Measurement baseline, Measurement current, boolean timeOk,
+                        boolean bytesOk) {
+        /**
+         * Returns whether the benchmark passed.
+         *
+         * @return {@code true} if it ran and neither time nor allocation regressed.
+         */
+        public boolean passed() {
+            return current != null && timeOk && bytesOk;
+        }
+    }
+}
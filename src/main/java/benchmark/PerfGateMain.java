@@ -0,0 +1,122 @@
+package benchmark;
+
+import handlers.OutputHandler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Entry point of the performance regression gate, run by the {@code perf-gate} Maven profile.
+ * Usage: {@code PerfGateMain <baseline file> <report directory> [update baseline: true|false]}.
+ * <p>
+ * Runs a fixed subset of the benchmarks with the GC profiler, then writes the JMH results
+ * ({@code jmh-result.json}) and the verdict per benchmark ({@code perf-gate.json}) into the report directory.
+ * Exits with status 1 if a hot path regressed against the baseline. When updating the baseline,
+ * the results replace the measurements of the baseline file instead, keeping its tolerances,
+ * and the file records this machine. A baseline recorded on another architecture, processor count or Java feature
+ * release is refused with exit status 3 before any benchmark runs, since its times say nothing about this one.
+ */
+@UtilityClass
+@SuppressWarnings("MagicNumber")
+public class PerfGateMain {
+    private static final int USAGE_ERROR = 2;
+    private static final int REGRESSION = 1;
+    private static final int FOREIGN_BASELINE = 3;
+    /**
+     * The gated hot paths: a missed letter on the word, a repeated letter on the keyboard and a rendered guess.
+     */
+    private static final List<String> GATED = List.of(
+        "benchmark\\.WordBenchmark\\.pushMissingLetter$",
+        "benchmark\\.KeyboardBenchmark\\.crossOutCrossedLetter$",
+        "benchmark\\.GameRenderBenchmark\\.renderGuess$");
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        if (args.length < 2) {
+            OutputHandler.println(
+                "Usage: PerfGateMain <baseline file> <report directory> [update baseline: true|false]");
+            OutputHandler.flush();
+            System.exit(USAGE_ERROR);
+        }
+        Path baselineFile = Path.of(args[0]);
+        Path reports = Files.createDirectories(Path.of(args[1]));
+        boolean update = args.length > 2 && Boolean.parseBoolean(args[2]);
+        PerfGate gate = PerfGate.readBaseline(baselineFile);
+        PerfGate.Machine machine = PerfGate.Machine.current();
+        if (!update && !gate.recordedOn(machine)) {
+            OutputHandler.println("The baseline was recorded on " + describe(gate.machine()) + ", this is "
+                + describe(machine) + "; record a baseline here with -Dperf.updateBaseline=true");
+            OutputHandler.flush();
+            System.exit(FOREIGN_BASELINE);
+        }
+
+        Path resultFile = reports.resolve("jmh-result.json");
+        OptionsBuilder builder = new OptionsBuilder();
+        GATED.forEach(builder::include);
+        Options options = builder
+            .param("wordLength", "8")
+            .warmupIterations(3)
+            .warmupTime(TimeValue.milliseconds(500))
+            .measurementIterations(5)
+            .measurementTime(TimeValue.milliseconds(500))
+            .forks(1)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile.toString())
+            .build();
+        new Runner(options).run();
+        Map<String, PerfGate.Measurement> results = PerfGate.readResults(resultFile);
+
+        if (update) {
+            gate.writeBaseline(results, baselineFile);
+            OutputHandler.println("Baseline updated: " + baselineFile);
+            OutputHandler.flush();
+            return;
+        }
+        List<PerfGate.Check> checks = gate.check(results);
+        gate.writeReport(checks, reports.resolve("perf-gate.json"));
+
+        OutputHandler.printf(Locale.ROOT, "%-55s %12s %12s %12s %12s  %s%n",
+            "Benchmark", "Base ns/op", "ns/op", "Base B/op", "B/op", "Verdict");
+        boolean passed = true;
+        for (PerfGate.Check check : checks) {
+            PerfGate.Measurement current = check.current();
+            OutputHandler.printf(Locale.ROOT, "%-55s %12.2f %12.2f %12.1f %12.1f  %s%n",
+                check.benchmark(), check.baseline().nanosPerOp(), current == null ? Double.NaN : current.nanosPerOp(),
+                check.baseline().bytesPerOp(), current == null ? Double.NaN : current.bytesPerOp(), verdict(check));
+            passed &= check.passed();
+        }
+        OutputHandler.flush();
+        if (!passed) {
+            System.exit(REGRESSION);
+        }
+    }
+
+    private static String describe(PerfGate.Machine machine) {
+        if (machine == null) {
+            return "an unknown machine";
+        }
+        return String.format(Locale.ROOT, "%s %s with %d processors on %s", machine.os(), machine.arch(),
+            machine.processors(), machine.jvm());
+    }
+
+    private static String verdict(PerfGate.Check check) {
+        if (check.current() == null) {
+            return "MISSING";
+        }
+        if (check.passed()) {
+            return "ok";
+        }
+        return ((check.timeOk() ? "" : "TIME ") + (check.bytesOk() ? "" : "ALLOCATION")).strip();
+    }
+}
@@ -0,0 +1,220 @@
+package benchmark;
+
+import display.ConsoleDisplay;
+import display.ImmutableLine;
+import display.Line;
+import display.MutableLine;
+import game.GameEngine;
+import handlers.OutputHandler;
+import hangman.Hangman;
+import hangman.SimpleHangman;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import keyboard.CapitalizedKeyboard;
+import simulation.FrequencyGuessStrategy;
+import word.CapitalizedWord;
+
+/**
+ * Drives a {@link ConsoleDisplay} through full games into a null terminal that only counts bytes and flushes.
+ * <p>
+ * The display is a dashboard of several games stacked on top of each other, each taking the 17 lines
+ * of the console game, so the cost of a guess can be followed from one game to displays of hundreds of lines.
+ * Every round builds a fresh dashboard, renders it and then plays the games in turns, one guess per game
+ * and turn in letter frequency order, flushing after each guess like the input loop does. Only the guesses
+ * are measured. Allocations are read from the thread allocation counter of the JVM.
+ */
+public final class RenderBenchmark {
+    private static final String SEPARATOR = "-".repeat(30);
+    private static final String HOME = "\033[H";
+
+    private final int games;
+    private final RenderMode mode;
+    private final List<String> words;
+
+    /**
+     * How the display follows a guess.
+     */
+    public enum RenderMode {
+        /**
+         * Every changed line notifies the display, which rewrites that line in place: the game's renderer.
+         */
+        UPDATE_LINE,
+        /**
+         * The display ignores line changes and is redrawn from the top after every guess,
+         * the baseline for renderers that compose whole frames.
+         */
+        FULL_REDRAW
+    }
+
+    /**
+     * Constructs a benchmark.
+     *
+     * @param games The number of games on the display.
+     * @param mode  How the display follows a guess.
+     * @param words The words to play, dealt to the games in turn.
+     */
+    public RenderBenchmark(int games, RenderMode mode, List<String> words) {
+        this.games = games;
+        this.mode = mode;
+        this.words = words;
+    }
+
+    /**
+     * Plays warm-up rounds, then measured rounds.
+     *
+     * @param warmupRounds The rounds played before measuring.
+     * @param rounds       The measured rounds.
+     * @return The report of the measured rounds.
+     */
+    public RenderReport run(int warmupRounds, int rounds) {
+        NullTerminal terminal = new NullTerminal();
+        OutputHandler.bind(new PrintStream(terminal, false, StandardCharsets.UTF_8));
+        try {
+            for (int round = 0; round < warmupRounds; round++) {
+                playRound(round, terminal);
+            }
+            terminal.reset();
+            int lines = 0;
+            for (int round = 0; round < rounds; round++) {
+                lines = playRound(warmupRounds + round, terminal);
+            }
+            return new RenderReport(games, lines, mode, terminal.frames, terminal.bytes, terminal.flushes,
+                terminal.allocatedBytes, terminal.elapsedNanos);
+        } finally {
+            OutputHandler.unbind();
+        }
+    }
+
+    private int playRound(int round, NullTerminal terminal) {
+        List<GameEngine> engines = new ArrayList<>(games);
+        List<Line> lines = new ArrayList<>();
+        for (int game = 0; game < games; game++) {
+            GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(),
+                new CapitalizedWord(words.get((round * games + game) % words.size())));
+            engines.add(engine);
+            addGameLines(lines, engine);
+        }
+        ConsoleDisplay display = new ConsoleDisplay(lines);
+        if (mode == RenderMode.FULL_REDRAW) {
+            for (Line line : lines) {
+                if (line instanceof MutableLine<?> mutableLine) {
+                    mutableLine.removeListener(display);
+                }
+            }
+        }
+        for (GameEngine engine : engines) {
+            engine.start(Hangman.MAX_ATTEMPTS);
+        }
+        display.render();
+        OutputHandler.flush();
+
+        terminal.startMeasuring();
+        long frames = 0;
+        for (int turn = 0; turn < FrequencyGuessStrategy.ORDER.length(); turn++) {
+            for (GameEngine engine : engines) {
+                if (engine.status().isOver()) {
+                    continue;
+                }
+                engine.guess(FrequencyGuessStrategy.ORDER.charAt(turn));
+                if (mode == RenderMode.FULL_REDRAW) {
+                    OutputHandler.print(HOME);
+                    display.render();
+                }
+                OutputHandler.flush();
+                ++frames;
+            }
+        }
+        terminal.stopMeasuring(frames);
+        return lines.size();
+    }
+
+    /**
+     * Appends the 17 lines of the console game board of an engine: gallows, keyboard and word between separators.
+     *
+     * @param lines  The lines to append to.
+     * @param engine The engine whose lines are shown.
+     */
+    static void addGameLines(List<Line> lines, GameEngine engine) {
+        lines.add(new ImmutableLine(SEPARATOR));
+        lines.addAll(engine.hangman().hangmanLines());
+        lines.add(new ImmutableLine(SEPARATOR));
+        lines.add(engine.keyboard().keyboardLine1());
+        lines.add(engine.keyboard().keyboardLine2());
+        lines.add(engine.keyboard().keyboardLine3());
+        lines.add(new ImmutableLine(SEPARATOR));
+        lines.add(engine.word().wordLine());
+        lines.add(new ImmutableLine(SEPARATOR));
+        lines.add(new ImmutableLine(""));
+        lines.add(new ImmutableLine(SEPARATOR));
+    }
+
+    /**
+     * Swallows the output, counting the bytes and flushes of the measured part of every round.
+     */
+    private static final class NullTerminal extends OutputStream {
+        private final com.sun.management.ThreadMXBean threads =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+        private boolean measuring;
+        private long frames;
+        private long bytes;
+        private long flushes;
+        private long allocatedBytes;
+        private long elapsedNanos;
+        private long startAllocated;
+        private long startNanos;
+
+        @Override
+        public void write(int b) {
+            if (measuring) {
+                ++bytes;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (measuring) {
+                bytes += len;
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (measuring) {
+                ++flushes;
+            }
+        }
+
+        void reset() {
+            frames = 0;
+            bytes = 0;
+            flushes = 0;
+            allocatedBytes = 0;
+            elapsedNanos = 0;
+        }
+
+        void startMeasuring() {
+            measuring = true;
+            startAllocated = allocatedBytes();
+            startNanos = System.nanoTime();
+        }
+
+        void stopMeasuring(long frames) {
+            long elapsed = System.nanoTime() - startNanos;
+            long allocated = allocatedBytes();
+            measuring = false;
+            this.frames += frames;
+            allocatedBytes = startAllocated < 0 ? -1 : allocatedBytes + allocated - startAllocated;
+            elapsedNanos += elapsed;
+        }
+
+        private long allocatedBytes() {
+            return threads != null && threads.isThreadAllocatedMemorySupported()
+                ? threads.getCurrentThreadAllocatedBytes()
+                : -1;
+        }
+    }
+}
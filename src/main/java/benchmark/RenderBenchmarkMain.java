@@ -0,0 +1,43 @@
+package benchmark;
+
+import handlers.OutputHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.experimental.UtilityClass;
+import util.HangmanWords;
+
+/**
+ * Entry point for render benchmarks.
+ * Usage: {@code RenderBenchmarkMain [rounds] [games...]}.
+ * Without game counts, dashboards of 1, 4, 16 and 32 games are measured, from 17 to 544 lines.
+ */
+@UtilityClass
+public class RenderBenchmarkMain {
+    private static final int DEFAULT_ROUNDS = 200;
+    private static final List<Integer> DEFAULT_GAME_COUNTS = List.of(1, 4, 16, 32);
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        List<Integer> gameCounts = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            gameCounts.add(Integer.parseInt(args[i]));
+        }
+        if (gameCounts.isEmpty()) {
+            gameCounts.addAll(DEFAULT_GAME_COUNTS);
+        }
+        List<String> words = new HangmanWords().getWords(0);
+
+        OutputHandler.printf(Locale.ROOT, "%-12s %6s %6s %12s %12s %12s %10s%n",
+            "Mode", "Games", "Lines", "Frames/s", "Bytes/guess", "Alloc/frame", "Flushes");
+        for (int games : gameCounts) {
+            for (RenderBenchmark.RenderMode mode : RenderBenchmark.RenderMode.values()) {
+                RenderReport report = new RenderBenchmark(games, mode, words).run(rounds / 2, rounds);
+                OutputHandler.printf(Locale.ROOT, "%-12s %6d %6d %12.0f %12.1f %12.1f %10d%n",
+                    mode, report.games(), report.lines(), report.framesPerSecond(), report.bytesPerGuess(),
+                    report.allocatedBytesPerFrame(), report.flushes());
+            }
+        }
+        OutputHandler.flush();
+    }
+}
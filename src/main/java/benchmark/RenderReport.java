@@ -0,0 +1,53 @@
+package benchmark;
+
+import util.Nanos;
+
+/**
+ * The outcome of a {@link RenderBenchmark} run. A frame is the output of one guess, pushed out by one flush.
+ *
+ * @param games          The number of games on the display.
+ * @param lines          The number of display lines.
+ * @param mode           How the display was redrawn.
+ * @param frames         The number of frames, one per guess.
+ * @param bytes          The bytes written by the frames.
+ * @param flushes        The flushes of the frames.
+ * @param allocatedBytes The bytes allocated while playing, -1 if the JVM does not count them.
+ * @param elapsedNanos   The time spent playing.
+ */
+public record RenderReport(
+    int games,
+    int lines,
+    RenderBenchmark.RenderMode mode,
+    long frames,
+    long bytes,
+    long flushes,
+    long allocatedBytes,
+    long elapsedNanos
+) {
+    /**
+     * Returns the number of frames rendered per second.
+     *
+     * @return The throughput.
+     */
+    public double framesPerSecond() {
+        return Nanos.perSecond(frames, elapsedNanos);
+    }
+
+    /**
+     * Returns the bytes written per guess.
+     *
+     * @return The average, 0 if nothing was rendered.
+     */
+    public double bytesPerGuess() {
+        return frames == 0 ? 0 : (double) bytes / frames;
+    }
+
+    /**
+     * Returns the bytes allocated per frame.
+     *
+     * @return The average, -1 if the JVM does not count allocations.
+     */
+    public double allocatedBytesPerFrame() {
+        return allocatedBytes < 0 ? -1 : frames == 0 ? 0 : (double) allocatedBytes / frames;
+    }
+}
@@ -0,0 +1,56 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import word.CapitalizedWord;
+
+/**
+ * {@link CapitalizedWord#pushLetter(char)}: the miss of a letter outside the word, which leaves the word as is,
+ * and the reveal of a whole fresh word, which includes building it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("MagicNumber")
+public class WordBenchmark {
+    @Param({"4", "8", "16"})
+    private int wordLength;
+
+    private String text;
+    private char[] letters;
+    private CapitalizedWord word;
+
+    @Setup
+    public void setUp() {
+        text = Words.word(wordLength, 0);
+        letters = text.toCharArray();
+        word = new CapitalizedWord(text);
+    }
+
+    @Benchmark
+    public byte pushMissingLetter() {
+        return word.pushLetter('Z');
+    }
+
+    @Benchmark
+    public void revealWord(Blackhole blackhole) {
+        CapitalizedWord fresh = new CapitalizedWord(text);
+        for (char letter : letters) {
+            blackhole.consume(fresh.pushLetter(letter));
+        }
+    }
+}
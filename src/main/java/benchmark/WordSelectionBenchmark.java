@@ -0,0 +1,46 @@
+package benchmark;
+
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.HangmanWords;
+
+/**
+ * {@link HangmanWords#getRandomWord(int)} from one category of a given size, with the secure random
+ * the game uses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("MagicNumber")
+public class WordSelectionBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int dictionarySize;
+
+    private HangmanWords hangmanWords;
+
+    @Setup
+    public void setUp() {
+        hangmanWords = new HangmanWords(
+            Map.of(HangmanWords.Category.FRUITS.id(), Words.words(dictionarySize, 8)), new SecureRandom());
+    }
+
+    @Benchmark
+    public String getRandomWord() {
+        return hangmanWords.getRandomWord(HangmanWords.Category.FRUITS.id());
+    }
+}
@@ -0,0 +1,50 @@
+package benchmark;
+
+import game.GameEngine;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic words for benchmarks, so results depend on the parameters rather than on the bundled word lists.
+ */
+final class Words {
+    private Words() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns an uppercase word cycling through the alphabet from a given letter.
+     *
+     * @param length The length of the word.
+     * @param offset The index of the first letter.
+     * @return The word, with distinct letters up to a length of 26.
+     */
+    static String word(int length, int offset) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('A' + (offset + i) % GameEngine.ALPHABET_SIZE);
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Returns distinct words of a given length, the index of a word spelled in base 26.
+     *
+     * @param count  The number of words.
+     * @param length The length of every word, long enough to spell the largest index.
+     * @return The words.
+     */
+    static List<String> words(int count, int length) {
+        List<String> words = new ArrayList<>(count);
+        char[] letters = new char[length];
+        for (int i = 0; i < count; i++) {
+            int rest = i;
+            for (int position = length - 1; position >= 0; position--) {
+                letters[position] = (char) ('A' + rest % GameEngine.ALPHABET_SIZE);
+                rest /= GameEngine.ALPHABET_SIZE;
+            }
+            words.add(new String(letters));
+        }
+        return words;
+    }
+}
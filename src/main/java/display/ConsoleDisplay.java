@@ -4,12 +4,15 @@ import handlers.OutputHandler;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import jfr.GameEvents;
 import lombok.Getter;
+import metrics.Metrics;
 
 @SuppressWarnings("MultipleStringLiterals")
 public class ConsoleDisplay implements LineListener {
     private final List<Line> lines;
     private boolean isRendered;
+    private SpectatorChannel spectators;
 
     @Getter private int shift; // Number of lines shifted
 
@@ -32,7 +35,35 @@ public class ConsoleDisplay implements LineListener {
         for (Line line : lines) {
             OutputHandler.println(line.getContent());
         }
+        GameEvents.linesTouched(lines.size());
         isRendered = true;
+        publishScreen();
+    }
+
+    /**
+     * Returns the channel that streams this display to spectators, creating it on first use.
+     *
+     * @return The spectator channel.
+     */
+    public SpectatorChannel spectators() {
+        if (spectators == null) {
+            spectators = new SpectatorChannel();
+            if (isRendered) {
+                publishScreen();
+            }
+        }
+        return spectators;
+    }
+
+    private void publishScreen() {
+        if (spectators == null) {
+            return;
+        }
+        List<String> contents = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            contents.add(line.getContent());
+        }
+        spectators.publishScreen(contents);
     }
 
     @Override
@@ -61,6 +92,7 @@ public class ConsoleDisplay implements LineListener {
             throw new IllegalArgumentException("Invalid line index.");
         }
 
+        long start = Metrics.start();
         // Calculate the number of lines to move up:
         // lines.size() - index + shift
         int linesBelow = lines.size() - index + shift;
@@ -76,6 +108,12 @@ public class ConsoleDisplay implements LineListener {
 
         // Move the cursor back down to the original position
         OutputHandler.printf("\033[%dB", linesBelow - 1);
+
+        if (spectators != null) {
+            spectators.publishLine(index, newContent);
+        }
+        GameEvents.linesTouched(1);
+        Metrics.stop(Metrics.Timer.UPDATE_LINE, start);
     }
 
     /**
@@ -129,6 +167,8 @@ public class ConsoleDisplay implements LineListener {
             for (Line line : newLines) {
                 OutputHandler.println(line.getContent());
             }
+            GameEvents.linesTouched(newLines.size());
+            publishScreen();
         }
     }
 }
@@ -0,0 +1,57 @@
+package display;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A display update encoded as ANSI bytes, shared read-only by every spectator that receives it.
+ * A keyframe redraws the whole screen; any other frame rewrites a single line in place.
+ */
+public final class Frame {
+    private final long sequence;
+    private final boolean keyframe;
+    private final byte[] bytes;
+
+    Frame(long sequence, boolean keyframe, byte[] bytes) {
+        this.sequence = sequence;
+        this.keyframe = keyframe;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the number of screen updates published up to and including this frame.
+     *
+     * @return The sequence number.
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns whether this frame redraws the whole screen.
+     *
+     * @return {@code true} for a keyframe.
+     */
+    public boolean keyframe() {
+        return keyframe;
+    }
+
+    /**
+     * Returns the encoded size.
+     *
+     * @return The number of bytes.
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    /**
+     * Writes the encoded frame.
+     *
+     * @param out The stream of one spectator.
+     * @throws IOException If writing fails.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,154 @@
+package display;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer, single-consumer ring of timestamped byte frames.
+ * <p>
+ * Frames are stored back to back in one byte array, each behind a 16-byte header
+ * (length, padding, timestamp) and padded to a multiple of 16 bytes, so a header never wraps around.
+ * A frame that does not fit before the end of the array is preceded by a wrap marker and starts over
+ * at index 0. The producer publishes a frame by advancing the tail with a release store after its bytes
+ * are written; the consumer frees space the same way with the head. Neither side ever blocks:
+ * a frame that does not fit into the free space is dropped and counted.
+ */
+final class FrameRing {
+    private static final int ALIGNMENT = 16;
+    private static final int HEADER = 16;
+    private static final int WRAP = -1;
+    private static final int BYTE = 0xFF;
+    private static final int MIN_CAPACITY = HEADER * 4;
+
+    private final byte[] ring;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Constructs a ring.
+     *
+     * @param capacity The size of the ring in bytes, a power of two of at least 64.
+     * @throws IllegalArgumentException If the capacity is not a power of two or too small.
+     */
+    FrameRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1 || capacity < MIN_CAPACITY) {
+            throw new IllegalArgumentException(
+                "Capacity must be a power of two of at least " + MIN_CAPACITY + ": " + capacity);
+        }
+        this.ring = new byte[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Publishes a frame, or drops it if the consumer has not freed enough space. Producer only.
+     *
+     * @param timestampNanos The time of the frame.
+     * @param bytes          The array holding the frame.
+     * @param offset         The index of the first byte.
+     * @param length         The number of bytes.
+     * @return {@code true} if the frame was published, {@code false} if it was dropped.
+     */
+    boolean offer(long timestampNanos, byte[] bytes, int offset, int length) {
+        long at = tail.get();
+        int index = (int) (at & mask);
+        int size = HEADER + align(length);
+        // A frame that would cross the end of the array starts over at index 0
+        int skip = index + size > ring.length ? ring.length - index : 0;
+        if (at + skip + size - head.get() > ring.length) {
+            dropped.lazySet(dropped.get() + 1);
+            return false;
+        }
+        if (skip > 0) {
+            putInt(index, WRAP);
+            index = 0;
+        }
+        putInt(index, length);
+        putLong(index + Long.BYTES, timestampNanos);
+        System.arraycopy(bytes, offset, ring, index + HEADER, length);
+        tail.lazySet(at + skip + size);
+        return true;
+    }
+
+    /**
+     * Passes all published frames to the sink and frees their space. Consumer only.
+     *
+     * @param sink Receives the frames in order.
+     * @return The number of frames drained.
+     */
+    int drain(FrameSink sink) {
+        long at = head.get();
+        long end = tail.get();
+        int frames = 0;
+        while (at < end) {
+            int index = (int) (at & mask);
+            int length = getInt(index);
+            if (length == WRAP) {
+                at += ring.length - index;
+                continue;
+            }
+            sink.accept(getLong(index + Long.BYTES), ring, index + HEADER, length);
+            at += HEADER + align(length);
+            ++frames;
+        }
+        head.lazySet(at);
+        return frames;
+    }
+
+    /**
+     * Returns the number of frames dropped because the ring was full.
+     *
+     * @return The dropped frames.
+     */
+    long dropped() {
+        return dropped.get();
+    }
+
+    private static int align(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private void putInt(int index, int value) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            ring[index + i] = (byte) (value >>> (i * Byte.SIZE));
+        }
+    }
+
+    private void putLong(int index, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            ring[index + i] = (byte) (value >>> (i * Byte.SIZE));
+        }
+    }
+
+    private int getInt(int index) {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value |= (ring[index + i] & BYTE) << (i * Byte.SIZE);
+        }
+        return value;
+    }
+
+    private long getLong(int index) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value |= (long) (ring[index + i] & BYTE) << (i * Byte.SIZE);
+        }
+        return value;
+    }
+
+    /**
+     * A consumer of drained frames.
+     */
+    @FunctionalInterface
+    interface FrameSink {
+        /**
+         * Receives a frame; the bytes are only valid during the call.
+         *
+         * @param timestampNanos The time the frame was published.
+         * @param bytes          The array holding the frame.
+         * @param offset         The index of the first byte.
+         * @param length         The number of bytes.
+         */
+        void accept(long timestampNanos, byte[] bytes, int offset, int length);
+    }
+}
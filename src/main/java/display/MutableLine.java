@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import lombok.Getter;
+import metrics.Metrics;
 
 /**
  * Represents a mutable line with content that can be modified.
@@ -96,9 +97,11 @@ public class MutableLine<T> implements Line {
      * Notifies all registered listeners about a content change.
      */
     private void notifyListeners() {
+        long start = Metrics.start();
         for (LineListener listener : listeners) {
             listener.onLineChanged(this);
         }
+        Metrics.stop(Metrics.Timer.LINE_NOTIFY, start);
     }
 
     /**
@@ -0,0 +1,209 @@
+package display;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams the updates of a {@link ConsoleDisplay} to any number of spectators.
+ * Every update is encoded to ANSI bytes once, and the resulting {@link Frame} is handed to all viewers
+ * by reference. Frames position the cursor absolutely, so they do not depend on what the player's
+ * terminal shows below the display.
+ * A viewer holds at most one pending frame. A viewer that has not taken its previous frame when the
+ * next one arrives is marked out of sync and receives a single keyframe of the current screen instead
+ * of the frames it missed, so a slow viewer never holds back the game or the other viewers.
+ * Updates must be published from a single thread, the one playing the game.
+ */
+public final class SpectatorChannel {
+    // Marks a viewer that missed frames; never written to a stream
+    private static final Frame RESYNC = new Frame(-1, true, new byte[0]);
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
+    private static final String CRLF = "\r\n";
+
+    private final List<String> screen = new ArrayList<>();
+    private final List<Viewer> viewers = new CopyOnWriteArrayList<>();
+    private final LongAdder encodedFrames = new LongAdder();
+    private long sequence;
+    private Frame keyframe;
+
+    /**
+     * Publishes a change of a single line.
+     *
+     * @param index   The index of the line on the display.
+     * @param content The new content.
+     */
+    public synchronized void publishLine(int index, String content) {
+        while (screen.size() <= index) {
+            screen.add("");
+        }
+        screen.set(index, content);
+        offerAll(encode(++sequence, false, "\033[" + (index + 1) + ";1H\033[2K" + content));
+    }
+
+    /**
+     * Publishes a complete redraw, after the display was rendered or lines were added.
+     *
+     * @param contents The content of every line.
+     */
+    public synchronized void publishScreen(List<String> contents) {
+        screen.clear();
+        screen.addAll(contents);
+        ++sequence;
+        offerAll(keyframe());
+    }
+
+    /**
+     * Returns a keyframe of the current screen, encoded at most once per screen state.
+     *
+     * @return The keyframe.
+     */
+    public synchronized Frame keyframe() {
+        if (keyframe == null || keyframe.sequence() != sequence) {
+            keyframe = encode(sequence, true, CLEAR_SCREEN + String.join(CRLF, screen) + CRLF);
+        }
+        return keyframe;
+    }
+
+    private Frame encode(long frameSequence, boolean isKeyframe, String ansi) {
+        encodedFrames.increment();
+        return new Frame(frameSequence, isKeyframe, ansi.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void offerAll(Frame frame) {
+        for (Viewer viewer : viewers) {
+            viewer.offer(frame);
+        }
+    }
+
+    /**
+     * Registers a viewer that pulls frames with {@link Viewer#take()}.
+     * Its first frame is a keyframe of the current screen.
+     *
+     * @return The viewer.
+     */
+    public Viewer subscribe() {
+        Viewer viewer = new Viewer(this);
+        viewers.add(viewer);
+        return viewer;
+    }
+
+    /**
+     * Registers a viewer and streams its frames to the given output on a virtual thread
+     * until the viewer is closed or writing fails.
+     *
+     * @param out The stream of the spectator.
+     * @return The viewer.
+     */
+    public Viewer attach(OutputStream out) {
+        Viewer viewer = subscribe();
+        viewer.pump = Thread.ofVirtual().name("spectator").start(() -> {
+            try (viewer) {
+                while (true) {
+                    viewer.take().writeTo(out);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // The spectator went away
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return viewer;
+    }
+
+    /**
+     * Returns the number of registered viewers.
+     *
+     * @return The viewer count.
+     */
+    public int viewerCount() {
+        return viewers.size();
+    }
+
+    /**
+     * Returns the number of frames encoded so far, which does not grow with the number of viewers.
+     *
+     * @return The encoded frame count.
+     */
+    public long encodedFrames() {
+        return encodedFrames.sum();
+    }
+
+    /**
+     * A spectator's view of the channel.
+     */
+    public static final class Viewer implements AutoCloseable {
+        private final SpectatorChannel channel;
+        private final AtomicReference<Frame> pending = new AtomicReference<>(RESYNC);
+        private final Semaphore signal = new Semaphore(1);
+        private final LongAdder droppedFrames = new LongAdder();
+        private long lastSequence;
+        private volatile Thread pump;
+
+        private Viewer(SpectatorChannel channel) {
+            this.channel = channel;
+        }
+
+        private void offer(Frame frame) {
+            Frame previous = pending.getAndAccumulate(frame,
+                (prev, next) -> prev == null || next.keyframe() ? next : RESYNC);
+            if (previous == null) {
+                signal.release();
+            } else {
+                droppedFrames.increment();
+            }
+        }
+
+        /**
+         * Waits for the next frame.
+         * Frames that were replaced before they were taken are merged into one keyframe.
+         *
+         * @return The frame.
+         * @throws InterruptedException If interrupted while waiting.
+         */
+        public Frame take() throws InterruptedException {
+            while (true) {
+                Frame frame = pending.getAndSet(null);
+                if (frame == null) {
+                    signal.acquire();
+                    continue;
+                }
+                if (frame == RESYNC) {
+                    frame = channel.keyframe();
+                }
+                // A line change may still arrive after the keyframe that already contains it
+                if (frame.sequence() > lastSequence) {
+                    lastSequence = frame.sequence();
+                    return frame;
+                }
+            }
+        }
+
+        /**
+         * Returns the number of frames this viewer skipped because it was too slow to take them.
+         *
+         * @return The dropped frame count.
+         */
+        public long droppedFrames() {
+            return droppedFrames.sum();
+        }
+
+        /**
+         * Stops receiving frames.
+         */
+        @Override
+        public void close() {
+            channel.viewers.remove(this);
+            Thread thread = pump;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
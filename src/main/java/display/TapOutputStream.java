@@ -0,0 +1,54 @@
+package display;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Writes through to a target stream and collects a copy of the bytes, which is published
+ * to a {@link FrameRing} as one frame on every flush. Collecting and publishing only copy memory,
+ * so the tap adds no I/O to the writer. Not thread-safe; the print stream around it serializes writes.
+ */
+final class TapOutputStream extends OutputStream {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final OutputStream target;
+    private final FrameRing ring;
+    private byte[] frame = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    TapOutputStream(OutputStream target, FrameRing ring) {
+        this.target = target;
+        this.ring = ring;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        target.write(b);
+        ensureCapacity(1);
+        frame[length++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        target.write(b, off, len);
+        ensureCapacity(len);
+        System.arraycopy(b, off, frame, length, len);
+        length += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (length > 0) {
+            ring.offer(System.nanoTime(), frame, 0, length);
+            length = 0;
+        }
+        target.flush();
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > frame.length) {
+            frame = Arrays.copyOf(frame, Math.max(frame.length * 2, length + extra));
+        }
+    }
+}
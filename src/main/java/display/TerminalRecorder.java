@@ -0,0 +1,160 @@
+package display;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import handlers.OutputHandler;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+import util.Nanos;
+
+/**
+ * Records the console output of a game into an asciicast v2 file that {@code asciinema play} can show.
+ * <p>
+ * The recorder taps the shared print stream of {@link OutputHandler}: every byte still goes to the
+ * terminal, and a copy is published as one timestamped frame per flush into a {@link FrameRing}.
+ * A background thread drains the ring and writes the frames as asciicast output events, so the game
+ * never waits for the file. If the writer falls behind and the ring fills up, new frames are dropped
+ * and counted instead. The tapped stream does not flush on its own; {@link ConsoleDisplay} and the input
+ * prompt flush after every frame.
+ */
+public final class TerminalRecorder implements AutoCloseable {
+    private static final int DEFAULT_RING_CAPACITY = 1024 * 1024;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final double MICROS_PER_SECOND = 1_000_000.0;
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final int ASCIICAST_VERSION = 2;
+
+    private final FrameRing ring;
+    private final PrintStream tapped;
+    private final PrintStream previous;
+    private final JsonGenerator generator;
+    private final long startNanos = System.nanoTime();
+    private final Thread writer;
+    private volatile boolean running = true;
+    private long writtenFrames;
+    private IOException failure;
+
+    /**
+     * Starts recording the shared output into a file with a 1 MiB ring.
+     *
+     * @param file   The asciicast file, replaced if it exists.
+     * @param width  The terminal width to declare, in columns.
+     * @param height The terminal height to declare, in rows.
+     * @throws UncheckedIOException If the file cannot be created.
+     */
+    public TerminalRecorder(Path file, int width, int height) {
+        this(file, width, height, DEFAULT_RING_CAPACITY);
+    }
+
+    /**
+     * Starts recording the shared output into a file.
+     *
+     * @param file         The asciicast file, replaced if it exists.
+     * @param width        The terminal width to declare, in columns.
+     * @param height       The terminal height to declare, in rows.
+     * @param ringCapacity The ring size in bytes, a power of two; frames beyond it are dropped.
+     * @throws UncheckedIOException If the file cannot be created.
+     */
+    public TerminalRecorder(Path file, int width, int height, int ringCapacity) {
+        this.ring = new FrameRing(ringCapacity);
+        try {
+            this.generator = new JsonFactory().createGenerator(Files.newOutputStream(file));
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            generator.writeStartObject();
+            generator.writeNumberField("version", ASCIICAST_VERSION);
+            generator.writeNumberField("width", width);
+            generator.writeNumberField("height", height);
+            generator.writeNumberField("timestamp", System.currentTimeMillis() / MILLIS_PER_SECOND);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the recording: " + file, e);
+        }
+        this.previous = OutputHandler.printStream();
+        this.tapped = new PrintStream(new TapOutputStream(previous, ring), false, StandardCharsets.UTF_8);
+        OutputHandler.printStream(tapped);
+        this.writer = Thread.ofPlatform().daemon().name("terminal-recorder").start(this::writeLoop);
+    }
+
+    private void writeLoop() {
+        try {
+            while (running) {
+                if (ring.drain(this::writeEvent) == 0) {
+                    generator.flush();
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            ring.drain(this::writeEvent);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            failure = e;
+        } catch (UncheckedIOException e) {
+            failure = e.getCause();
+        } finally {
+            try {
+                generator.close();
+            } catch (IOException e) {
+                failure = failure != null ? failure : e;
+            }
+        }
+    }
+
+    private void writeEvent(long timestampNanos, byte[] bytes, int offset, int length) {
+        double seconds = Math.round(Nanos.toSeconds(timestampNanos - startNanos) * MICROS_PER_SECOND)
+            / MICROS_PER_SECOND;
+        try {
+            generator.writeStartArray();
+            generator.writeNumber(seconds);
+            generator.writeString("o");
+            generator.writeString(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ++writtenFrames;
+    }
+
+    /**
+     * Returns the number of frames dropped because the writer fell behind.
+     *
+     * @return The dropped frames.
+     */
+    public long droppedFrames() {
+        return ring.dropped();
+    }
+
+    /**
+     * Stops tapping the output, writes the remaining frames and closes the file.
+     *
+     * @return The number of frames written to the file.
+     * @throws UncheckedIOException If writing the file failed at any point.
+     */
+    public long stop() {
+        tapped.flush();
+        if (OutputHandler.printStream() == tapped) {
+            OutputHandler.printStream(previous);
+        }
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Cannot write the recording", failure);
+        }
+        return writtenFrames;
+    }
+
+    @Override
+    public void close() {
+        if (running) {
+            stop();
+        }
+    }
+}
@@ -2,54 +2,141 @@ package game;
 
 import display.ConsoleDisplay;
 import display.ImmutableLine;
+import display.MutableLine;
+import display.SpectatorChannel;
+import handlers.InputLogic;
 import handlers.OutputHandler;
 import handlers.UserInputHandler;
 import hangman.Hangman;
+import hint.HintEngine;
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Locale;
 import keyboard.Keyboard;
+import lombok.Getter;
+import util.WordDictionary;
 import word.Word;
 
 public class Game {
     private static final String LINE_SEPARATOR = "--------------------";
+    private static final char HINT_REQUEST = '?';
+    private static final int CASE_BIT = 0x20;
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
     private final Hangman hangman;
     private final Keyboard keyboard;
     private final Word word;
-    private final Predicate<String> logic;
+    @Getter private final GameEngine engine;
+    private final InputLogic logic;
     private final ConsoleDisplay display = new ConsoleDisplay(List.of());
-    private final UserInputHandler inputHandler;
+    @Getter private final UserInputHandler inputHandler;
+    private final MutableLine<String> messageLine = new MutableLine<>(List.of(""));
+    private HintEngine hintEngine;
+    private int hintCategoryId;
+    private boolean keystrokeInput = false;
     private boolean gameBuilt = false;
 
     public Game(Hangman hangman, Keyboard keyboard, Word word) {
         this.hangman = hangman;
         this.keyboard = keyboard;
         this.word = word;
+        this.engine = new GameEngine(hangman, keyboard, word);
 
-        this.logic = (String input) -> {
-            if (input == null || !input.matches("^[A-Za-z]$")) {
-                return true;
-            }
-            char letter = input.toUpperCase().charAt(0);
-            byte pushStatus = word.pushLetter(letter);
-            if (pushStatus == 0) {
-                return false; // Terminates the game if the word is guessed
-            }
-
-            if (keyboard.crossOutLetter(Character.toString(letter)) && pushStatus == -1) {
-                return hangman.nextStage(); // Terminates the game if the word is not guessed
-            }
-
-            return true;
-        };
+        this.logic = (CharSequence input) -> input.length() == 1 ? guessLetter(input.charAt(0)) : guessWord(input);
 
         inputHandler = new UserInputHandler(
             logic,
-            "Enter letter: ",
+            "Enter letter or word: ",
             "exit"
         );
     }
 
+    private boolean guessLetter(char c) {
+        if (hintEngine != null && c == HINT_REQUEST) {
+            messageLine.setContent(List.of("Hint: try " + engine.hint(hintEngine, hintCategoryId)));
+            return true;
+        }
+        if (!isLatinLetter(c)) {
+            return true;
+        }
+        // Terminates the game once the word is guessed or the hangman is complete
+        return !engine.guess(toUpperCase(c)).isTerminal();
+    }
+
+    private boolean guessWord(CharSequence input) {
+        if (input.isEmpty() || !input.chars().allMatch(Game::isLatinLetter)) {
+            return true;
+        }
+        String guess = input.toString().toUpperCase(Locale.ROOT);
+        GuessOutcome outcome = engine.guessWord(guess);
+        if (outcome == GuessOutcome.REJECTED) {
+            messageLine.setContent(List.of("Not in the dictionary: " + guess));
+        }
+        return !outcome.isTerminal();
+    }
+
+    private static boolean isLatinLetter(int c) {
+        return c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z';
+    }
+
+    private static char toUpperCase(char letter) {
+        return (char) (letter & ~CASE_BIT);
+    }
+
+    /**
+     * Enables hint requests, answered from the tables of the given category.
+     * Must be called before {@link #build()}.
+     *
+     * @param hints      The hint engine.
+     * @param categoryId The category the word was taken from, or 0 if unknown.
+     */
+    public void enableHints(HintEngine hints, int categoryId) {
+        if (gameBuilt) {
+            throw new IllegalStateException("Hints must be enabled before the game is built!");
+        }
+        this.hintEngine = hints;
+        this.hintCategoryId = categoryId;
+        messageLine.setContent(List.of("Type " + HINT_REQUEST + " for a hint"));
+    }
+
+    /**
+     * Returns whether hint requests are answered.
+     *
+     * @return {@code true} if hints were enabled.
+     */
+    public boolean hintsEnabled() {
+        return hintEngine != null;
+    }
+
+    /**
+     * Rejects full-word guesses that are not in the dictionary without costing an attempt.
+     * Must be called before {@link #build()}.
+     *
+     * @param dictionary The accepted words.
+     */
+    public void enableDictionaryCheck(WordDictionary dictionary) {
+        if (gameBuilt) {
+            throw new IllegalStateException("Dictionary check must be enabled before the game is built!");
+        }
+        engine.dictionary(dictionary);
+    }
+
+    /**
+     * Reads single keystrokes instead of lines when stdin is a terminal.
+     * Every key is a guess, so full-word guesses are only available in line mode.
+     */
+    public void enableKeystrokeInput() {
+        this.keystrokeInput = true;
+    }
+
+    /**
+     * Returns the channel that streams this game's display to spectators.
+     *
+     * @return The spectator channel.
+     */
+    public SpectatorChannel spectators() {
+        return display.spectators();
+    }
+
     public void build() {
         display.addLines(List.of(
             new ImmutableLine(LINE_SEPARATOR)
@@ -66,6 +153,10 @@ public class Game {
                 new ImmutableLine(LINE_SEPARATOR)
             )
         );
+        if (hintEngine != null || engine.dictionary() != null) {
+            // Keep a static line below, the display cannot redraw its last line in place
+            display.addLines(List.of(messageLine, new ImmutableLine(LINE_SEPARATOR)));
+        }
         gameBuilt = true;
     }
 
@@ -74,11 +165,36 @@ public class Game {
             throw new IllegalStateException("Attempting to start a game that was not built!");
         }
 
-        OutputHandler.print("\033[H\033[2J");
+        OutputHandler.print(CLEAR_SCREEN);
         OutputHandler.flush();
 
         display.render();
-        hangman.setAttempts(attempts);
-        inputHandler.run();
+        engine.start(attempts);
+        runInput();
+    }
+
+    /**
+     * Continues a round that was restored with {@link GameEngine#resume(int, int, int)} before the game was built.
+     */
+    public void resume() {
+        if (!gameBuilt) {
+            throw new IllegalStateException("Attempting to resume a game that was not built!");
+        }
+
+        OutputHandler.print(CLEAR_SCREEN);
+        OutputHandler.flush();
+
+        display.render();
+        if (!engine.status().isOver()) {
+            runInput();
+        }
+    }
+
+    private void runInput() {
+        if (keystrokeInput) {
+            inputHandler.runInteractive();
+        } else {
+            inputHandler.run();
+        }
     }
 }
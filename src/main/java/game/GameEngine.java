@@ -0,0 +1,255 @@
+package game;
+
+import hangman.Hangman;
+import hint.HintEngine;
+import jfr.GuessEvent;
+import keyboard.Keyboard;
+import lombok.Getter;
+import lombok.Setter;
+import util.WordDictionary;
+import word.Word;
+
+/**
+ * Headless hangman rules.
+ * Applies guesses to the word, keyboard and hangman and keeps track of the round state
+ * without reading from {@code System.in} or rendering anything, so the same rules can drive
+ * the console game as well as simulations and bots.
+ */
+@Getter
+public class GameEngine {
+    /**
+     * Placeholder used in {@link #pattern(char[])} for letters that are not revealed yet.
+     */
+    public static final char HIDDEN = '_';
+    /**
+     * Letter reported to the {@link GuessListener} for a wrong full-word guess.
+     */
+    public static final char WRONG_WORD = '*';
+    /**
+     * Number of letters in the latin alphabet, the only letters a guess may use.
+     */
+    public static final int ALPHABET_SIZE = 26;
+    private static final String GAME_OVER = "The game is already over.";
+    private static final String[] LETTERS = new String[ALPHABET_SIZE];
+
+    static {
+        for (char letter = 'A'; letter <= 'Z'; letter++) {
+            LETTERS[letter - 'A'] = String.valueOf(letter);
+        }
+    }
+
+    private final Hangman hangman;
+    private final Keyboard keyboard;
+    private final Word word;
+    private int attempts;
+    private int misses;
+    private int guessedMask;
+    private GameStatus status = GameStatus.IN_PROGRESS;
+    /**
+     * Optional dictionary; when set, full-word guesses outside of it are rejected without a penalty.
+     */
+    @Setter private WordDictionary dictionary;
+    /**
+     * Optional listener notified of every applied guess, e.g. to journal the round.
+     */
+    @Setter private GuessListener guessListener;
+
+    public GameEngine(Hangman hangman, Keyboard keyboard, Word word) {
+        this.hangman = hangman;
+        this.keyboard = keyboard;
+        this.word = word;
+    }
+
+    /**
+     * Sets the number of allowed misses and prepares the hangman accordingly.
+     *
+     * @param attemptCount The number of misses allowed before the game is lost.
+     * @throws IllegalArgumentException If the count is not between 1 and {@link Hangman#MAX_ATTEMPTS},
+     *                                  or the hangman does not support it.
+     */
+    public void start(int attemptCount) {
+        if (attemptCount < 1 || attemptCount > Hangman.MAX_ATTEMPTS || !hangman.setAttempts(attemptCount)) {
+            throw new IllegalArgumentException("Unsupported attempt count: " + attemptCount);
+        }
+        this.attempts = attemptCount;
+    }
+
+    /**
+     * Applies a letter guess.
+     *
+     * @param letter An uppercase latin letter.
+     * @return The outcome of the guess.
+     * @throws IllegalArgumentException If the letter is not in the range {@code A-Z}.
+     * @throws IllegalStateException    If the game is already over.
+     */
+    public GuessOutcome guess(char letter) {
+        if (letter < 'A' || letter > 'Z') {
+            throw new IllegalArgumentException("Not an uppercase latin letter: " + letter);
+        }
+        if (status.isOver()) {
+            throw new IllegalStateException(GAME_OVER);
+        }
+        GuessEvent event = new GuessEvent();
+        event.begin();
+        guessedMask |= 1 << (letter - 'A');
+
+        byte pushStatus = word.pushLetter(letter);
+        // Crossed out on every guess, the winning one included, so the keyboard only depends on the guessed letters
+        boolean crossedOut = keyboard.crossOutLetter(LETTERS[letter - 'A']);
+        if (pushStatus == 0) {
+            status = GameStatus.WON;
+            return notify(event, letter, GuessOutcome.WIN);
+        }
+
+        if (crossedOut && pushStatus == -1) {
+            return notify(event, letter, miss());
+        }
+
+        return notify(event, letter, pushStatus == 1 ? GuessOutcome.HIT : GuessOutcome.REPEAT);
+    }
+
+    /**
+     * Applies a full-word guess.
+     * A correct guess reveals the remaining letters and wins the game, a wrong one costs an attempt.
+     * If a dictionary is set, words outside of it are rejected without a penalty.
+     *
+     * @param guess An uppercase word.
+     * @return The outcome of the guess.
+     * @throws IllegalArgumentException If the guess contains anything but uppercase latin letters.
+     * @throws IllegalStateException    If the game is already over.
+     */
+    public GuessOutcome guessWord(String guess) {
+        if (status.isOver()) {
+            throw new IllegalStateException(GAME_OVER);
+        }
+        if (guess.isEmpty() || !guess.chars().allMatch(c -> c >= 'A' && c <= 'Z')) {
+            throw new IllegalArgumentException("Not an uppercase latin word: " + guess);
+        }
+        if (dictionary != null && !dictionary.contains(guess)) {
+            GuessEvent event = new GuessEvent();
+            event.begin();
+            event.finish(WRONG_WORD, GuessOutcome.REJECTED, misses);
+            return GuessOutcome.REJECTED;
+        }
+
+        char[] letters = guess.toCharArray();
+        if (word.pushWord(letters)) {
+            GuessOutcome outcome = GuessOutcome.WIN;
+            for (char letter : letters) {
+                if (!isGuessed(letter)) {
+                    outcome = guess(letter);
+                }
+            }
+            return outcome;
+        }
+
+        GuessEvent event = new GuessEvent();
+        event.begin();
+        return notify(event, WRONG_WORD, miss());
+    }
+
+    /**
+     * Restores a round from its saved state: the letters guessed so far and the number of misses,
+     * which may exceed the missed letters by the number of wrong full-word guesses.
+     * The hangman, keyboard and word are set to their final state directly, without replaying the guesses.
+     * Must be called instead of {@link #start(int)}, on a fixed word.
+     *
+     * @param attemptCount The number of misses allowed before the game is lost.
+     * @param mask         The guessed letters, bit {@code i} standing for letter {@code 'A' + i}.
+     * @param missCount    The number of misses.
+     * @throws IllegalArgumentException If the hangman does not support the given attempt and miss counts.
+     */
+    public void resume(int attemptCount, int mask, int missCount) {
+        if (!hangman.restore(attemptCount, missCount)) {
+            throw new IllegalArgumentException("Unsupported attempt or miss count: " + attemptCount + ", " + missCount);
+        }
+        keyboard.crossOutLetters(mask);
+        word.revealLetters(mask);
+        this.attempts = attemptCount;
+        this.misses = missCount;
+        this.guessedMask = mask;
+
+        int wordLetters = 0;
+        for (char letter : word.word()) {
+            wordLetters |= 1 << (letter - 'A');
+        }
+        if (missCount >= attemptCount) {
+            status = GameStatus.LOST;
+        } else if ((wordLetters & ~mask) == 0) {
+            status = GameStatus.WON;
+        } else {
+            status = GameStatus.IN_PROGRESS;
+        }
+    }
+
+    private GuessOutcome notify(GuessEvent event, char letter, GuessOutcome outcome) {
+        event.finish(letter, outcome, misses);
+        if (guessListener != null) {
+            guessListener.guessed(letter, outcome);
+        }
+        return outcome;
+    }
+
+    private GuessOutcome miss() {
+        ++misses;
+        if (!hangman.nextStage()) {
+            status = GameStatus.LOST;
+            return GuessOutcome.LOSS;
+        }
+        return GuessOutcome.MISS;
+    }
+
+    /**
+     * Checks whether a letter has already been guessed.
+     *
+     * @param letter An uppercase latin letter.
+     * @return {@code true} if the letter was guessed before.
+     */
+    public boolean isGuessed(char letter) {
+        return letter >= 'A' && letter <= 'Z' && (guessedMask & (1 << (letter - 'A'))) != 0;
+    }
+
+    /**
+     * Returns the number of misses left before the game is lost.
+     *
+     * @return The remaining attempts.
+     */
+    public int remainingAttempts() {
+        return attempts - misses;
+    }
+
+    /**
+     * Writes the currently revealed pattern of the word into the given buffer.
+     * Hidden letters are written as {@link #HIDDEN}.
+     *
+     * @param into A buffer at least as long as the word.
+     * @return The same buffer, for chaining.
+     */
+    public char[] pattern(char[] into) {
+        char[] letters = word.word();
+        for (int i = 0; i < letters.length; i++) {
+            into[i] = isGuessed(letters[i]) ? letters[i] : HIDDEN;
+        }
+        return into;
+    }
+
+    /**
+     * Asks the hint engine for the most informative letter in the current reveal state.
+     *
+     * @param hints      The hint engine.
+     * @param categoryId The category the word was taken from, or 0 if unknown.
+     * @return An uppercase latin letter that has not been guessed yet.
+     */
+    public char hint(HintEngine hints, int categoryId) {
+        return hints.hint(categoryId, pattern(), guessedMask);
+    }
+
+    /**
+     * Returns the currently revealed pattern of the word.
+     *
+     * @return A new array with hidden letters written as {@link #HIDDEN}.
+     */
+    public char[] pattern() {
+        return pattern(new char[word.word().length]);
+    }
+}
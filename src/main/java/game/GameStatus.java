@@ -0,0 +1,19 @@
+package game;
+
+/**
+ * Lifecycle of a single hangman round.
+ */
+public enum GameStatus {
+    IN_PROGRESS,
+    WON,
+    LOST;
+
+    /**
+     * Checks whether the round has finished.
+     *
+     * @return {@code true} if no more guesses will be accepted.
+     */
+    public boolean isOver() {
+        return this != IN_PROGRESS;
+    }
+}
@@ -0,0 +1,30 @@
+package game;
+
+/**
+ * Receives the guesses applied by a {@link GameEngine}, in order, on the thread that applied them.
+ * A correct full-word guess is reported as the guesses of its hidden letters,
+ * a wrong one as {@link GameEngine#WRONG_WORD}; guesses rejected by the dictionary are not reported.
+ */
+@FunctionalInterface
+public interface GuessListener {
+    /**
+     * Called after a guess has been applied.
+     *
+     * @param letter  The guessed uppercase letter, or {@link GameEngine#WRONG_WORD}.
+     * @param outcome The outcome of the guess.
+     */
+    void guessed(char letter, GuessOutcome outcome);
+
+    /**
+     * Returns a listener that notifies this listener and then another one.
+     *
+     * @param after The listener to notify second.
+     * @return The combined listener.
+     */
+    default GuessListener andThen(GuessListener after) {
+        return (letter, outcome) -> {
+            guessed(letter, outcome);
+            after.guessed(letter, outcome);
+        };
+    }
+}
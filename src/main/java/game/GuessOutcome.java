@@ -0,0 +1,28 @@
+package game;
+
+/**
+ * Result of applying a single letter or full-word guess to a {@link GameEngine}.
+ */
+public enum GuessOutcome {
+    /** The letter is in the word, but the word is not revealed yet. */
+    HIT,
+    /** The letter is not in the word, or the guessed word is wrong, and the hangman advanced one stage. */
+    MISS,
+    /** The letter was already guessed, nothing changed. */
+    REPEAT,
+    /** The guessed word is not in the dictionary, nothing changed. */
+    REJECTED,
+    /** The guess revealed the last hidden part of the word. */
+    WIN,
+    /** The guess was a miss on the last available attempt. */
+    LOSS;
+
+    /**
+     * Checks whether this outcome finishes the round.
+     *
+     * @return {@code true} for {@link #WIN} and {@link #LOSS}.
+     */
+    public boolean isTerminal() {
+        return this == WIN || this == LOSS;
+    }
+}
@@ -0,0 +1,76 @@
+package handlers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A reusable line of raw input bytes exposed as a {@link CharSequence}.
+ * {@link #charAt(int)} maps every byte to a char one to one, which is exact for ASCII input;
+ * {@link #toString()} decodes the bytes as UTF-8.
+ * The instance is overwritten by the next read, so it must not be kept beyond the current input.
+ */
+public final class InputLine implements CharSequence {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int BYTE_MASK = 0xFF;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    void clear() {
+        length = 0;
+    }
+
+    void append(byte b) {
+        if (length == bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        bytes[length++] = b;
+    }
+
+    void stripCarriageReturn() {
+        if (length > 0 && bytes[length - 1] == '\r') {
+            --length;
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+        }
+        return (char) (bytes[index] & BYTE_MASK);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    /**
+     * Compares the line with an ASCII string without allocating.
+     *
+     * @param other The string to compare with.
+     * @return {@code true} if the line consists of exactly the same characters.
+     */
+    public boolean contentEquals(String other) {
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if ((bytes[i] & BYTE_MASK) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
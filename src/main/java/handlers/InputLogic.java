@@ -0,0 +1,16 @@
+package handlers;
+
+/**
+ * Processes a single piece of user input.
+ * The input is backed by a reused buffer and is only valid during the call.
+ */
+@FunctionalInterface
+public interface InputLogic {
+    /**
+     * Processes the input.
+     *
+     * @param input A line in line mode, or a single character in keystroke mode.
+     * @return {@code true} to continue reading input, {@code false} to stop.
+     */
+    boolean accept(CharSequence input);
+}
@@ -0,0 +1,162 @@
+package handlers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.LockSupport;
+import jfr.InputWaitEvent;
+import metrics.Metrics;
+
+/**
+ * Buffered byte-level reader for lines and single keystrokes.
+ * All console input goes through the {@link #stdin()} instance, so the setup prompts and the game
+ * never buffer the same stream twice. Lines are returned in a reused {@link InputLine}, which
+ * keeps reading a guess free of allocations.
+ */
+public final class InputReader {
+    // Matches the BufferedInputStream default, so reads from System.in bypass its own buffer
+    private static final int BUFFER_SIZE = 8192;
+    private static final long POLL_NANOS = 1_000_000;
+    private static final int BYTE = 0xFF;
+    private static final ThreadLocal<InputReader> SESSION_READER = new ThreadLocal<>();
+    private static InputReader shared;
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private final InputLine line = new InputLine();
+    private int position;
+    private int limit;
+
+    public InputReader(InputStream in) {
+        this(in, BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a reader with a buffer of the given size.
+     * A small buffer bounds the memory of readers that serve one of many network sessions.
+     *
+     * @param in         The stream to read.
+     * @param bufferSize The buffer size in bytes.
+     */
+    public InputReader(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Returns the reader bound to the current thread, or the reader shared by all consumers of {@code System.in}.
+     * A new shared reader is created if {@code System.in} has been replaced since the last call.
+     *
+     * @return The reader of the current thread.
+     */
+    public static InputReader stdin() {
+        InputReader session = SESSION_READER.get();
+        return session != null ? session : shared();
+    }
+
+    /**
+     * Makes {@link #stdin()} return the given reader on the current thread until {@link #unbind()} is called.
+     *
+     * @param reader The reader of the session served by the current thread.
+     */
+    public static void bind(InputReader reader) {
+        SESSION_READER.set(reader);
+    }
+
+    /**
+     * Makes {@link #stdin()} return the shared reader on the current thread again.
+     */
+    public static void unbind() {
+        SESSION_READER.remove();
+    }
+
+    /**
+     * Checks whether a reader is bound to the current thread, i.e. whether {@link #stdin()} is not the console.
+     *
+     * @return {@code true} if {@link #bind(InputReader)} is in effect.
+     */
+    public static boolean isBound() {
+        return SESSION_READER.get() != null;
+    }
+
+    private static synchronized InputReader shared() {
+        if (shared == null || shared.in != System.in) {
+            shared = new InputReader(System.in);
+        }
+        return shared;
+    }
+
+    /**
+     * Reads a single byte, blocking only if nothing is buffered.
+     *
+     * @return The byte as an unsigned value, or -1 at the end of the stream.
+     * @throws IOException If reading fails.
+     */
+    public int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & BYTE;
+    }
+
+    /**
+     * Waits up to the given time for input that can be read without blocking.
+     * Tells a key that sends a single byte from the first byte of a longer sequence, which arrives with
+     * the rest of it. Polls the stream, so the wait is not meant to be long.
+     *
+     * @param timeoutNanos The longest time to wait.
+     * @return {@code true} if the next {@link #read()} does not block.
+     * @throws IOException If checking the stream fails.
+     */
+    public boolean awaitInput(long timeoutNanos) throws IOException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (position == limit && in.available() <= 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(POLL_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next line, without the line terminator.
+     * Both {@code \n} and {@code \r\n} terminate a line.
+     *
+     * @return The reused line object, or {@code null} at the end of the stream.
+     * @throws IOException If reading fails.
+     */
+    public InputLine readLine() throws IOException {
+        line.clear();
+        boolean any = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                line.stripCarriageReturn();
+                return any ? line : null;
+            }
+            any = true;
+            byte b = buffer[position++];
+            if (b == '\n') {
+                line.stripCarriageReturn();
+                return line;
+            }
+            line.append(b);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        long start = Metrics.start();
+        InputWaitEvent event = new InputWaitEvent();
+        event.begin();
+        int read = in.read(buffer, 0, buffer.length);
+        event.finish(read);
+        Metrics.stop(Metrics.Timer.INPUT_WAIT, start);
+        if (read <= 0) {
+            position = 0;
+            limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
@@ -14,6 +14,9 @@ import lombok.Setter;
  */
 public final class OutputHandler { // Make the class final to prevent subclassing
 
+    // Overrides printStream on the threads that serve a session, see bind
+    private static final ThreadLocal<PrintStream> SESSION_STREAM = new ThreadLocal<>();
+
     /**
      * The underlying PrintStream used for output.
      */
@@ -54,131 +57,154 @@ public final class OutputHandler { // Make the class final to prevent subclassin
         }
     }
 
+    /**
+     * Routes all output of the current thread to the given stream until {@link #unbind()} is called.
+     * Output of other threads still goes to the shared print stream, so every session of a server
+     * can render through this class to its own connection.
+     *
+     * @param stream the stream of the session served by the current thread
+     */
+    public static void bind(PrintStream stream) {
+        SESSION_STREAM.set(stream);
+    }
+
+    /**
+     * Routes the output of the current thread back to the shared print stream.
+     */
+    public static void unbind() {
+        SESSION_STREAM.remove();
+    }
+
+    private static PrintStream out() {
+        PrintStream session = SESSION_STREAM.get();
+        return session != null ? session : printStream;
+    }
+
     // --- Print Methods ---
 
     public static void print(boolean b) {
-        printStream.print(b);
+        out().print(b);
     }
 
     public static void print(char c) {
-        printStream.print(c);
+        out().print(c);
     }
 
     public static void print(int i) {
-        printStream.print(i);
+        out().print(i);
     }
 
     public static void print(long l) {
-        printStream.print(l);
+        out().print(l);
     }
 
     public static void print(float f) {
-        printStream.print(f);
+        out().print(f);
     }
 
     public static void print(double d) {
-        printStream.print(d);
+        out().print(d);
     }
 
     public static void print(char[] s) {
-        printStream.print(s);
+        out().print(s);
     }
 
     public static void print(String s) {
-        printStream.print(s);
+        out().print(s);
     }
 
     public static void print(Object obj) {
-        printStream.print(obj);
+        out().print(obj);
     }
 
     // --- println Methods ---
 
     public static void println() {
-        printStream.println();
+        out().println();
     }
 
     public static void println(boolean x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     public static void println(char x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     public static void println(int x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     public static void println(long x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     public static void println(float x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     public static void println(double x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     public static void println(char[] x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     public static void println(String x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     public static void println(Object x) {
-        printStream.println(x);
+        out().println(x);
     }
 
     // --- printf Methods ---
 
     public static PrintStream printf(String format, Object... args) {
-        return printStream.printf(format, args);
+        return out().printf(format, args);
     }
 
     public static PrintStream printf(Locale l, String format, Object... args) {
-        return printStream.printf(l, format, args);
+        return out().printf(l, format, args);
     }
 
     // --- format Methods ---
 
     public static PrintStream format(String format, Object... args) {
-        return printStream.format(format, args);
+        return out().format(format, args);
     }
 
     public static PrintStream format(Locale l, String format, Object... args) {
-        return printStream.format(l, format, args);
+        return out().format(l, format, args);
     }
 
     // --- append Methods ---
 
     public static PrintStream append(CharSequence csq) {
-        return printStream.append(csq);
+        return out().append(csq);
     }
 
     public static PrintStream append(CharSequence csq, int start, int end) {
-        return printStream.append(csq, start, end);
+        return out().append(csq, start, end);
     }
 
     public static PrintStream append(char c) {
-        return printStream.append(c);
+        return out().append(c);
     }
 
     // --- Other Methods ---
 
     public static void flush() {
-        printStream.flush();
+        out().flush();
     }
 
     public static void close() {
-        printStream.close();
+        out().close();
     }
 
     public static boolean checkError() {
-        return printStream.checkError();
+        return out().checkError();
     }
 }
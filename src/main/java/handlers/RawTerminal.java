@@ -0,0 +1,73 @@
+package handlers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Puts the terminal attached to {@code System.in} into non-canonical, no-echo mode, so single keystrokes
+ * can be read without waiting for Enter, and restores the previous settings on {@link #close()}.
+ * Uses {@code stty}, which only succeeds when stdin is a terminal; a shutdown hook restores the
+ * terminal if the JVM exits while raw mode is active.
+ */
+public final class RawTerminal implements AutoCloseable {
+    private final String savedSettings;
+    private final Thread restoreHook;
+
+    private RawTerminal(String savedSettings) {
+        this.savedSettings = savedSettings;
+        this.restoreHook = new Thread(() -> stty(savedSettings), "raw-terminal-restore");
+        Runtime.getRuntime().addShutdownHook(restoreHook);
+    }
+
+    /**
+     * Switches stdin to raw mode.
+     *
+     * @return A handle that restores the terminal when closed,
+     *     or {@code null} if stdin is not a terminal or {@code stty} is unavailable.
+     */
+    public static RawTerminal enable() {
+        String saved = stty("-g");
+        if (saved == null || saved.isEmpty()) {
+            return null;
+        }
+        if (stty("-icanon", "-echo", "min", "1", "time", "0") == null) {
+            stty(saved);
+            return null;
+        }
+        return new RawTerminal(saved);
+    }
+
+    /**
+     * Restores the terminal settings captured by {@link #enable()}.
+     */
+    @Override
+    public void close() {
+        stty(savedSettings);
+        try {
+            Runtime.getRuntime().removeShutdownHook(restoreHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down and the hook will run anyway
+        }
+    }
+
+    private static String stty(String... args) {
+        List<String> command = new ArrayList<>(args.length + 1);
+        command.add("stty");
+        command.addAll(List.of(args));
+        try {
+            Process process = new ProcessBuilder(command)
+                .redirectInput(ProcessBuilder.Redirect.INHERIT)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.US_ASCII).trim();
+            return process.waitFor() == 0 ? output : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package handlers;
 
-import java.nio.charset.StandardCharsets;
-import java.util.NoSuchElementException;
-import java.util.Scanner;
+import java.io.IOException;
 import java.util.function.Predicate;
 import lombok.Getter;
 
@@ -12,9 +10,28 @@ import lombok.Getter;
  */
 @Getter
 public class UserInputHandler {
+    private static final int CTRL_D = 0x04;
+    private static final int ESCAPE = 0x1B;
+    // Control sequence introducer and single shift 3, the second bytes of arrow, Home/End and function keys
+    private static final int CSI = '[';
+    private static final int SS3 = 'O';
+    private static final int CSI_FINAL_MIN = 0x40;
+    private static final int CSI_FINAL_MAX = 0x7E;
+    // Terminals send a key sequence in one write, a lone Escape key is not followed within this time
+    private static final long ESCAPE_TIMEOUT_NANOS = 50_000_000;
+    private static final String NO_MORE_INPUT = "\nNo more input. Exiting.";
+    private static final String INPUT_CLOSED = "\nInput was closed unexpectedly. Exiting.";
     private final Predicate<String> logic;
+    private final InputLogic inputLogic;
     private final String exitSeq;
     private final String prompt;
+    // Whether the last loop read keystrokes rather than lines
+    private boolean keystrokeMode;
+
+    // Keystroke-to-redraw latency of keystroke mode: from the byte arriving to the logic returning and output flushed
+    private long keystrokes;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
 
     /**
      * Constructs a UserInputHandler.
@@ -26,50 +43,200 @@ public class UserInputHandler {
      */
     public UserInputHandler(Predicate<String> logic, String prompt, String exitSeq) {
         this.logic = logic;
+        this.inputLogic = input -> logic.test(input.toString());
+        this.exitSeq = exitSeq;
+        this.prompt = prompt;
+    }
+
+    /**
+     * Constructs a UserInputHandler that passes the input without copying it into a String.
+     *
+     * @param inputLogic Processes user input. Should return true to continue,
+     *                   or false to terminate the loop.
+     * @param prompt     The hint text displayed to the user when requesting input.
+     * @param exitSeq    The specific string that, when entered, triggers the exit sequence.
+     */
+    public UserInputHandler(InputLogic inputLogic, String prompt, String exitSeq) {
+        this.logic = inputLogic::accept;
+        this.inputLogic = inputLogic;
         this.exitSeq = exitSeq;
         this.prompt = prompt;
     }
 
+    /**
+     * Starts the input handling loop in keystroke mode if stdin is a terminal, in line mode otherwise.
+     * In keystroke mode every key is passed to the logic as soon as it is pressed, without echo and
+     * without waiting for Enter; Escape or Ctrl-D trigger the exit sequence. Keys that send escape sequences,
+     * such as the arrow keys, are ignored.
+     * A reader bound to the thread is not a terminal and is read keystroke by keystroke as it is.
+     */
+    public void runInteractive() {
+        if (InputReader.isBound()) {
+            runKeystrokes(InputReader.stdin());
+        } else {
+            runInTerminal();
+        }
+    }
+
+    private void runInTerminal() {
+        RawTerminal terminal = RawTerminal.enable();
+        if (terminal == null) {
+            run();
+        } else {
+            try (terminal) {
+                runKeystrokes(InputReader.stdin());
+            }
+        }
+    }
+
+    /**
+     * Returns the average keystroke-to-redraw latency measured in keystroke mode.
+     *
+     * @return The average latency in nanoseconds, 0 if no keystroke was handled.
+     */
+    public long averageLatencyNanos() {
+        return keystrokes == 0 ? 0 : totalLatencyNanos / keystrokes;
+    }
+
+    /**
+     * Handles single keystrokes until the logic terminates, the exit key is pressed or the input ends.
+     *
+     * @param reader The reader to take keystrokes from.
+     */
+    void runKeystrokes(InputReader reader) {
+        keystrokeMode = true;
+        KeyInput key = new KeyInput();
+        OutputHandler.print(prompt);
+        OutputHandler.flush();
+        try {
+            while (true) {
+                int b = reader.read();
+                if (b < 0) {
+                    OutputHandler.println(NO_MORE_INPUT);
+                    break;
+                }
+                long arrived = System.nanoTime();
+                if (b == ESCAPE && reader.awaitInput(ESCAPE_TIMEOUT_NANOS)) {
+                    skipEscapeSequence(reader);
+                    continue;
+                }
+                if (b == ESCAPE || b == CTRL_D) {
+                    OutputHandler.println("\nThe program was terminated by the user.");
+                    break;
+                }
+                // Ignore line breaks, control characters and non-ASCII bytes
+                if (b <= ' ' || b >= Byte.MAX_VALUE) {
+                    continue;
+                }
+                key.set((char) b);
+                boolean shouldContinue = inputLogic.accept(key);
+                OutputHandler.flush();
+                recordLatency(System.nanoTime() - arrived);
+                if (!shouldContinue) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            OutputHandler.println(INPUT_CLOSED);
+        }
+    }
+
+    /**
+     * Skips the rest of an escape sequence: a CSI sequence up to its final byte, an SS3 sequence
+     * of one more byte, or the single key that follows Escape when Alt is held.
+     */
+    private static void skipEscapeSequence(InputReader reader) throws IOException {
+        int b = reader.read();
+        if (b == CSI) {
+            do {
+                b = reader.read();
+            } while (b >= 0 && (b < CSI_FINAL_MIN || b > CSI_FINAL_MAX));
+        } else if (b == SS3) {
+            reader.read();
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        ++keystrokes;
+        totalLatencyNanos += nanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, nanos);
+    }
+
     /**
      * Starts the input handling loop.
      */
     public void run() {
-        try (Scanner scanner = new Scanner(System.in, StandardCharsets.UTF_8)) { // Encoding specified
+        keystrokeMode = false;
+        InputReader reader = InputReader.stdin();
+        try {
             while (true) {
-                // Display the prompt
+                // Display the prompt, and push the frame out before blocking on the next line
                 OutputHandler.print(prompt);
+                OutputHandler.flush();
 
-                // Check if there's another line of input
-                if (!scanner.hasNextLine()) {
+                // Read user input
+                InputLine input = reader.readLine();
+                if (input == null) {
                     // Input stream closed, exit gracefully
-                    OutputHandler.println("\nNo more input. Exiting.");
+                    OutputHandler.println(NO_MORE_INPUT);
                     break;
                 }
 
-                // Read user input
-                String input = scanner.nextLine();
-
                 // Clear the previous prompt and input using ANSI escape codes
                 // \033[F moves the cursor up one line
                 // \033[2K clears the entire line
                 OutputHandler.print("\033[F\033[2K");
 
-                if (input.equals(exitSeq)) {
+                if (input.contentEquals(exitSeq)) {
                     // If input matches the exit string, print exit message and terminate
                     OutputHandler.println("The program was terminated by the user.");
                     break;
                 } else {
-                    // Process the input using the logic predicate
-                    boolean shouldContinue = logic.test(input);
+                    // Process the input using the logic
+                    boolean shouldContinue = inputLogic.accept(input);
                     if (!shouldContinue) {
                         // If logic returns false, terminate the loop
                         break;
                     }
                 }
             }
-        } catch (NoSuchElementException | IllegalStateException e) {
+        } catch (IOException e) {
             // Handle the exception gracefully
-            OutputHandler.println("\nInput was closed unexpectedly. Exiting.");
+            OutputHandler.println(INPUT_CLOSED);
+        }
+    }
+
+    /**
+     * A single keystroke exposed as a one-character sequence, reused between keystrokes.
+     */
+    private static final class KeyInput implements CharSequence {
+        private char key;
+
+        void set(char value) {
+            this.key = value;
+        }
+
+        @Override
+        public int length() {
+            return 1;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+            }
+            return key;
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(key);
         }
     }
 }
@@ -8,6 +8,10 @@ import java.util.List;
  * the state and progression of a hangman display.
  */
 public interface Hangman {
+    /**
+     * The largest supported attempt count, one miss per body part.
+     */
+    int MAX_ATTEMPTS = 6;
 
     /**
      * Retrieves the current lines representing the hangman display.
@@ -26,8 +30,25 @@ public interface Hangman {
     /**
      * Sets the number of remaining attempts and adjusts the hangman display accordingly.
      *
-     * @param attempts the number of attempts remaining (must be between 0 and 6 inclusive).
+     * @param attempts the number of attempts remaining (must be between 1 and {@link #MAX_ATTEMPTS} inclusive).
      * @return {@code true} if the attempts were set successfully, {@code false} otherwise.
      */
     boolean setAttempts(int attempts);
+
+    /**
+     * Draws the hangman as it looks after the given number of misses, as when a saved game is restored.
+     *
+     * @param attempts The number of misses allowed.
+     * @param misses   The number of misses so far.
+     * @return {@code false} if the attempt count is not supported or the misses exceed it.
+     */
+    default boolean restore(int attempts, int misses) {
+        if (misses < 0 || misses > attempts || !setAttempts(attempts)) {
+            return false;
+        }
+        for (int i = 0; i < misses; i++) {
+            nextStage();
+        }
+        return true;
+    }
 }
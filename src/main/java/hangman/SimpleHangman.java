@@ -1,6 +1,7 @@
 package hangman;
 
 import display.MutableLine;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -8,6 +9,15 @@ import lombok.Getter;
 
 @SuppressWarnings({"MagicNumber", "MultipleStringLiterals"})
 public class SimpleHangman implements Hangman {
+    private static final StagePart[] STAGE_PARTS = {
+        new StagePart(2, 1, 'O'),
+        new StagePart(3, 1, '|'),
+        new StagePart(3, 0, '/'),
+        new StagePart(3, 2, '\\'),
+        new StagePart(4, 0, '/'),
+        new StagePart(4, 2, '\\')
+    };
+
     @Getter private final List<MutableLine<Character>> hangmanLines = Arrays.asList(
         new MutableLine<>(toCharacterList(" +--+"), ""),
         new MutableLine<>(toCharacterList(" |  |"), ""),
@@ -18,14 +28,9 @@ public class SimpleHangman implements Hangman {
         new MutableLine<>(toCharacterList("====="), "")
     );
 
-    private final List<Runnable> hangmanStages = Arrays.asList(
-        () -> hangmanLines.get(2).setContent(1, 'O'),
-        () -> hangmanLines.get(3).setContent(1, '|'),
-        () -> hangmanLines.get(3).setContent(0, '/'),
-        () -> hangmanLines.get(3).setContent(2, '\\'),
-        () -> hangmanLines.get(4).setContent(0, '/'),
-        () -> hangmanLines.get(4).setContent(2, '\\')
-    );
+    private final List<Runnable> hangmanStages = Arrays.stream(STAGE_PARTS)
+        .<Runnable>map(part -> () -> hangmanLines.get(part.line()).setContent(part.position(), part.part()))
+        .toList();
 
     private int currentStage = 0;
 
@@ -46,11 +51,11 @@ public class SimpleHangman implements Hangman {
     }
 
     public boolean setAttempts(int attempts) {
-        if (attempts < 0 || attempts > 6) {
+        if (attempts < 1 || attempts > MAX_ATTEMPTS) {
             return false;
         }
 
-        int skipStages = 6 - attempts;
+        int skipStages = MAX_ATTEMPTS - attempts;
 
         while (skipStages > 0) {
             hangmanStages.get(currentStage).run();
@@ -59,4 +64,43 @@ public class SimpleHangman implements Hangman {
         }
         return true;
     }
+
+    /**
+     * Draws all stages up to the given number of misses in one update per hangman line.
+     *
+     * @param attempts The number of misses allowed.
+     * @param misses   The number of misses so far.
+     * @return {@code false} if the attempt count is not supported or the misses exceed it.
+     */
+    @Override
+    public boolean restore(int attempts, int misses) {
+        if (attempts < 1 || attempts > MAX_ATTEMPTS || misses < 0 || misses > attempts) {
+            return false;
+        }
+        int drawnStages = MAX_ATTEMPTS - attempts + misses;
+        List<List<Character>> drawn = new ArrayList<>(hangmanLines.size());
+        for (MutableLine<Character> line : hangmanLines) {
+            drawn.add(new ArrayList<>(line.content()));
+        }
+        for (int stage = 0; stage < drawnStages; stage++) {
+            STAGE_PARTS[stage].drawOn(drawn);
+        }
+        for (int i = 0; i < hangmanLines.size(); i++) {
+            if (!drawn.get(i).equals(hangmanLines.get(i).content())) {
+                hangmanLines.get(i).setContent(drawn.get(i));
+            }
+        }
+        // The last stage is drawn by the losing miss without advancing
+        currentStage = Math.min(drawnStages, hangmanStages.size() - 1);
+        return true;
+    }
+
+    /**
+     * The body part added by one stage: a character at a position of a hangman line.
+     */
+    private record StagePart(int line, int position, char part) {
+        void drawOn(List<List<Character>> lines) {
+            lines.get(line).set(position, part);
+        }
+    }
 }
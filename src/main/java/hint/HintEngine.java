@@ -0,0 +1,66 @@
+package hint;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.ArrayList;
+import java.util.List;
+import simulation.FrequencyGuessStrategy;
+import util.HangmanWords;
+
+/**
+ * Answers hint requests from per-category {@link LetterFrequencyTable}s.
+ * The tables are built when the engine is created and kept in a Caffeine cache,
+ * so a hint costs one cache lookup and a pass over the alphabet, never a dictionary scan.
+ * Thread-safe.
+ */
+public class HintEngine {
+    private static final int MAX_TABLES = 64;
+
+    private final HangmanWords hangmanWords;
+    private final LoadingCache<Integer, LetterFrequencyTable> tables;
+    private final FrequencyGuessStrategy fallback = new FrequencyGuessStrategy();
+
+    /**
+     * Constructs a hint engine and precomputes the tables of every category,
+     * including the combined one with ID 0.
+     *
+     * @param hangmanWords The dictionary.
+     */
+    public HintEngine(HangmanWords hangmanWords) {
+        this.hangmanWords = hangmanWords;
+        this.tables = Caffeine.newBuilder()
+            .maximumSize(MAX_TABLES)
+            .build(categoryId -> new LetterFrequencyTable(this.hangmanWords.getWords(categoryId)));
+
+        List<Integer> categoryIds = new ArrayList<>();
+        categoryIds.add(0);
+        for (HangmanWords.Category category : hangmanWords.getAllCategories()) {
+            categoryIds.add(category.id());
+        }
+        tables.getAll(categoryIds);
+    }
+
+    /**
+     * Returns the table of a category.
+     *
+     * @param categoryId The category ID, or 0 for all categories.
+     * @return The table.
+     */
+    public LetterFrequencyTable table(int categoryId) {
+        return tables.get(categoryId);
+    }
+
+    /**
+     * Suggests the most informative letter that has not been guessed yet.
+     *
+     * @param categoryId  The category the word was taken from, or 0 if unknown.
+     * @param pattern     The revealed pattern, hidden letters are any non-letter character.
+     * @param guessedMask Bit {@code i} is set if letter {@code 'A' + i} was guessed.
+     * @return An uppercase latin letter that has not been guessed.
+     * @throws IllegalStateException If every letter was already guessed.
+     */
+    public char hint(int categoryId, char[] pattern, int guessedMask) {
+        char letter = table(categoryId).bestLetter(pattern, guessedMask);
+        return letter != 0 ? letter : fallback.nextGuess(pattern, guessedMask);
+    }
+}
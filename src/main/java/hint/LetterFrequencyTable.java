@@ -0,0 +1,123 @@
+package hint;
+
+import game.GameEngine;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Immutable letter statistics of a word list, precomputed once per category.
+ * For every word length it stores how many words have each letter at each position,
+ * and for the whole list how many words contain each letter.
+ */
+public final class LetterFrequencyTable {
+    /**
+     * {@code positionCounts[length][position * 26 + letter]} is the number of words of that length
+     * with {@code letter} at {@code position}.
+     */
+    private final int[][] positionCounts;
+    private final int[] letterCounts = new int[GameEngine.ALPHABET_SIZE];
+    private final int wordCount;
+
+    /**
+     * Builds the tables from the given words.
+     * Words are uppercased; words containing anything but latin letters are ignored.
+     *
+     * @param words The words of one category.
+     */
+    public LetterFrequencyTable(Collection<String> words) {
+        int maxLength = words.stream().mapToInt(String::length).max().orElse(0);
+        this.positionCounts = new int[maxLength + 1][];
+        int count = 0;
+        for (String word : words) {
+            String upper = word.toUpperCase(Locale.ROOT);
+            if (upper.isEmpty() || !upper.chars().allMatch(c -> c >= 'A' && c <= 'Z')) {
+                continue;
+            }
+            int length = upper.length();
+            if (positionCounts[length] == null) {
+                positionCounts[length] = new int[length * GameEngine.ALPHABET_SIZE];
+            }
+            int seen = 0;
+            for (int position = 0; position < length; position++) {
+                int letter = upper.charAt(position) - 'A';
+                positionCounts[length][position * GameEngine.ALPHABET_SIZE + letter]++;
+                seen |= 1 << letter;
+            }
+            for (int letter = 0; letter < GameEngine.ALPHABET_SIZE; letter++) {
+                letterCounts[letter] += (seen >>> letter) & 1;
+            }
+            count++;
+        }
+        this.wordCount = count;
+    }
+
+    /**
+     * Returns the number of words of the given length with the letter at the position.
+     *
+     * @param length   The word length.
+     * @param position The zero-based position.
+     * @param letter   An uppercase latin letter.
+     * @return The count, 0 if no word has that length.
+     */
+    public int positionCount(int length, int position, char letter) {
+        if (length >= positionCounts.length || positionCounts[length] == null) {
+            return 0;
+        }
+        return positionCounts[length][position * GameEngine.ALPHABET_SIZE + letter - 'A'];
+    }
+
+    /**
+     * Returns the number of words containing the letter.
+     *
+     * @param letter An uppercase latin letter.
+     * @return The count over all lengths.
+     */
+    public int letterCount(char letter) {
+        return letterCounts[letter - 'A'];
+    }
+
+    /**
+     * Returns the number of indexed words.
+     *
+     * @return The word count.
+     */
+    public int wordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Picks the unguessed letter most likely to appear at the hidden positions of the pattern.
+     * Each letter is scored by how many words of the pattern's length have it at one of the hidden
+     * positions; if no word has that length, the overall letter counts are used instead.
+     *
+     * @param pattern     The revealed pattern, hidden letters are any non-letter character.
+     * @param guessedMask Bit {@code i} is set if letter {@code 'A' + i} was guessed.
+     * @return The best letter, or {@code 0} if every letter scores zero.
+     */
+    char bestLetter(char[] pattern, int guessedMask) {
+        int length = pattern.length;
+        int[] counts = length < positionCounts.length ? positionCounts[length] : null;
+        int best = -1;
+        long bestScore = 0;
+        for (int letter = 0; letter < GameEngine.ALPHABET_SIZE; letter++) {
+            if ((guessedMask & (1 << letter)) != 0) {
+                continue;
+            }
+            long score = 0;
+            if (counts == null) {
+                score = letterCounts[letter];
+            } else {
+                for (int position = 0; position < length; position++) {
+                    if (pattern[position] < 'A' || pattern[position] > 'Z') {
+                        score += counts[position * GameEngine.ALPHABET_SIZE + letter];
+                    }
+                }
+            }
+            if (score > bestScore) {
+                best = letter;
+                bestScore = score;
+            }
+        }
+        return best < 0 ? 0 : (char) ('A' + best);
+    }
+}
@@ -0,0 +1,30 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The output between two flushes, from its first byte to the flush.
+ */
+@Name("hangman.Frame")
+@Label("Display Frame")
+@Description("Output written between two flushes, from the first byte to the flush")
+@Category({"Hangman", "Render"})
+@StackTrace(false)
+public final class FrameEvent extends Event {
+    @Label("Session Id")
+    long sessionId;
+
+    @Label("Lines Touched")
+    @Description("The display lines drawn or redrawn")
+    int linesTouched;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+}
@@ -0,0 +1,58 @@
+package jfr;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes bytes through to a target stream and reports everything written between two flushes
+ * as a {@link FrameEvent}, together with the display lines touched meanwhile on the writing thread.
+ * Costs an enabled check per write while no recording wants frames. Not thread-safe; the print stream
+ * around it serializes writes.
+ */
+public final class FrameOutputStream extends FilterOutputStream {
+    private FrameEvent frame;
+
+    public FrameOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        written(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        written(len);
+    }
+
+    private void written(int length) {
+        if (frame == null) {
+            FrameEvent event = new FrameEvent();
+            if (!event.isEnabled()) {
+                return;
+            }
+            event.begin();
+            frame = event;
+        }
+        frame.bytesWritten += length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+        if (frame != null) {
+            frame.end();
+            int lines = GameEvents.takeLinesTouched();
+            if (frame.shouldCommit()) {
+                frame.sessionId = GameEvents.sessionId();
+                frame.linesTouched = lines;
+                frame.commit();
+            }
+            frame = null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package jfr;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Thread context of the Flight Recorder events of a game.
+ * <p>
+ * Servers bind the id of the session they serve to the thread, just like they bind its input and output,
+ * so every event the game emits on that thread carries the id; console games report session 0.
+ * The lines a display touches are collected per thread until the next flush ends the frame.
+ * While no recording enables the events, the hooks return after an inlined enabled check.
+ */
+public final class GameEvents {
+    /**
+     * The bundled event settings, a classpath resource.
+     */
+    public static final String SETTINGS = "/hangman.jfc";
+    private static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
+
+    private GameEvents() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Tags the events of the current thread with a session id until {@link #unbindSession()} is called.
+     *
+     * @param sessionId The id of the session served by the current thread.
+     */
+    public static void bindSession(long sessionId) {
+        CONTEXT.get().sessionId = sessionId;
+    }
+
+    /**
+     * Clears the session id and the frame state of the current thread.
+     */
+    public static void unbindSession() {
+        CONTEXT.remove();
+    }
+
+    /**
+     * Returns the session id bound to the current thread.
+     *
+     * @return The id, 0 if none is bound.
+     */
+    public static long sessionId() {
+        return CONTEXT.get().sessionId;
+    }
+
+    /**
+     * Counts lines redrawn for the frame in progress on the current thread.
+     *
+     * @param count The number of lines.
+     */
+    public static void linesTouched(int count) {
+        if (new FrameEvent().isEnabled()) {
+            CONTEXT.get().linesTouched += count;
+        }
+    }
+
+    static int takeLinesTouched() {
+        Context context = CONTEXT.get();
+        int lines = context.linesTouched;
+        context.linesTouched = 0;
+        return lines;
+    }
+
+    /**
+     * Starts a recording with the bundled settings that is dumped to a file when the JVM exits.
+     * The same settings work for {@code -XX:StartFlightRecording:settings=<copy of hangman.jfc>}.
+     *
+     * @param destination The recording file.
+     * @return The started recording.
+     * @throws UncheckedIOException If the settings cannot be read or the file cannot be written.
+     */
+    public static Recording startRecording(Path destination) {
+        try (Reader reader = new InputStreamReader(GameEvents.class.getResourceAsStream(SETTINGS),
+            StandardCharsets.UTF_8)) {
+            Recording recording = new Recording(Configuration.create(reader));
+            recording.setName("hangman");
+            recording.setDestination(destination);
+            recording.setDumpOnExit(true);
+            recording.start();
+            return recording;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start the flight recording: " + destination, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Malformed event settings: " + SETTINGS, e);
+        }
+    }
+
+    /**
+     * The session and the frame in progress on one thread.
+     */
+    private static final class Context {
+        private long sessionId;
+        private int linesTouched;
+    }
+}
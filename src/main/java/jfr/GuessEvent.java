@@ -0,0 +1,51 @@
+package jfr;
+
+import game.GuessOutcome;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One guess applied by the game rules, a correct full-word guess counting once per revealed letter.
+ */
+@Name("hangman.Guess")
+@Label("Guess")
+@Description("A guess applied to the word, keyboard and hangman, including the redraw it triggers")
+@Category({"Hangman", "Game"})
+@StackTrace(false)
+public final class GuessEvent extends Event {
+    @Label("Session Id")
+    long sessionId;
+
+    @Label("Letter")
+    @Description("The guessed letter, * for a wrong full-word guess")
+    char letter;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Misses")
+    @Description("The misses after the guess")
+    int misses;
+
+    /**
+     * Ends the event and commits it if the recording wants it.
+     *
+     * @param letter  The guessed letter.
+     * @param outcome The outcome of the guess.
+     * @param misses  The misses after the guess.
+     */
+    public void finish(char letter, GuessOutcome outcome, int misses) {
+        end();
+        if (shouldCommit()) {
+            this.sessionId = GameEvents.sessionId();
+            this.letter = letter;
+            this.outcome = outcome.name();
+            this.misses = misses;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A blocking read of player input.
+ */
+@Name("hangman.InputWait")
+@Label("Input Wait")
+@Description("Time blocked reading player input")
+@Category({"Hangman", "Input"})
+@StackTrace(false)
+public final class InputWaitEvent extends Event {
+    @Label("Session Id")
+    long sessionId;
+
+    @Label("Bytes Read")
+    @DataAmount
+    int bytesRead;
+
+    /**
+     * Ends the event and commits it if the recording wants it.
+     *
+     * @param bytesRead The bytes read, negative at the end of the input.
+     */
+    public void finish(int bytesRead) {
+        end();
+        if (shouldCommit()) {
+            this.sessionId = GameEvents.sessionId();
+            this.bytesRead = bytesRead;
+            commit();
+        }
+    }
+}
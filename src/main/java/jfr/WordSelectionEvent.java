@@ -0,0 +1,55 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The choice of a random word.
+ */
+@Name("hangman.WordSelection")
+@Label("Word Selection")
+@Description("Choice of a random word from a category")
+@Category({"Hangman", "Game"})
+@StackTrace(false)
+public final class WordSelectionEvent extends Event {
+    @Label("Session Id")
+    long sessionId;
+
+    @Label("Requested Category")
+    @Description("The requested category id, 0 for a random category")
+    int requestedCategory;
+
+    @Label("Category")
+    String category;
+
+    @Label("Candidates")
+    @Description("The number of words of the category")
+    int candidates;
+
+    @Label("Word Length")
+    int wordLength;
+
+    /**
+     * Ends the event and commits it if the recording wants it.
+     *
+     * @param requestedCategory The requested category id.
+     * @param category          The category the word was taken from.
+     * @param candidates        The number of words of the category.
+     * @param wordLength        The length of the chosen word.
+     */
+    public void finish(int requestedCategory, String category, int candidates, int wordLength) {
+        end();
+        if (shouldCommit()) {
+            this.sessionId = GameEvents.sessionId();
+            this.requestedCategory = requestedCategory;
+            this.category = category;
+            this.candidates = candidates;
+            this.wordLength = wordLength;
+            commit();
+        }
+    }
+}
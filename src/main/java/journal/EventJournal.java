@@ -0,0 +1,384 @@
+package journal;
+
+import game.GuessListener;
+import game.GuessOutcome;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of session events in memory-mapped segment files.
+ * <p>
+ * Every event is a fixed-size record:
+ * <pre>
+ * bytes  0-7   session id
+ * bytes  8-15  timestamp, milliseconds since the epoch
+ * byte   16    type, 0 marking the unwritten end of the log
+ * byte   17    guess outcome or attempt count
+ * bytes 18-19  letter
+ * bytes 20-23  word id
+ * bytes 24-27  checksum of bytes 0-23
+ * bytes 28-31  unused
+ * </pre>
+ * Positions count bytes from the start of the log; a segment file is named after its first position in hex.
+ * Appending only writes into the mapped page cache, which survives a crash of the process.
+ * A committer thread group-commits the written records to the disk every commit interval,
+ * or as soon as a caller waits for its records with {@link #awaitCommit(long)}.
+ * Appending is thread-safe.
+ */
+public final class EventJournal implements AutoCloseable {
+    /**
+     * Size of a record in bytes.
+     */
+    public static final int RECORD_SIZE = 32;
+    private static final String SUFFIX = ".log";
+    private static final int HEX_RADIX = 16;
+    private static final byte TYPE_START = 1;
+    private static final byte TYPE_GUESS = 2;
+    private static final int TYPE_OFFSET = 16;
+    private static final int ARGUMENT_OFFSET = 17;
+    private static final int LETTER_OFFSET = 18;
+    private static final int WORD_ID_OFFSET = 20;
+    private static final int CHECKSUM_OFFSET = 24;
+    private static final GuessOutcome[] OUTCOMES = GuessOutcome.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long commitIntervalMillis;
+    private final Object appendLock = new Object();
+    private final Object commitLock = new Object();
+    private final Thread committer;
+    private volatile Segment segment;
+    private volatile long position;
+    private volatile long committed;
+    private long commitRequested;
+    private boolean closed;
+
+    /**
+     * Opens the journal in a directory, creating it if needed, and continues after its last intact record.
+     *
+     * @param directory      The journal directory.
+     * @param segmentSize    The size of a segment file, a multiple of {@link #RECORD_SIZE}.
+     * @param commitInterval The longest time written records wait to be committed to the disk.
+     * @throws IllegalArgumentException If the segment size is not a positive multiple of the record size.
+     * @throws UncheckedIOException     If the journal cannot be opened.
+     */
+    public EventJournal(Path directory, int segmentSize, Duration commitInterval) {
+        if (segmentSize <= 0 || segmentSize % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException(
+                "Segment size must be a multiple of " + RECORD_SIZE + ": " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.commitIntervalMillis = Math.max(1, commitInterval.toMillis());
+        try {
+            Files.createDirectories(directory);
+            List<Long> bases = segmentBases(directory);
+            long end = scan(directory, bases.isEmpty() ? 0 : bases.getLast(), null);
+            this.segment = map(end - end % segmentSize);
+            this.position = end;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the journal: " + directory, e);
+        }
+        this.committed = position;
+        this.commitRequested = position;
+        this.committer = Thread.ofPlatform().daemon().name("journal-commit").start(this::commitLoop);
+    }
+
+    /**
+     * Returns the position right after the last appended record.
+     *
+     * @return The position.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Returns the position up to which records are committed to the disk.
+     *
+     * @return The position.
+     */
+    public long committed() {
+        return committed;
+    }
+
+    /**
+     * Appends the start of a round.
+     *
+     * @param sessionId The session id.
+     * @param wordId    The id of the word in the server's word table.
+     * @param attempts  The number of misses allowed.
+     * @return The position right after the record, to wait for with {@link #awaitCommit(long)}.
+     */
+    public long appendStart(long sessionId, int wordId, int attempts) {
+        return append(sessionId, TYPE_START, attempts, (char) 0, wordId);
+    }
+
+    /**
+     * Appends a guess.
+     *
+     * @param sessionId The session id.
+     * @param letter    The guessed letter.
+     * @param outcome   The outcome of the guess.
+     * @return The position right after the record, to wait for with {@link #awaitCommit(long)}.
+     */
+    public long appendGuess(long sessionId, char letter, GuessOutcome outcome) {
+        return append(sessionId, TYPE_GUESS, outcome.ordinal(), letter, 0);
+    }
+
+    /**
+     * Returns a listener that appends the guesses of an engine to this journal.
+     *
+     * @param sessionId The session the engine plays.
+     * @return The listener.
+     */
+    public GuessListener listener(long sessionId) {
+        return (letter, outcome) -> appendGuess(sessionId, letter, outcome);
+    }
+
+    private long append(long sessionId, byte type, int argument, char letter, int wordId) {
+        long timestamp = System.currentTimeMillis();
+        synchronized (appendLock) {
+            if (closed) {
+                throw new IllegalStateException("The journal is closed");
+            }
+            long at = position;
+            if (at - segment.base == segmentSize) {
+                roll(at);
+            }
+            MappedByteBuffer buffer = segment.buffer;
+            int offset = (int) (at - segment.base);
+            buffer.putLong(offset, sessionId);
+            buffer.putLong(offset + Long.BYTES, timestamp);
+            buffer.put(offset + ARGUMENT_OFFSET, (byte) argument);
+            buffer.putChar(offset + LETTER_OFFSET, letter);
+            buffer.putInt(offset + WORD_ID_OFFSET, wordId);
+            buffer.putInt(offset + CHECKSUM_OFFSET,
+                checksum(sessionId, timestamp, type, argument, letter, wordId));
+            // The type is written last, so a reader never takes a half-written record for a complete one
+            buffer.put(offset + TYPE_OFFSET, type);
+            position = at + RECORD_SIZE;
+            return position;
+        }
+    }
+
+    private void roll(long base) {
+        segment.buffer.force();
+        try {
+            segment = map(base);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal segment " + base, e);
+        }
+    }
+
+    /**
+     * Blocks until the records up to a position are committed to the disk,
+     * sharing a single commit with all callers waiting at the same time.
+     *
+     * @param target The position returned by an append.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void awaitCommit(long target) throws InterruptedException {
+        synchronized (commitLock) {
+            if (target > commitRequested) {
+                commitRequested = target;
+                commitLock.notifyAll();
+            }
+            while (committed < target && !closed) {
+                commitLock.wait();
+            }
+        }
+    }
+
+    private void commitLoop() {
+        try {
+            while (true) {
+                synchronized (commitLock) {
+                    if (commitRequested <= committed && !closed) {
+                        commitLock.wait(commitIntervalMillis);
+                    }
+                    if (closed) {
+                        return;
+                    }
+                }
+                commit();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commit() {
+        Segment current = segment;
+        // Records of a segment that was rolled over meanwhile are forced by the roll, the rest on the next pass
+        long target = Math.min(position, current.base + segmentSize);
+        long from = Math.max(committed, current.base);
+        if (target > from) {
+            current.buffer.force((int) (from - current.base), (int) (target - from));
+        }
+        synchronized (commitLock) {
+            committed = Math.max(committed, target);
+            commitLock.notifyAll();
+        }
+    }
+
+    /**
+     * Deletes the segments that only hold records before a position, e.g. one covered by a checkpoint.
+     *
+     * @param before The position.
+     * @return The number of deleted segments.
+     * @throws UncheckedIOException If listing or deleting fails.
+     */
+    public int deleteBefore(long before) {
+        int deleted = 0;
+        try {
+            for (long base : segmentBases(directory)) {
+                if (base + segmentSize <= before && base != segment.base) {
+                    Files.deleteIfExists(segmentFile(directory, base));
+                    ++deleted;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete journal segments in " + directory, e);
+        }
+        return deleted;
+    }
+
+    /**
+     * Commits all appended records and stops the committer. Appending afterward fails.
+     */
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            segment.buffer.force();
+            committed = position;
+            synchronized (commitLock) {
+                closed = true;
+                commitLock.notifyAll();
+            }
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads the records of a journal directory in order, up to the first missing or damaged one.
+     *
+     * @param directory The journal directory.
+     * @param from      The position to start at, e.g. the position of a checkpoint.
+     * @param consumer  Receives each event.
+     * @return The position right after the last intact record.
+     * @throws UncheckedIOException If a segment cannot be read.
+     */
+    public static long replay(Path directory, long from, Consumer<JournalEvent> consumer) {
+        return scan(directory, from, consumer);
+    }
+
+    private static long scan(Path directory, long from, Consumer<JournalEvent> consumer) {
+        long at = from;
+        try {
+            List<Long> bases = segmentBases(directory);
+            for (int i = 0; i < bases.size(); i++) {
+                long base = bases.get(i);
+                long end = i + 1 < bases.size() ? bases.get(i + 1) : Long.MAX_VALUE;
+                if (end <= at || base > at) {
+                    continue;
+                }
+                try (FileChannel channel = FileChannel.open(segmentFile(directory, base), StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    int offset = (int) (at - base);
+                    while (offset + RECORD_SIZE <= buffer.capacity()) {
+                        JournalEvent event = readRecord(buffer, offset, at + RECORD_SIZE);
+                        if (event == null) {
+                            return at;
+                        }
+                        if (consumer != null) {
+                            consumer.accept(event);
+                        }
+                        offset += RECORD_SIZE;
+                        at += RECORD_SIZE;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the journal: " + directory, e);
+        }
+        return at;
+    }
+
+    private static JournalEvent readRecord(MappedByteBuffer buffer, int offset, long end) {
+        byte type = buffer.get(offset + TYPE_OFFSET);
+        long sessionId = buffer.getLong(offset);
+        long timestamp = buffer.getLong(offset + Long.BYTES);
+        int argument = buffer.get(offset + ARGUMENT_OFFSET);
+        char letter = buffer.getChar(offset + LETTER_OFFSET);
+        int wordId = buffer.getInt(offset + WORD_ID_OFFSET);
+        if (type != TYPE_START && type != TYPE_GUESS
+            || buffer.getInt(offset + CHECKSUM_OFFSET) != checksum(sessionId, timestamp, type, argument, letter, wordId)
+            || type == TYPE_GUESS && (argument < 0 || argument >= OUTCOMES.length)) {
+            return null;
+        }
+        return type == TYPE_START
+            ? new JournalEvent(end, sessionId, timestamp, JournalEvent.Type.START, letter, null, wordId, argument)
+            : new JournalEvent(end, sessionId, timestamp, JournalEvent.Type.GUESS, letter, OUTCOMES[argument], 0, 0);
+    }
+
+    @SuppressWarnings("MagicNumber")
+    private static int checksum(long sessionId, long timestamp, byte type, int argument, char letter, int wordId) {
+        long payload = (long) type << 56 | (long) (argument & 0xFF) << 48 | (long) letter << 32 | wordId & 0xFFFFFFFFL;
+        long hash = sessionId * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ timestamp) * 0xC2B2AE3D27D4EB4FL;
+        hash = (hash ^ payload) * 0x165667B19E3779F9L;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    private Segment map(long base) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(directory, base),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return new Segment(base, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+    }
+
+    private static Path segmentFile(Path directory, long base) {
+        return directory.resolve(String.format(Locale.ROOT, "%016x", base) + SUFFIX);
+    }
+
+    private static List<Long> segmentBases(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<Long> bases = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                .filter(name -> name.endsWith(SUFFIX))
+                .forEach(name -> bases.add(Long.parseUnsignedLong(name.substring(0, name.length() - SUFFIX.length()),
+                    HEX_RADIX)));
+        }
+        bases.sort(null);
+        return bases;
+    }
+
+    /**
+     * A mapped segment file and the position of its first record.
+     */
+    private record Segment(long base, MappedByteBuffer buffer) {
+    }
+}
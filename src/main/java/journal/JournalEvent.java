@@ -0,0 +1,41 @@
+package journal;
+
+import game.GameEngine;
+import game.GuessOutcome;
+
+/**
+ * A step of a session read back from an {@link EventJournal}.
+ *
+ * @param position  The journal position right after the event.
+ * @param sessionId The session the event belongs to.
+ * @param timestamp The time the event was appended, in milliseconds since the epoch.
+ * @param type      The kind of event.
+ * @param letter    The guessed letter or {@link GameEngine#WRONG_WORD}; unused for a start.
+ * @param outcome   The outcome of the guess; {@code null} for a start.
+ * @param wordId    The id of the word in the server's word table; unused for a guess.
+ * @param attempts  The number of misses allowed; unused for a guess.
+ */
+public record JournalEvent(
+    long position,
+    long sessionId,
+    long timestamp,
+    Type type,
+    char letter,
+    GuessOutcome outcome,
+    int wordId,
+    int attempts
+) {
+    /**
+     * The kinds of journaled events.
+     */
+    public enum Type {
+        /**
+         * A new round was started.
+         */
+        START,
+        /**
+         * A guess was applied to the round.
+         */
+        GUESS
+    }
+}
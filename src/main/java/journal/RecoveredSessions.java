@@ -0,0 +1,14 @@
+package journal;
+
+import game.GameEngine;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * The sessions rebuilt by {@link SessionRecovery#recover}.
+ *
+ * @param position The journal position the recovery read up to, where appending continues.
+ * @param sessions The rounds still in progress, by session id.
+ * @param replayed The number of journal events applied on top of the checkpoint.
+ */
+public record RecoveredSessions(long position, Long2ObjectOpenHashMap<GameEngine> sessions, long replayed) {
+}
@@ -0,0 +1,198 @@
+package journal;
+
+import game.GameEngine;
+import hangman.SimpleHangman;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import keyboard.CapitalizedKeyboard;
+import session.GameSnapshot;
+import session.WordTable;
+import word.CapitalizedWord;
+
+/**
+ * Checkpoints of live sessions and the startup pass that rebuilds them after a crash.
+ * A checkpoint holds the {@link GameSnapshot} of every session together with the journal position it reflects,
+ * and the position to replay the journal from; recovery loads the latest checkpoint and replays the journal tail
+ * on top of it, skipping the events a snapshot already reflects.
+ * Segments before the replay position of a checkpoint can then be deleted with {@link EventJournal#deleteBefore(long)}.
+ */
+public final class SessionRecovery {
+    // Checkpoints with a single position for all sessions, written before sessions could be saved while in play
+    private static final int MAGIC_V1 = 0x48474350;
+    private static final int MAGIC = 0x48474332;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    // Private constructor to prevent instantiation
+    private SessionRecovery() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Writes a checkpoint, atomically replacing the previous one.
+     * The sessions must not be guessed on while they are written, and the position must be taken
+     * after their last guess was appended, or replaying the tail would apply some guesses twice.
+     *
+     * @param file     The checkpoint file.
+     * @param position The journal position the sessions reflect.
+     * @param sessions The sessions, by session id.
+     * @param words    The word table the sessions play.
+     * @throws UncheckedIOException If writing fails.
+     */
+    public static void checkpoint(Path file, long position, Long2ObjectMap<GameEngine> sessions, WordTable words) {
+        Long2ObjectOpenHashMap<SavedSession> saved = new Long2ObjectOpenHashMap<>(sessions.size());
+        for (Long2ObjectMap.Entry<GameEngine> entry : sessions.long2ObjectEntrySet()) {
+            saved.put(entry.getLongKey(), new SavedSession(position, GameSnapshot.save(entry.getValue(), words)));
+        }
+        write(file, position, saved);
+    }
+
+    /**
+     * Writes a checkpoint of sessions that keep being played while it is taken, atomically replacing the previous one.
+     * Each session is saved while holding its monitor, together with the journal position at that moment,
+     * so the sessions must append their guesses to the journal while holding their monitor, as guesses made
+     * in {@code synchronized (engine)} blocks do. Finished sessions are left out.
+     * The checkpoint is written once the journal is committed up to the last saved position,
+     * so it never reflects guesses that a power loss could take from the journal.
+     *
+     * @param file     The checkpoint file.
+     * @param journal  The journal the sessions append to.
+     * @param sessions The sessions, by session id; sessions added while iterating must append their start afterward.
+     * @param words    The word table the sessions play.
+     * @return The position recovery replays from; segments before it can be deleted.
+     * @throws InterruptedException If the thread is interrupted while waiting for the commit.
+     * @throws UncheckedIOException If writing fails.
+     */
+    public static long checkpoint(Path file, EventJournal journal, Map<Long, GameEngine> sessions, WordTable words)
+        throws InterruptedException {
+        // Sessions missed by the iteration were added after this point, so their start is replayed
+        long from = journal.position();
+        long last = from;
+        Long2ObjectOpenHashMap<SavedSession> saved = new Long2ObjectOpenHashMap<>();
+        for (Map.Entry<Long, GameEngine> entry : sessions.entrySet()) {
+            GameEngine engine = entry.getValue();
+            synchronized (engine) {
+                if (!engine.status().isOver()) {
+                    long position = journal.position();
+                    saved.put(entry.getKey().longValue(), new SavedSession(position, GameSnapshot.save(engine, words)));
+                    last = Math.max(last, position);
+                }
+            }
+        }
+        journal.awaitCommit(last);
+        write(file, from, saved);
+        return from;
+    }
+
+    private static void write(Path file, long from, Long2ObjectMap<SavedSession> sessions) {
+        Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temporary))) {
+            out.writeInt(MAGIC);
+            out.writeLong(from);
+            out.writeInt(sessions.size());
+            for (Long2ObjectMap.Entry<SavedSession> entry : sessions.long2ObjectEntrySet()) {
+                byte[] snapshot = entry.getValue().snapshot();
+                out.writeLong(entry.getLongKey());
+                out.writeLong(entry.getValue().position());
+                out.writeByte(snapshot.length);
+                out.write(snapshot);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the checkpoint: " + file, e);
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replace the checkpoint: " + file, e);
+        }
+    }
+
+    /**
+     * Rebuilds the sessions that were in progress from the latest checkpoint and the journal tail.
+     * Rounds that were finished by the end of the journal are dropped.
+     *
+     * @param checkpoint The checkpoint file; a missing file replays the whole journal.
+     * @param journal    The journal directory.
+     * @param words      The word table the sessions play.
+     * @return The live sessions and the position to continue the journal at.
+     * @throws UncheckedIOException If the checkpoint or the journal cannot be read.
+     */
+    public static RecoveredSessions recover(Path checkpoint, Path journal, WordTable words) {
+        Long2ObjectOpenHashMap<GameEngine> sessions = new Long2ObjectOpenHashMap<>();
+        Long2LongOpenHashMap saved = new Long2LongOpenHashMap();
+        long from = readCheckpoint(checkpoint, sessions, saved, words);
+        long[] replayed = {0};
+        long position = EventJournal.replay(journal, from, event -> {
+            // Events up to the position a snapshot was saved at are already part of it
+            if (event.position() > saved.get(event.sessionId()) && apply(event, sessions, words)) {
+                ++replayed[0];
+            }
+        });
+        sessions.values().removeIf(engine -> engine.status().isOver());
+        return new RecoveredSessions(position, sessions, replayed[0]);
+    }
+
+    private static long readCheckpoint(Path file, Long2ObjectOpenHashMap<GameEngine> sessions,
+        Long2LongOpenHashMap saved, WordTable words) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            int magic = in.readInt();
+            if (magic != MAGIC && magic != MAGIC_V1) {
+                throw new IOException("Not a checkpoint");
+            }
+            long from = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long sessionId = in.readLong();
+                saved.put(sessionId, magic == MAGIC ? in.readLong() : from);
+                byte[] snapshot = in.readNBytes(in.readUnsignedByte());
+                sessions.put(sessionId, GameSnapshot.restore(snapshot, words));
+            }
+            return from;
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the checkpoint: " + file, e);
+        }
+    }
+
+    private static boolean apply(JournalEvent event, Long2ObjectOpenHashMap<GameEngine> sessions, WordTable words) {
+        if (event.type() == JournalEvent.Type.START) {
+            GameEngine engine = newEngine(words.word(event.wordId()));
+            engine.start(event.attempts());
+            sessions.put(event.sessionId(), engine);
+            return true;
+        }
+        GameEngine engine = sessions.get(event.sessionId());
+        if (engine == null || engine.status().isOver()) {
+            return false;
+        }
+        if (event.letter() == GameEngine.WRONG_WORD) {
+            // The wrong word itself is not journaled, so the miss is restored rather than replayed
+            GameEngine missed = newEngine(new String(engine.word().word()));
+            missed.resume(engine.attempts(), engine.guessedMask(), engine.misses() + 1);
+            sessions.put(event.sessionId(), missed);
+        } else {
+            engine.guess(event.letter());
+        }
+        return true;
+    }
+
+    private static GameEngine newEngine(String word) {
+        return new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(word));
+    }
+
+    /**
+     * The snapshot of a session in a checkpoint and the journal position it reflects.
+     */
+    private record SavedSession(long position, byte[] snapshot) {
+    }
+}
@@ -1,8 +1,11 @@
 package keyboard;
 
 import display.MutableLine;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import lombok.Getter;
+import metrics.Metrics;
 
 @Getter
 public class CapitalizedKeyboard implements Keyboard {
@@ -46,13 +49,45 @@ public class CapitalizedKeyboard implements Keyboard {
      * @return The number of replacements made.
      */
     public boolean crossOutLetter(String letter) {
-        String crossedOutLetter = highlightLetter(letter);
-        if (keyboardLine1.replaceContent(letter, crossedOutLetter) > 0) {
-            return true;
+        long start = Metrics.start();
+        try {
+            String crossedOutLetter = highlightLetter(letter);
+            if (keyboardLine1.replaceContent(letter, crossedOutLetter) > 0) {
+                return true;
+            }
+            if (keyboardLine2.replaceContent(letter, crossedOutLetter) > 0) {
+                return true;
+            }
+            return keyboardLine3.replaceContent(letter, crossedOutLetter) > 0;
+        } finally {
+            Metrics.stop(Metrics.Timer.CROSS_OUT_LETTER, start);
         }
-        if (keyboardLine2.replaceContent(letter, crossedOutLetter) > 0) {
-            return true;
+    }
+
+    /**
+     * Crosses out several letters with a single content update per keyboard line.
+     *
+     * @param letterMask The letters, bit {@code i} standing for letter {@code 'A' + i}.
+     */
+    @Override
+    public void crossOutLetters(int letterMask) {
+        crossOutLetters(keyboardLine1, letterMask);
+        crossOutLetters(keyboardLine2, letterMask);
+        crossOutLetters(keyboardLine3, letterMask);
+    }
+
+    private static void crossOutLetters(MutableLine<String> line, int letterMask) {
+        List<String> keys = new ArrayList<>(line.content());
+        boolean changed = false;
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            if (key.length() == 1 && (letterMask & (1 << (key.charAt(0) - 'A'))) != 0) {
+                keys.set(i, highlightLetter(key));
+                changed = true;
+            }
+        }
+        if (changed) {
+            line.setContent(keys);
         }
-        return keyboardLine3.replaceContent(letter, crossedOutLetter) > 0;
     }
 }
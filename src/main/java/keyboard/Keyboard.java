@@ -15,6 +15,17 @@ public interface Keyboard {
      */
     boolean crossOutLetter(String letter);
 
+    /**
+     * Crosses out several letters at once, as when a saved game is restored.
+     *
+     * @param letterMask The letters, bit {@code i} standing for letter {@code 'A' + i}.
+     */
+    default void crossOutLetters(int letterMask) {
+        for (int remaining = letterMask; remaining != 0; remaining &= remaining - 1) {
+            crossOutLetter(String.valueOf((char) ('A' + Integer.numberOfTrailingZeros(remaining))));
+        }
+    }
+
     /**
      * Retrieves the first line of the keyboard.
      *
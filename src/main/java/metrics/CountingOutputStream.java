@@ -0,0 +1,33 @@
+package metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes bytes through to a target stream and counts them, and the flushes, as output {@link Metrics}.
+ * Costs a branch per write while metrics are disabled.
+ */
+public final class CountingOutputStream extends FilterOutputStream {
+    public CountingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        Metrics.add(Metrics.Counter.OUTPUT_BYTES, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        Metrics.add(Metrics.Counter.OUTPUT_BYTES, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+        Metrics.add(Metrics.Counter.OUTPUT_FLUSHES, 1);
+    }
+}
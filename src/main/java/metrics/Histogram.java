@@ -0,0 +1,108 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent histogram of durations in nanoseconds with a bounded relative error, after HdrHistogram.
+ * <p>
+ * Values below 64 get a bucket each; above that, every power of two is split into 32 linear buckets,
+ * so a recorded value is off by at most 1/32 of itself. Values above about 36 minutes share the last bucket.
+ * Recording is one bucket index computed from the leading zero count and one atomic increment,
+ * with no allocation and no lock. Thread-safe.
+ */
+public final class Histogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int MAX_MAGNITUDE = 41;
+    private static final long MAX_VALUE = (1L << MAX_MAGNITUDE) - 1;
+    private static final int BUCKETS = bucket(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    static int bucket(long value) {
+        if (value < SUB_COUNT * 2) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - 1 - SUB_BITS;
+        return shift * SUB_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestValue(int bucket) {
+        if (bucket < SUB_COUNT * 2) {
+            return bucket;
+        }
+        int shift = bucket / SUB_COUNT - 1;
+        long sub = bucket % SUB_COUNT + SUB_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value The value, negative values counting as 0.
+     */
+    public void recordValue(long value) {
+        long clamped = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts.getAndIncrement(bucket(clamped));
+        sum.getAndAdd(clamped);
+        long largest = max.get();
+        while (clamped > largest && !max.compareAndSet(largest, clamped)) {
+            largest = max.get();
+        }
+    }
+
+    /**
+     * Copies the current counts. Values recorded meanwhile may or may not be included.
+     *
+     * @return The snapshot.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            copy[bucket] = counts.get(bucket);
+            count += copy[bucket];
+        }
+        return new Snapshot(copy, count, sum.get(), max.get());
+    }
+
+    /**
+     * Counts of a histogram at one point in time.
+     *
+     * @param counts The count of every bucket.
+     * @param count  The number of recorded values.
+     * @param sum    The sum of the recorded values.
+     * @param max    The largest recorded value.
+     */
+    public record Snapshot(long[] counts, long count, long sum, long max) {
+        /**
+         * Returns the value below or at which the given share of the recorded values lies.
+         *
+         * @param quantile The share, between 0 and 1.
+         * @return The highest value of the bucket holding the quantile, at most {@link #max()}; 0 if empty.
+         */
+        public long quantile(double quantile) {
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    return Math.min(highestValue(bucket), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Returns the mean of the recorded values.
+         *
+         * @return The mean, 0 if empty.
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package metrics;
+
+/**
+ * Switchable instrumentation of the game's hot paths.
+ * <p>
+ * Instrumented code brackets its work with {@link #start()} and {@link #stop(Timer, long)},
+ * or counts with {@link #add(Counter, long)}. While metrics are disabled, each of these calls is a load
+ * of one static field and a branch, without reading the clock; once {@link #enable()} installs a
+ * {@link MetricsRegistry}, durations go into its histograms. Thread-safe.
+ */
+public final class Metrics {
+    private static volatile MetricsRegistry registry;
+
+    private Metrics() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * The timed operations.
+     */
+    public enum Timer {
+        /**
+         * Revealing a guessed letter in the word.
+         */
+        PUSH_LETTER("hangman_push_letter"),
+        /**
+         * Crossing out a guessed letter on the keyboard.
+         */
+        CROSS_OUT_LETTER("hangman_cross_out_letter"),
+        /**
+         * Notifying the listeners of a changed line.
+         */
+        LINE_NOTIFY("hangman_line_notify"),
+        /**
+         * Redrawing one line of the console display.
+         */
+        UPDATE_LINE("hangman_update_line"),
+        /**
+         * Waiting for input to arrive.
+         */
+        INPUT_WAIT("hangman_input_wait");
+
+        private final String metricName;
+
+        Timer(String metricName) {
+            this.metricName = metricName;
+        }
+
+        /**
+         * Returns the Prometheus name of the timer, without unit.
+         *
+         * @return The name.
+         */
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    /**
+     * The counted quantities.
+     */
+    public enum Counter {
+        /**
+         * Bytes written to the console or a session connection.
+         */
+        OUTPUT_BYTES("hangman_output_bytes_total"),
+        /**
+         * Flushes of the console or a session connection.
+         */
+        OUTPUT_FLUSHES("hangman_output_flushes_total");
+
+        private final String metricName;
+
+        Counter(String metricName) {
+            this.metricName = metricName;
+        }
+
+        /**
+         * Returns the Prometheus name of the counter.
+         *
+         * @return The name.
+         */
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    /**
+     * Starts collecting metrics into a new registry, unless they are collected already,
+     * and makes them readable over JMX as {@value MetricsBean#OBJECT_NAME}.
+     *
+     * @return The registry collecting the metrics.
+     */
+    public static synchronized MetricsRegistry enable() {
+        if (registry == null) {
+            MetricsBean.register();
+            registry = new MetricsRegistry();
+        }
+        return registry;
+    }
+
+    /**
+     * Stops collecting metrics. Readers of the former registry keep its last values.
+     */
+    public static synchronized void disable() {
+        registry = null;
+    }
+
+    /**
+     * Returns the registry collecting the metrics.
+     *
+     * @return The registry, or {@code null} if metrics are disabled.
+     */
+    public static MetricsRegistry registry() {
+        return registry;
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return The start time to pass to {@link #stop(Timer, long)}, or 0 if metrics are disabled.
+     */
+    public static long start() {
+        return registry != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param timer The operation.
+     * @param start The value {@link #start()} returned before the operation.
+     */
+    public static void stop(Timer timer, long start) {
+        MetricsRegistry current = registry;
+        if (current != null && start != 0) {
+            current.histogram(timer).recordValue(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Adds to a counter.
+     *
+     * @param counter The counter.
+     * @param amount  The amount to add.
+     */
+    public static void add(Counter counter, long amount) {
+        MetricsRegistry current = registry;
+        if (current != null) {
+            current.add(counter, amount);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The {@link MetricsMXBean} of the platform MBean server, reading whichever registry is current.
+ */
+final class MetricsBean implements MetricsMXBean {
+    static final String OBJECT_NAME = "hangman:type=Metrics";
+    private static final double MEDIAN = 0.5;
+    private static final double P99 = 0.99;
+
+    /**
+     * Registers the bean with the platform MBean server, unless it is registered already.
+     *
+     * @throws IllegalStateException If the registration fails.
+     */
+    static void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsBean(), name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the metrics MBean", e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return Metrics.registry() != null;
+    }
+
+    @Override
+    public long getOutputBytes() {
+        MetricsRegistry registry = Metrics.registry();
+        return registry != null ? registry.count(Metrics.Counter.OUTPUT_BYTES) : 0;
+    }
+
+    @Override
+    public long getOutputFlushes() {
+        MetricsRegistry registry = Metrics.registry();
+        return registry != null ? registry.count(Metrics.Counter.OUTPUT_FLUSHES) : 0;
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return byTimer(Histogram.Snapshot::count);
+    }
+
+    @Override
+    public Map<String, Long> getMedianNanos() {
+        return byTimer(snapshot -> snapshot.quantile(MEDIAN));
+    }
+
+    @Override
+    public Map<String, Long> getP99Nanos() {
+        return byTimer(snapshot -> snapshot.quantile(P99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxNanos() {
+        return byTimer(Histogram.Snapshot::max);
+    }
+
+    private static Map<String, Long> byTimer(ToLongFunction<Histogram.Snapshot> value) {
+        Map<String, Long> values = new TreeMap<>();
+        MetricsRegistry registry = Metrics.registry();
+        if (registry != null) {
+            registry.snapshots().forEach((timer, snapshot) ->
+                values.put(timer.metricName(), value.applyAsLong(snapshot)));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,58 @@
+package metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the current {@link Metrics}, registered as {@code hangman:type=Metrics}.
+ * Timer values are keyed by the Prometheus name of the timer; everything reads 0 while metrics are disabled.
+ */
+public interface MetricsMXBean {
+    /**
+     * Returns whether metrics are collected.
+     *
+     * @return {@code true} if enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the bytes written to the console or session connections.
+     *
+     * @return The bytes.
+     */
+    long getOutputBytes();
+
+    /**
+     * Returns the flushes of the console or session connections.
+     *
+     * @return The flushes.
+     */
+    long getOutputFlushes();
+
+    /**
+     * Returns the number of timed operations.
+     *
+     * @return The counts by timer.
+     */
+    Map<String, Long> getCounts();
+
+    /**
+     * Returns the median durations.
+     *
+     * @return The nanoseconds by timer.
+     */
+    Map<String, Long> getMedianNanos();
+
+    /**
+     * Returns the 99th percentile durations.
+     *
+     * @return The nanoseconds by timer.
+     */
+    Map<String, Long> getP99Nanos();
+
+    /**
+     * Returns the longest durations.
+     *
+     * @return The nanoseconds by timer.
+     */
+    Map<String, Long> getMaxNanos();
+}
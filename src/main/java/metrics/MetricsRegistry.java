@@ -0,0 +1,97 @@
+package metrics;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import util.Nanos;
+
+/**
+ * The histograms and counters of {@link Metrics}, one per timer and counter. Thread-safe.
+ */
+public final class MetricsRegistry {
+    private static final String TYPE = "# TYPE ";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Histogram[] histograms = new Histogram[Metrics.Timer.values().length];
+    private final LongAdder[] counters = new LongAdder[Metrics.Counter.values().length];
+
+    MetricsRegistry() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns the histogram of a timer, in nanoseconds.
+     *
+     * @param timer The timer.
+     * @return The histogram.
+     */
+    public Histogram histogram(Metrics.Timer timer) {
+        return histograms[timer.ordinal()];
+    }
+
+    /**
+     * Adds to a counter.
+     *
+     * @param counter The counter.
+     * @param amount  The amount to add.
+     */
+    public void add(Metrics.Counter counter, long amount) {
+        counters[counter.ordinal()].add(amount);
+    }
+
+    /**
+     * Returns the value of a counter.
+     *
+     * @param counter The counter.
+     * @return The value.
+     */
+    public long count(Metrics.Counter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    /**
+     * Takes a snapshot of every histogram.
+     *
+     * @return The snapshots by timer.
+     */
+    public Map<Metrics.Timer, Histogram.Snapshot> snapshots() {
+        Map<Metrics.Timer, Histogram.Snapshot> snapshots = new EnumMap<>(Metrics.Timer.class);
+        for (Metrics.Timer timer : Metrics.Timer.values()) {
+            snapshots.put(timer, histogram(timer).snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Writes all metrics in the Prometheus text exposition format, timers as summaries in seconds.
+     *
+     * @param out Receives the text.
+     */
+    public void writePrometheus(StringBuilder out) {
+        for (Map.Entry<Metrics.Timer, Histogram.Snapshot> entry : snapshots().entrySet()) {
+            String name = entry.getKey().metricName() + "_seconds";
+            Histogram.Snapshot snapshot = entry.getValue();
+            out.append(TYPE).append(name).append(" summary\n");
+            for (double quantile : QUANTILES) {
+                out.append(name).append("{quantile=\"").append(quantile).append("\"} ")
+                    .append(seconds(snapshot.quantile(quantile))).append('\n');
+            }
+            out.append(name).append("_sum ").append(seconds(snapshot.sum())).append('\n');
+            out.append(name).append("_count ").append(snapshot.count()).append('\n');
+        }
+        for (Metrics.Counter counter : Metrics.Counter.values()) {
+            out.append(TYPE).append(counter.metricName()).append(" counter\n");
+            out.append(counter.metricName()).append(' ').append(count(counter)).append('\n');
+        }
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", Nanos.toSeconds(nanos));
+    }
+}
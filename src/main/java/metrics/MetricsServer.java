@@ -0,0 +1,77 @@
+package metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves {@code GET /metrics} in the Prometheus text format on the loopback address.
+ * Requests are answered on the server's dispatcher thread; a scrape only reads counters.
+ */
+public final class MetricsServer implements AutoCloseable {
+    private static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final int OK = 200;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+
+    private final HttpServer server;
+
+    /**
+     * Starts serving the metrics.
+     *
+     * @param port The port, 0 for any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public MetricsServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    /**
+     * Returns the bound port.
+     *
+     * @return The port.
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(NOT_FOUND, -1);
+            } else if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(METHOD_NOT_ALLOWED, -1);
+            } else {
+                writeMetrics(exchange);
+            }
+        }
+    }
+
+    private static void writeMetrics(HttpExchange exchange) throws IOException {
+        StringBuilder text = new StringBuilder();
+        MetricsRegistry registry = Metrics.registry();
+        if (registry != null) {
+            registry.writePrometheus(text);
+        }
+        byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(OK, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
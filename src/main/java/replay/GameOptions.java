@@ -0,0 +1,11 @@
+package replay;
+
+/**
+ * How a recorded game read its input and helped its player; a replay sets the game up the same way.
+ *
+ * @param keystrokeInput  Whether the input was read keystroke by keystroke.
+ * @param hints           Whether hint requests were answered.
+ * @param dictionaryCheck Whether full-word guesses were checked against the dictionary.
+ */
+public record GameOptions(boolean keystrokeInput, boolean hints, boolean dictionaryCheck) {
+}
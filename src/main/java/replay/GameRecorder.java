@@ -0,0 +1,44 @@
+package replay;
+
+import game.Game;
+import java.io.InputStream;
+import util.HangmanWords;
+
+/**
+ * Records a console game while it is played: the seed and word it was set up with,
+ * every byte of input with the time it arrived, and how the game ended.
+ */
+public final class GameRecorder {
+    // Private constructor to prevent instantiation
+    private GameRecorder() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Plays a built game on {@code System.in} and records it.
+     * The word must be fixed for the whole game, so evil games cannot be recorded.
+     *
+     * @param game         The built game.
+     * @param hangmanWords The word lists the word was chosen from, to take the seed of.
+     * @param categoryId   The category the word was chosen from, 0 if random or given.
+     * @param attempts     The number of misses allowed.
+     * @return The recording.
+     */
+    public static GameRecording recordGame(Game game, HangmanWords hangmanWords, int categoryId, int attempts) {
+        String word = new String(game.engine().word().word());
+        InputStream console = System.in;
+        RecordingInputStream recording = new RecordingInputStream(console);
+        // The shared console reader is recreated on top of the replaced stream
+        System.setIn(recording);
+        try {
+            game.start(attempts);
+        } finally {
+            System.setIn(console);
+        }
+        // Keystroke input falls back to lines when stdin is not a terminal, the replay has to do the same
+        GameOptions options = new GameOptions(game.inputHandler().keystrokeMode(), game.hintsEnabled(),
+            game.engine().dictionary() != null);
+        return new GameRecording(hangmanWords.seed(), categoryId, attempts, word, options, recording.chunks(),
+            game.engine().status(), game.engine().misses());
+    }
+}
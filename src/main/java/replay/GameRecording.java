@@ -0,0 +1,186 @@
+package replay;
+
+import game.GameStatus;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything needed to play a console game again exactly as it was played.
+ * <p>
+ * The replay file is binary:
+ * <pre>
+ * int     magic "HGRC"
+ * byte    version
+ * byte    flags, bit 0 set when a seed follows, bit 1 for keystroke input, bit 2 for hints,
+ *         bit 3 for the dictionary check
+ * long    seed, if flagged
+ * byte    category id, attempts, word length, then the word in ASCII
+ * byte    final status ordinal, final misses
+ * varint  chunk count, then per chunk: microseconds since the previous chunk, length, bytes
+ * </pre>
+ * A typical game of a dozen guesses takes well under a hundred bytes.
+ * Version 1 recordings predate the hint and dictionary check bits and had both enabled.
+ *
+ * @param seed           The seed of the word choice, or {@code null} if the generator was not seeded.
+ * @param categoryId     The category the word was taken from, 0 if random or given.
+ * @param attempts       The number of misses allowed.
+ * @param word           The uppercase word.
+ * @param options        How the input was read and whether hints and the dictionary check were enabled.
+ * @param input          The input as it arrived.
+ * @param status         The status the game ended with.
+ * @param misses         The misses the game ended with.
+ */
+public record GameRecording(
+    Long seed,
+    int categoryId,
+    int attempts,
+    String word,
+    GameOptions options,
+    List<InputChunk> input,
+    GameStatus status,
+    int misses
+) {
+    private static final int MAGIC = 0x48475243;
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_OPTIONS = 1;
+    private static final int FLAG_SEED = 1;
+    private static final int FLAG_KEYSTROKES = 2;
+    private static final int FLAG_HINTS = 4;
+    private static final int FLAG_DICTIONARY_CHECK = 8;
+    private static final int VARINT_PAYLOAD = 0x7F;
+    private static final int VARINT_MORE = 0x80;
+    private static final int VARINT_SHIFT = 7;
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    /**
+     * Writes the recording to a stream.
+     *
+     * @param stream The stream; not closed.
+     * @throws IOException If writing fails.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte((seed != null ? FLAG_SEED : 0) | (options.keystrokeInput() ? FLAG_KEYSTROKES : 0)
+            | (options.hints() ? FLAG_HINTS : 0) | (options.dictionaryCheck() ? FLAG_DICTIONARY_CHECK : 0));
+        if (seed != null) {
+            out.writeLong(seed);
+        }
+        out.writeByte(categoryId);
+        out.writeByte(attempts);
+        byte[] letters = word.getBytes(StandardCharsets.US_ASCII);
+        out.writeByte(letters.length);
+        out.write(letters);
+        out.writeByte(status.ordinal());
+        out.writeByte(misses);
+        writeVarint(out, input.size());
+        long previous = 0;
+        for (InputChunk chunk : input) {
+            writeVarint(out, chunk.offsetMicros() - previous);
+            writeVarint(out, chunk.bytes().length);
+            out.write(chunk.bytes());
+            previous = chunk.offsetMicros();
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the recording to a file, replacing it.
+     *
+     * @param file The replay file.
+     * @throws IOException If writing fails.
+     */
+    public void write(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a recording from a stream.
+     *
+     * @param stream The stream, positioned at the recording; not closed.
+     * @return The recording.
+     * @throws IOException If reading fails or the stream does not hold a recording.
+     */
+    public static GameRecording read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a game recording");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION && version != VERSION_WITHOUT_OPTIONS) {
+            throw new IOException("Unsupported recording version: " + version);
+        }
+        int flags = in.readUnsignedByte();
+        if (version == VERSION_WITHOUT_OPTIONS) {
+            flags |= FLAG_HINTS | FLAG_DICTIONARY_CHECK;
+        }
+        Long seed = (flags & FLAG_SEED) != 0 ? in.readLong() : null;
+        int categoryId = in.readUnsignedByte();
+        int attempts = in.readUnsignedByte();
+        String word = new String(in.readNBytes(in.readUnsignedByte()), StandardCharsets.US_ASCII);
+        int statusOrdinal = in.readUnsignedByte();
+        if (statusOrdinal >= STATUSES.length) {
+            throw new IOException("Unknown game status: " + statusOrdinal);
+        }
+        int misses = in.readUnsignedByte();
+        int count = (int) readVarint(in);
+        List<InputChunk> input = new ArrayList<>(count);
+        long offset = 0;
+        for (int i = 0; i < count; i++) {
+            offset += readVarint(in);
+            byte[] bytes = in.readNBytes((int) readVarint(in));
+            input.add(new InputChunk(offset, bytes));
+        }
+        GameOptions options = new GameOptions((flags & FLAG_KEYSTROKES) != 0, (flags & FLAG_HINTS) != 0,
+            (flags & FLAG_DICTIONARY_CHECK) != 0);
+        return new GameRecording(seed, categoryId, attempts, word, options, List.copyOf(input),
+            STATUSES[statusOrdinal], misses);
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file The replay file.
+     * @return The recording.
+     * @throws IOException If reading fails or the file does not hold a recording.
+     */
+    public static GameRecording read(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        long rest = value;
+        while ((rest & ~VARINT_PAYLOAD) != 0) {
+            out.writeByte((int) (rest & VARINT_PAYLOAD) | VARINT_MORE);
+            rest >>>= VARINT_SHIFT;
+        }
+        out.writeByte((int) rest);
+    }
+
+    private static long readVarint(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += VARINT_SHIFT) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & VARINT_PAYLOAD) << shift;
+            if ((b & VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
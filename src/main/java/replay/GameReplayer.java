@@ -0,0 +1,80 @@
+package replay;
+
+import game.Game;
+import handlers.InputReader;
+import handlers.OutputHandler;
+import hangman.SimpleHangman;
+import hint.HintEngine;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import keyboard.CapitalizedKeyboard;
+import util.WordDictionary;
+import word.CapitalizedWord;
+
+/**
+ * Plays recorded games again through the full console game, set up the way the launcher sets it up.
+ * A replay runs on the calling thread with the recorded input bound to it, so replays can run
+ * on many threads at once. Thread-safe.
+ */
+public final class GameReplayer {
+    // Recorded games are a few hundred bytes of input at most
+    private static final int INPUT_BUFFER = 256;
+
+    private final HintEngine hints;
+    private final WordDictionary dictionary;
+
+    /**
+     * Constructs a replayer.
+     *
+     * @param hints      The hint engine the recorded games had, shared by all replays.
+     * @param dictionary The dictionary the recorded games checked full-word guesses against.
+     */
+    public GameReplayer(HintEngine hints, WordDictionary dictionary) {
+        this.hints = hints;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Replays a recording without rendering it, as fast as possible.
+     *
+     * @param recording The recording.
+     * @return How the replayed game ended.
+     */
+    public ReplayResult replay(GameRecording recording) {
+        return replay(recording, false, new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Replays a recording.
+     *
+     * @param recording The recording.
+     * @param realTime  Whether to pass each input at the time it was recorded rather than at once.
+     * @param out       Where the game is rendered.
+     * @return How the replayed game ended.
+     */
+    public ReplayResult replay(GameRecording recording, boolean realTime, PrintStream out) {
+        Game game = new Game(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(recording.word()));
+        if (recording.options().hints()) {
+            game.enableHints(hints, recording.categoryId());
+        }
+        if (recording.options().dictionaryCheck()) {
+            game.enableDictionaryCheck(dictionary);
+        }
+        if (recording.options().keystrokeInput()) {
+            game.enableKeystrokeInput();
+        }
+        game.build();
+
+        InputReader.bind(new InputReader(new ReplayInputStream(recording.input(), realTime), INPUT_BUFFER));
+        OutputHandler.bind(out);
+        try {
+            game.start(recording.attempts());
+        } finally {
+            OutputHandler.flush();
+            OutputHandler.unbind();
+            InputReader.unbind();
+        }
+        return new ReplayResult(game.engine().status(), game.engine().misses(),
+            game.engine().status() == recording.status() && game.engine().misses() == recording.misses());
+    }
+}
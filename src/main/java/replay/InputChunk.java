@@ -0,0 +1,10 @@
+package replay;
+
+/**
+ * Bytes that arrived on the input together.
+ *
+ * @param offsetMicros The time they arrived, in microseconds since the game started.
+ * @param bytes        The bytes, exactly as read.
+ */
+public record InputChunk(long offsetMicros, byte[] bytes) {
+}
@@ -0,0 +1,48 @@
+package replay;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Passes the bytes of a stream through and keeps a copy of every read, with the time it returned.
+ */
+final class RecordingInputStream extends FilterInputStream {
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final long startNanos = System.nanoTime();
+    private final List<InputChunk> chunks = new ArrayList<>();
+
+    RecordingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            recordChunk(new byte[] {(byte) b});
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = super.read(b, off, len);
+        if (count > 0) {
+            recordChunk(Arrays.copyOfRange(b, off, off + count));
+        }
+        return count;
+    }
+
+    private void recordChunk(byte[] bytes) {
+        chunks.add(new InputChunk((System.nanoTime() - startNanos) / NANOS_PER_MICRO, bytes));
+    }
+
+    List<InputChunk> chunks() {
+        return chunks;
+    }
+}
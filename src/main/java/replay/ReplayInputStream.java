@@ -0,0 +1,65 @@
+package replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.List;
+
+/**
+ * Serves recorded input chunks, one chunk per read, either as fast as they are read
+ * or each at the time it originally arrived.
+ */
+final class ReplayInputStream extends InputStream {
+    private static final long NANOS_PER_MICRO = 1000;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final int BYTE = 0xFF;
+
+    private final List<InputChunk> chunks;
+    private final boolean realTime;
+    private final long startNanos = System.nanoTime();
+    private int chunk;
+    private int position;
+
+    ReplayInputStream(List<InputChunk> chunks, boolean realTime) {
+        this.chunks = chunks;
+        this.realTime = realTime;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        return read(one, 0, 1) < 0 ? -1 : one[0] & BYTE;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (chunk == chunks.size()) {
+            return -1;
+        }
+        InputChunk current = chunks.get(chunk);
+        if (position == 0 && realTime) {
+            awaitArrival(current.offsetMicros());
+        }
+        int count = Math.min(len, current.bytes().length - position);
+        System.arraycopy(current.bytes(), position, b, off, count);
+        position += count;
+        if (position == current.bytes().length) {
+            ++chunk;
+            position = 0;
+        }
+        return count;
+    }
+
+    private void awaitArrival(long offsetMicros) throws InterruptedIOException {
+        long remainingNanos = offsetMicros * NANOS_PER_MICRO - (System.nanoTime() - startNanos);
+        if (remainingNanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remainingNanos / NANOS_PER_MILLI, (int) (remainingNanos % NANOS_PER_MILLI));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Replay was interrupted");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package replay;
+
+import handlers.OutputHandler;
+import hint.HintEngine;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import lombok.experimental.UtilityClass;
+import util.HangmanWords;
+import util.Nanos;
+import util.WordDictionary;
+
+/**
+ * Entry point for replays.
+ * Usage: {@code ReplayMain <replay file> [repeat]}.
+ * Without a repeat count the game is shown again at the speed it was played;
+ * with one it is replayed that many times headless on all cores, as a benchmark workload.
+ * Recordings are replayed with the default word lists as the dictionary.
+ */
+@UtilityClass
+public class ReplayMain {
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            OutputHandler.println("Usage: ReplayMain <replay file> [repeat]");
+        } else {
+            GameRecording recording = GameRecording.read(Path.of(args[0]));
+            HangmanWords hangmanWords = new HangmanWords();
+            GameReplayer replayer = new GameReplayer(new HintEngine(hangmanWords), WordDictionary.of(hangmanWords));
+            if (args.length == 1) {
+                show(replayer, recording);
+            } else {
+                repeat(replayer, recording, Integer.parseInt(args[1]));
+            }
+        }
+        OutputHandler.flush();
+    }
+
+    private static void show(GameReplayer replayer, GameRecording recording) {
+        ReplayResult result = replayer.replay(recording, true, OutputHandler.printStream());
+        OutputHandler.printf(Locale.ROOT, "%nReplayed %s with %d misses, %s%n", result.status(), result.misses(),
+            result.reproduced() ? "as recorded" : "recorded " + recording.status() + " with "
+                + recording.misses() + " misses");
+    }
+
+    private static void repeat(GameReplayer replayer, GameRecording recording, int repeat) {
+        LongAdder diverged = new LongAdder();
+        long startTime = System.nanoTime();
+        IntStream.range(0, repeat).parallel().forEach(i -> {
+            if (!replayer.replay(recording).reproduced()) {
+                diverged.increment();
+            }
+        });
+        double seconds = Nanos.toSeconds(System.nanoTime() - startTime);
+        OutputHandler.printf(Locale.ROOT, "%d replays, %d diverged, %.3f s, %.0f games/s%n",
+            repeat, diverged.sum(), seconds, repeat / seconds);
+    }
+}
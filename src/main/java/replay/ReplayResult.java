@@ -0,0 +1,13 @@
+package replay;
+
+import game.GameStatus;
+
+/**
+ * How a replayed game ended.
+ *
+ * @param status     The final status.
+ * @param misses     The final number of misses.
+ * @param reproduced Whether the game ended exactly like the recorded one.
+ */
+public record ReplayResult(GameStatus status, int misses, boolean reproduced) {
+}
@@ -0,0 +1,38 @@
+package server;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Translates every {@code \n} to {@code \r\n}, the line terminator of network virtual terminals.
+ * Without it telnet clients move down without returning to the first column.
+ */
+class CrlfOutputStream extends FilterOutputStream {
+
+    CrlfOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (b == '\n') {
+            out.write('\r');
+        }
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        int start = off;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            if (b[i] == '\n') {
+                out.write(b, start, i - start);
+                out.write('\r');
+                start = i;
+            }
+        }
+        out.write(b, start, end - start);
+    }
+}
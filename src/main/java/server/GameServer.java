@@ -0,0 +1,192 @@
+package server;
+
+import handlers.OutputHandler;
+import hint.HintEngine;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import session.WordTable;
+import stats.GameStats;
+import util.HangmanWords;
+import util.WordDictionary;
+
+/**
+ * A TCP server that plays one game per connection, for telnet or netcat clients.
+ * Every session runs on its own virtual thread, so blocking reads cost no platform thread
+ * and tens of thousands of mostly idle sessions fit into one JVM.
+ * Word lists, hint tables and the dictionary are built once and shared by all sessions,
+ * and every finished game is counted in the shared {@link GameStats}.
+ */
+public class GameServer implements AutoCloseable {
+    private static final int BACKLOG = 4096;
+    private static final int LEADERBOARD_SIZE = 10;
+    private static final int LEADERBOARD_MIN_PLAYS = 20;
+    private static final byte[] SERVER_FULL =
+        "Server is full, try again later.\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    @Getter private final HangmanWords hangmanWords;
+    @Getter private final HintEngine hintEngine;
+    @Getter private final WordDictionary dictionary;
+    @Getter private final WordTable wordTable;
+    @Getter private final GameStats stats;
+    @Getter private final int categoryId;
+    @Getter private final int attempts;
+    @Getter private final int maxSessions;
+    @Getter private final int idleTimeoutMillis;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicLong nextSessionId = new AtomicLong(1);
+    private final LongAdder completedSessions = new LongAdder();
+    private final LongAdder rejectedSessions = new LongAdder();
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+
+    /**
+     * Constructs a server; no port is bound until {@link #start(InetAddress, int)} is called.
+     *
+     * @param hangmanWords      The words to choose from.
+     * @param categoryId        The category of the words, 0 for all categories.
+     * @param attempts          The attempt count of every game.
+     * @param maxSessions       The number of concurrent sessions above which connections are turned away.
+     * @param idleTimeoutMillis How long a session may wait for input before it is closed.
+     */
+    public GameServer(HangmanWords hangmanWords, int categoryId, int attempts, int maxSessions,
+        int idleTimeoutMillis) {
+        this.hangmanWords = hangmanWords;
+        this.hintEngine = new HintEngine(hangmanWords);
+        this.dictionary = WordDictionary.of(hangmanWords);
+        this.wordTable = WordTable.of(hangmanWords);
+        this.stats = new GameStats(wordTable, LEADERBOARD_SIZE, LEADERBOARD_MIN_PLAYS);
+        this.categoryId = categoryId;
+        this.attempts = attempts;
+        this.maxSessions = maxSessions;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * Binds the port and starts accepting connections in the background.
+     *
+     * @param address The local address to bind, {@code null} for all addresses.
+     * @param port    The port, 0 for any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public void start(InetAddress address, int port) throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("The server is already started!");
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(address, port), BACKLOG);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        Thread.ofVirtual().name("hangman-accept").start(this::acceptLoop);
+    }
+
+    /**
+     * Returns the bound port.
+     *
+     * @return The port.
+     */
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of sessions currently being played.
+     *
+     * @return The active session count.
+     */
+    public int activeSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Returns the number of sessions that have ended, for any reason.
+     *
+     * @return The completed session count.
+     */
+    public long completedSessions() {
+        return completedSessions.sum();
+    }
+
+    /**
+     * Returns the number of connections turned away because the server was full.
+     *
+     * @return The rejected connection count.
+     */
+    public long rejectedSessions() {
+        return rejectedSessions.sum();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    OutputHandler.println("Accepting a connection failed: " + e.getMessage());
+                }
+                continue;
+            }
+            if (activeSessions.incrementAndGet() > maxSessions) {
+                activeSessions.decrementAndGet();
+                reject(socket);
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    new GameSession(socket, this).run();
+                } finally {
+                    activeSessions.decrementAndGet();
+                    completedSessions.increment();
+                }
+            });
+        }
+    }
+
+    /**
+     * Numbers a new session, for tagging its Flight Recorder events.
+     *
+     * @return The session id.
+     */
+    long nextSessionId() {
+        return nextSessionId.getAndIncrement();
+    }
+
+    private void reject(Socket socket) {
+        rejectedSessions.increment();
+        try (socket; OutputStream out = socket.getOutputStream()) {
+            out.write(SERVER_FULL);
+        } catch (IOException e) {
+            // The client is turned away either way
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes all sessions.
+     *
+     * @throws IOException If closing the server socket fails.
+     */
+    @Override
+    public void close() throws IOException {
+        if (serverSocket == null) {
+            return;
+        }
+        serverSocket.close();
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
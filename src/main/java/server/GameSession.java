@@ -0,0 +1,80 @@
+package server;
+
+import game.Game;
+import handlers.InputReader;
+import handlers.OutputHandler;
+import hangman.SimpleHangman;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import jfr.FrameOutputStream;
+import jfr.GameEvents;
+import keyboard.CapitalizedKeyboard;
+import metrics.CountingOutputStream;
+import word.CapitalizedWord;
+
+/**
+ * One game played over one connection.
+ * The session binds its own input reader and output stream to the thread it runs on, so the game
+ * renders through {@link OutputHandler} and reads through {@link InputReader#stdin()} exactly as it
+ * does on the console, without touching {@code System.in} or the shared print stream.
+ * Both buffers are small and fixed, which keeps the memory of an idle session bounded.
+ */
+class GameSession implements Runnable {
+    private static final int INPUT_BUFFER = 256;
+    private static final int OUTPUT_BUFFER = 2048;
+
+    private final Socket socket;
+    private final GameServer server;
+
+    GameSession(Socket socket, GameServer server) {
+        this.socket = socket;
+        this.server = server;
+    }
+
+    @Override
+    public void run() {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(server.idleTimeoutMillis());
+            InputReader reader = new InputReader(socket.getInputStream(), INPUT_BUFFER);
+            PrintStream out = new PrintStream(
+                new FrameOutputStream(new CountingOutputStream(
+                    new BufferedOutputStream(new CrlfOutputStream(socket.getOutputStream()), OUTPUT_BUFFER))),
+                false,
+                StandardCharsets.UTF_8
+            );
+            InputReader.bind(reader);
+            OutputHandler.bind(out);
+            GameEvents.bindSession(server.nextSessionId());
+            try {
+                play();
+            } finally {
+                out.flush();
+                GameEvents.unbindSession();
+                OutputHandler.unbind();
+                InputReader.unbind();
+            }
+        } catch (IOException e) {
+            // The client went away, closing the socket is all that is left to do
+        }
+    }
+
+    private void play() {
+        int categoryId = server.categoryId();
+        String word = server.hangmanWords().getRandomWord(categoryId).toUpperCase(Locale.ROOT);
+        Game game = new Game(
+            new SimpleHangman(),
+            new CapitalizedKeyboard(),
+            new CapitalizedWord(word)
+        );
+        game.enableHints(server.hintEngine(), categoryId);
+        game.enableDictionaryCheck(server.dictionary());
+        game.engine().guessListener(server.stats().listener(game.engine(), categoryId, server.wordTable().id(word)));
+        game.build();
+        game.start(server.attempts());
+    }
+}
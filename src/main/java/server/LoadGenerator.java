@@ -0,0 +1,170 @@
+package server;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import simulation.FrequencyGuessStrategy;
+
+/**
+ * Plays many concurrent sessions against a {@link GameServer}, one virtual thread per client.
+ * All clients connect first and wait for each other, so the server holds every session at the same time;
+ * then each one guesses letters in frequency order, pausing between guesses, until the server ends the game.
+ * A guess round trip is measured from sending the letter to receiving the next prompt.
+ */
+public class LoadGenerator {
+    private static final byte[] PROMPT = "Enter letter or word: ".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_PENDING_CONNECTS = 256;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+
+    private final InetSocketAddress address;
+    private final int sessions;
+    private final long thinkMillis;
+    private final Semaphore pendingConnects = new Semaphore(MAX_PENDING_CONNECTS);
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder guesses = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * Constructs a load generator.
+     *
+     * @param address     The server address.
+     * @param sessions    The number of concurrent sessions.
+     * @param thinkMillis The pause before every guess.
+     */
+    public LoadGenerator(InetSocketAddress address, int sessions, long thinkMillis) {
+        this.address = address;
+        this.sessions = sessions;
+        this.thinkMillis = thinkMillis;
+    }
+
+    /**
+     * Runs all sessions to completion.
+     *
+     * @param onAllConnected Called once every session has connected or failed, while all are still open.
+     * @return The report.
+     * @throws InterruptedException If interrupted while waiting for the sessions.
+     */
+    public LoadReport run(Runnable onAllConnected) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(sessions);
+        CountDownLatch go = new CountDownLatch(1);
+        long startTime = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                clients.execute(() -> playSession(ready, go));
+            }
+            ready.await();
+            onAllConnected.run();
+            go.countDown();
+        }
+        return new LoadReport(
+            sessions,
+            connected.sum(),
+            completed.sum(),
+            failed.sum(),
+            guesses.sum(),
+            totalLatency.sum(),
+            maxLatency.get(),
+            System.nanoTime() - startTime
+        );
+    }
+
+    private void playSession(CountDownLatch ready, CountDownLatch go) {
+        boolean counted = false;
+        try (Socket socket = new Socket()) {
+            connect(socket);
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            boolean finished = false;
+            if (awaitPrompt(in)) {
+                connected.increment();
+                ready.countDown();
+                counted = true;
+                go.await();
+                finished = playGuesses(in, out);
+            }
+            if (finished) {
+                completed.increment();
+            } else {
+                failed.increment();
+            }
+        } catch (IOException e) {
+            failed.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!counted) {
+                ready.countDown();
+            }
+        }
+    }
+
+    // Returns whether the game ended before the guesses ran out
+    private boolean playGuesses(InputStream in, OutputStream out) throws IOException, InterruptedException {
+        byte[] guess = {0, '\r', '\n'};
+        for (int i = 0; i < FrequencyGuessStrategy.ORDER.length(); i++) {
+            Thread.sleep(thinkMillis);
+            guess[0] = (byte) FrequencyGuessStrategy.ORDER.charAt(i);
+            long sent = System.nanoTime();
+            out.write(guess);
+            out.flush();
+            boolean prompted = awaitPrompt(in);
+            recordLatency(System.nanoTime() - sent);
+            if (!prompted) {
+                // The server closes the connection after the final frame
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void connect(Socket socket) throws IOException, InterruptedException {
+        // Bounds the connection burst, so the server backlog is not overrun
+        pendingConnects.acquire();
+        try {
+            socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+        } finally {
+            pendingConnects.release();
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        guesses.increment();
+        totalLatency.add(nanos);
+        maxLatency.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Skips the output up to and including the next prompt.
+     *
+     * @return {@code true} if a prompt was read, {@code false} if the connection ended first.
+     */
+    private static boolean awaitPrompt(InputStream in) throws IOException {
+        int matched = 0;
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (b == PROMPT[matched]) {
+                if (++matched == PROMPT.length) {
+                    return true;
+                }
+            } else {
+                // The prompt starts with a letter that does not recur in it
+                matched = b == PROMPT[0] ? 1 : 0;
+            }
+        }
+        return false;
+    }
+}
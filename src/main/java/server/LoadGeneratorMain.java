@@ -0,0 +1,83 @@
+package server;
+
+import handlers.OutputHandler;
+import hangman.Hangman;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import lombok.experimental.UtilityClass;
+import util.CommandLine;
+import util.HangmanWords;
+import util.Nanos;
+
+/**
+ * Entry point for load tests; see {@link LoadGeneratorOptions} for the flags, or run with {@code --help}.
+ * Without a port an embedded server is started, and the heap held per open session is reported;
+ * that figure includes the client side, so it is an upper bound for the server alone.
+ * Every session needs two file descriptors in embedded mode, so raise {@code ulimit -n} accordingly.
+ */
+@UtilityClass
+public class LoadGeneratorMain {
+    private static final int IDLE_TIMEOUT_MILLIS = 60_000;
+    private static final double BYTES_PER_KIB = 1024.0;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadGeneratorOptions options = new LoadGeneratorOptions();
+        if (!CommandLine.parse("hangman-load", options, args)) {
+            return;
+        }
+        int sessions = options.sessions();
+        long thinkMillis = options.thinkMillis();
+        boolean embedded = options.port() == null;
+
+        GameServer server = null;
+        int port;
+        if (embedded) {
+            server = new GameServer(new HangmanWords(), 0, Hangman.MAX_ATTEMPTS, sessions, IDLE_TIMEOUT_MILLIS);
+            server.start(InetAddress.getLoopbackAddress(), 0);
+            port = server.port();
+        } else {
+            port = options.port();
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseline = usedHeapAfterGc(memory);
+        long[] peakHeap = new long[1];
+        int[] peakSessions = new int[1];
+        GameServer observed = server;
+        LoadGenerator generator = new LoadGenerator(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port), sessions, thinkMillis);
+        LoadReport report = generator.run(() -> {
+            peakHeap[0] = usedHeapAfterGc(memory);
+            peakSessions[0] = observed != null ? observed.activeSessions() : -1;
+        });
+        if (server != null) {
+            server.close();
+        }
+
+        OutputHandler.printf(Locale.ROOT, "Sessions:        %d%n", report.sessions());
+        OutputHandler.printf(Locale.ROOT, "Connected:       %d%n", report.connected());
+        OutputHandler.printf(Locale.ROOT, "Completed:       %d%n", report.completed());
+        OutputHandler.printf(Locale.ROOT, "Failed:          %d%n", report.failed());
+        OutputHandler.printf(Locale.ROOT, "Guesses:         %d (%.0f/s)%n", report.guesses(),
+            report.guessesPerSecond());
+        OutputHandler.printf(Locale.ROOT, "Latency:         avg %.3f ms, max %.3f ms%n",
+            Nanos.toMillis(report.averageLatencyNanos()), Nanos.toMillis(report.maxLatencyNanos()));
+        OutputHandler.printf(Locale.ROOT, "Elapsed:         %.3f s%n",
+            Nanos.toSeconds(report.elapsedNanos()));
+        if (embedded) {
+            OutputHandler.printf(Locale.ROOT, "Open sessions:   %d%n", peakSessions[0]);
+            OutputHandler.printf(Locale.ROOT, "Heap / session:  %.1f KiB%n",
+                (peakHeap[0] - baseline) / BYTES_PER_KIB / Math.max(1, report.connected()));
+        }
+        OutputHandler.flush();
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,26 @@
+package server;
+
+import com.beust.jcommander.Parameter;
+import lombok.Getter;
+
+/**
+ * Command-line configuration of {@link LoadGeneratorMain}.
+ */
+@Getter
+public class LoadGeneratorOptions {
+    private static final int DEFAULT_SESSIONS = 10_000;
+    private static final long DEFAULT_THINK_MILLIS = 100;
+
+    @Parameter(names = {"--sessions", "-n"}, description = "Number of concurrent sessions to open")
+    private int sessions = DEFAULT_SESSIONS;
+
+    @Parameter(names = "--think-millis", description = "Pause of every session before each guess")
+    private long thinkMillis = DEFAULT_THINK_MILLIS;
+
+    @Parameter(names = {"--port", "-p"},
+        description = "Port of a running server; without it an embedded server is started")
+    private Integer port;
+
+    @Parameter(names = {"--help", "-h"}, description = "Show this help", help = true)
+    private boolean help = false;
+}
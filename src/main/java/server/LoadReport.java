@@ -0,0 +1,44 @@
+package server;
+
+import util.Nanos;
+
+/**
+ * The outcome of a {@link LoadGenerator} run.
+ *
+ * @param sessions         The number of sessions attempted.
+ * @param connected        The number of sessions that received their first prompt.
+ * @param completed        The number of games played until the server ended them.
+ * @param failed           The number of sessions that could not connect or were closed early.
+ * @param guesses          The number of guesses answered by a prompt or a final frame.
+ * @param totalLatencyNanos The sum of the guess round-trip times.
+ * @param maxLatencyNanos  The longest guess round-trip time.
+ * @param elapsedNanos     The wall-clock time of the run.
+ */
+public record LoadReport(
+    int sessions,
+    long connected,
+    long completed,
+    long failed,
+    long guesses,
+    long totalLatencyNanos,
+    long maxLatencyNanos,
+    long elapsedNanos
+) {
+    /**
+     * Returns the average guess round-trip time.
+     *
+     * @return The average latency in nanoseconds, 0 if no guess was answered.
+     */
+    public long averageLatencyNanos() {
+        return guesses == 0 ? 0 : totalLatencyNanos / guesses;
+    }
+
+    /**
+     * Returns the number of guesses answered per second.
+     *
+     * @return The throughput.
+     */
+    public double guessesPerSecond() {
+        return Nanos.perSecond(guesses, elapsedNanos);
+    }
+}
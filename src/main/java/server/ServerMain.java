@@ -0,0 +1,38 @@
+package server;
+
+import handlers.OutputHandler;
+import java.io.IOException;
+import java.net.InetAddress;
+import lombok.experimental.UtilityClass;
+import util.CommandLine;
+import util.HangmanWords;
+
+/**
+ * Entry point for server mode; see {@link ServerOptions} for the flags, or run with {@code --help}.
+ * Connect with {@code telnet localhost <port>} or {@code nc localhost <port>}.
+ */
+@UtilityClass
+public class ServerMain {
+    private static final int IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ServerOptions options = new ServerOptions();
+        if (!CommandLine.parse("hangman-server", options, args)) {
+            return;
+        }
+
+        GameServer server = new GameServer(new HangmanWords(), options.category(), options.attempts(),
+            options.maxSessions(), IDLE_TIMEOUT_MILLIS);
+        server.start(InetAddress.getLoopbackAddress(), options.port());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // The process is exiting anyway
+            }
+        }));
+        OutputHandler.println("Hangman server listening on port " + server.port());
+        OutputHandler.flush();
+        Thread.currentThread().join();
+    }
+}
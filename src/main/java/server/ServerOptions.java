@@ -0,0 +1,29 @@
+package server;
+
+import com.beust.jcommander.Parameter;
+import hangman.Hangman;
+import lombok.Getter;
+
+/**
+ * Command-line configuration of {@link ServerMain}.
+ */
+@Getter
+public class ServerOptions {
+    private static final int DEFAULT_PORT = 2323;
+    private static final int DEFAULT_MAX_SESSIONS = 20_000;
+
+    @Parameter(names = {"--port", "-p"}, description = "Port to listen on, 0 for any free port")
+    private int port = DEFAULT_PORT;
+
+    @Parameter(names = {"--category", "-c"}, description = "Word category of every game, 0 for all categories")
+    private int category = 0;
+
+    @Parameter(names = {"--attempts", "-a"}, description = "Attempt count of every game (1-6)")
+    private int attempts = Hangman.MAX_ATTEMPTS;
+
+    @Parameter(names = "--max-sessions", description = "Concurrent sessions above which connections are turned away")
+    private int maxSessions = DEFAULT_MAX_SESSIONS;
+
+    @Parameter(names = {"--help", "-h"}, description = "Show this help", help = true)
+    private boolean help = false;
+}
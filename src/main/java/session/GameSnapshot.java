@@ -0,0 +1,179 @@
+package session;
+
+import game.Game;
+import game.GameEngine;
+import hangman.SimpleHangman;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import keyboard.CapitalizedKeyboard;
+import word.CapitalizedWord;
+
+/**
+ * Compact binary form of a round, for saving a game and picking it up later.
+ * <pre>
+ * byte  0     version (high nibble), flags (low nibble, bit 0 set when the word is stored by id)
+ * byte  1     attempts (high nibble), misses (low nibble)
+ * bytes 2-5   guessed letters, bit i standing for 'A' + i
+ * bytes 6-9   word id in a {@link WordTable}, or
+ * byte  6     word length n, followed by n ASCII letters
+ * </pre>
+ * A snapshot takes 10 bytes with a word table and 7 bytes plus the word length without one.
+ * Restoring sets the hangman, keyboard and word views to their final state directly,
+ * with one content update per line, instead of replaying each guess.
+ */
+public final class GameSnapshot {
+    private static final int VERSION = 1;
+    private static final int FLAG_WORD_ID = 1;
+    private static final int NIBBLE = 0xF;
+    private static final int NIBBLE_BITS = 4;
+    private static final int BYTE = 0xFF;
+    private static final int HEADER_BYTES = 6;
+    private static final int MAX_WORD_LENGTH = 255;
+
+    // Private constructor to prevent instantiation
+    private GameSnapshot() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Saves the round of an engine.
+     *
+     * @param engine The started engine.
+     * @param words  The word table to refer to the word by id, or {@code null} to store the word itself.
+     * @return The snapshot.
+     * @throws IllegalArgumentException If the word is not in the table or is too long to be stored.
+     */
+    public static byte[] save(GameEngine engine, WordTable words) {
+        ByteBuffer buffer = ByteBuffer.allocate(size(engine, words));
+        write(engine, words, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Returns the size of the snapshot of an engine.
+     *
+     * @param engine The started engine.
+     * @param words  The word table, or {@code null}.
+     * @return The snapshot size in bytes.
+     */
+    public static int size(GameEngine engine, WordTable words) {
+        return HEADER_BYTES + (words != null ? Integer.BYTES : 1 + engine.word().word().length);
+    }
+
+    /**
+     * Writes the snapshot of an engine at the buffer position.
+     *
+     * @param engine The started engine.
+     * @param words  The word table to refer to the word by id, or {@code null} to store the word itself.
+     * @param buffer The buffer, with at least {@link #size(GameEngine, WordTable)} bytes remaining.
+     * @throws IllegalArgumentException If the word is not in the table or is too long to be stored.
+     */
+    public static void write(GameEngine engine, WordTable words, ByteBuffer buffer) {
+        char[] word = engine.word().word();
+        int wordId = -1;
+        if (words != null) {
+            wordId = words.id(new String(word));
+            if (wordId < 0) {
+                throw new IllegalArgumentException("Word not in the table: " + new String(word));
+            }
+        } else if (word.length > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Word too long to be stored: " + word.length);
+        }
+
+        buffer.put((byte) (VERSION << NIBBLE_BITS | (words != null ? FLAG_WORD_ID : 0)));
+        buffer.put((byte) (engine.attempts() << NIBBLE_BITS | engine.misses()));
+        buffer.putInt(engine.guessedMask());
+        if (words != null) {
+            buffer.putInt(wordId);
+        } else {
+            buffer.put((byte) word.length);
+            for (char letter : word) {
+                buffer.put((byte) letter);
+            }
+        }
+    }
+
+    /**
+     * Restores a round into a new engine.
+     *
+     * @param snapshot The snapshot.
+     * @param words    The word table the snapshot was saved with, or {@code null} if it stores the word itself.
+     * @return The engine, with its hangman, keyboard and word in the saved state.
+     * @throws IllegalArgumentException If the snapshot is malformed or refers to a word table that is not given.
+     */
+    public static GameEngine restore(byte[] snapshot, WordTable words) {
+        return read(ByteBuffer.wrap(snapshot), words);
+    }
+
+    /**
+     * Restores a round into a new game that still has to be built and then continued with {@link Game#resume()}.
+     *
+     * @param snapshot The snapshot.
+     * @param words    The word table the snapshot was saved with, or {@code null} if it stores the word itself.
+     * @return The game.
+     * @throws IllegalArgumentException If the snapshot is malformed or refers to a word table that is not given.
+     */
+    public static Game restoreGame(byte[] snapshot, WordTable words) {
+        ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+        int flags = readHeader(buffer);
+        Game game = new Game(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(readWord(buffer,
+            flags, words)));
+        resume(game.engine(), snapshot[1], buffer.getInt(2));
+        return game;
+    }
+
+    /**
+     * Reads a snapshot at the buffer position and restores its round into a new engine.
+     *
+     * @param buffer The buffer, positioned at the snapshot; advanced past it.
+     * @param words  The word table the snapshot was saved with, or {@code null} if it stores the word itself.
+     * @return The engine, with its hangman, keyboard and word in the saved state.
+     * @throws IllegalArgumentException If the snapshot is malformed or refers to a word table that is not given.
+     */
+    public static GameEngine read(ByteBuffer buffer, WordTable words) {
+        int start = buffer.position();
+        int flags = readHeader(buffer);
+        GameEngine engine = new GameEngine(
+            new SimpleHangman(),
+            new CapitalizedKeyboard(),
+            new CapitalizedWord(readWord(buffer, flags, words))
+        );
+        resume(engine, buffer.get(start + 1), buffer.getInt(start + 2));
+        return engine;
+    }
+
+    private static int readHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES + 1) {
+            throw new IllegalArgumentException("Truncated snapshot: " + buffer.remaining() + " bytes");
+        }
+        int header = buffer.get() & BYTE;
+        if (header >>> NIBBLE_BITS != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + (header >>> NIBBLE_BITS));
+        }
+        buffer.position(buffer.position() + HEADER_BYTES - 1);
+        return header & NIBBLE;
+    }
+
+    private static String readWord(ByteBuffer buffer, int flags, WordTable words) {
+        try {
+            if ((flags & FLAG_WORD_ID) != 0) {
+                int wordId = buffer.getInt();
+                if (words == null || wordId < 0 || wordId >= words.size()) {
+                    throw new IllegalArgumentException("Unknown word id: " + wordId);
+                }
+                return words.word(wordId);
+            }
+            char[] word = new char[buffer.get() & BYTE];
+            for (int i = 0; i < word.length; i++) {
+                word[i] = (char) buffer.get();
+            }
+            return new String(word);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated snapshot", e);
+        }
+    }
+
+    private static void resume(GameEngine engine, byte counts, int guessedMask) {
+        engine.resume((counts >>> NIBBLE_BITS) & NIBBLE, guessedMask, counts & NIBBLE);
+    }
+}
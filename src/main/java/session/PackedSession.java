@@ -0,0 +1,187 @@
+package session;
+
+import game.GameEngine;
+import game.GameStatus;
+import hangman.Hangman;
+import hangman.SimpleHangman;
+import keyboard.CapitalizedKeyboard;
+import word.CapitalizedWord;
+
+/**
+ * The complete state of a paused round packed into a single {@code long}.
+ * <pre>
+ * bits  0-25  guessed letters, bit i standing for 'A' + i
+ * bits 26-29  misses
+ * bits 30-33  attempts
+ * bits 34-35  status
+ * bits 36-63  word id in a {@link WordTable}
+ * </pre>
+ * Guesses can be applied to the packed value directly. A {@link GameEngine}, with its hangman,
+ * keyboard and word views, is only rebuilt when the round has to be rendered.
+ */
+public final class PackedSession {
+    static final int WORD_ID_BITS = 28;
+    private static final int MASK_BITS = 26;
+    private static final int MISSES_SHIFT = 26;
+    private static final int ATTEMPTS_SHIFT = 30;
+    private static final int STATUS_SHIFT = 34;
+    private static final int WORD_ID_SHIFT = 36;
+    private static final int NIBBLE = 0xF;
+    private static final int STATUS_BITS = 0x3;
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    // Private constructor to prevent instantiation
+    private PackedSession() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Packs a round.
+     *
+     * @param wordId      The id of the word.
+     * @param attempts    The number of misses allowed, 1 to 6.
+     * @param misses      The number of misses so far.
+     * @param guessedMask The guessed letters.
+     * @param status      The status of the round.
+     * @return The packed round.
+     * @throws IllegalArgumentException If a value does not fit.
+     */
+    public static long pack(int wordId, int attempts, int misses, int guessedMask, GameStatus status) {
+        if (wordId < 0 || wordId >= WordTable.MAX_WORDS) {
+            throw new IllegalArgumentException("Word id out of range: " + wordId);
+        }
+        if (attempts < 1 || attempts > Hangman.MAX_ATTEMPTS || misses < 0 || misses > attempts) {
+            throw new IllegalArgumentException("Unsupported attempts or misses: " + attempts + ", " + misses);
+        }
+        if (guessedMask >>> MASK_BITS != 0) {
+            throw new IllegalArgumentException("Not a letter mask: " + Integer.toBinaryString(guessedMask));
+        }
+        return guessedMask
+            | (long) misses << MISSES_SHIFT
+            | (long) attempts << ATTEMPTS_SHIFT
+            | (long) status.ordinal() << STATUS_SHIFT
+            | (long) wordId << WORD_ID_SHIFT;
+    }
+
+    /**
+     * Packs the round of an engine playing a word from the table.
+     *
+     * @param words  The word table.
+     * @param engine The started engine.
+     * @return The packed round.
+     * @throws IllegalArgumentException If the word is not in the table.
+     */
+    public static long pack(WordTable words, GameEngine engine) {
+        String word = new String(engine.word().word());
+        int wordId = words.id(word);
+        if (wordId < 0) {
+            throw new IllegalArgumentException("Word not in the table: " + word);
+        }
+        return pack(wordId, engine.attempts(), engine.misses(), engine.guessedMask(), engine.status());
+    }
+
+    /**
+     * Packs a new round.
+     *
+     * @param wordId   The id of the word.
+     * @param attempts The number of misses allowed, 1 to 6.
+     * @return The packed round.
+     */
+    public static long start(int wordId, int attempts) {
+        return pack(wordId, attempts, 0, 0, GameStatus.IN_PROGRESS);
+    }
+
+    public static int wordId(long packed) {
+        return (int) (packed >>> WORD_ID_SHIFT);
+    }
+
+    public static int guessedMask(long packed) {
+        return (int) packed & ((1 << MASK_BITS) - 1);
+    }
+
+    public static int misses(long packed) {
+        return (int) (packed >>> MISSES_SHIFT) & NIBBLE;
+    }
+
+    public static int attempts(long packed) {
+        return (int) (packed >>> ATTEMPTS_SHIFT) & NIBBLE;
+    }
+
+    public static GameStatus status(long packed) {
+        return STATUSES[(int) (packed >>> STATUS_SHIFT) & STATUS_BITS];
+    }
+
+    /**
+     * Applies a letter guess to a packed round, with the rules of {@link GameEngine#guess(char)}.
+     * A repeated letter leaves the round unchanged.
+     *
+     * @param packed The packed round.
+     * @param letter An uppercase latin letter.
+     * @param words  The word table the round refers to.
+     * @return The packed round after the guess.
+     * @throws IllegalArgumentException If the letter is not in the range {@code A-Z}.
+     * @throws IllegalStateException    If the round is already over.
+     */
+    public static long guess(long packed, char letter, WordTable words) {
+        if (letter < 'A' || letter > 'Z') {
+            throw new IllegalArgumentException("Not an uppercase latin letter: " + letter);
+        }
+        if (status(packed).isOver()) {
+            throw new IllegalStateException("The game is already over.");
+        }
+        int bit = 1 << (letter - 'A');
+        int mask = guessedMask(packed);
+        if ((mask & bit) != 0) {
+            return packed;
+        }
+        mask |= bit;
+        int wordLetters = words.letterMask(wordId(packed));
+        int misses = misses(packed);
+        int attempts = attempts(packed);
+        GameStatus status = GameStatus.IN_PROGRESS;
+        if ((wordLetters & bit) == 0) {
+            ++misses;
+            if (misses >= attempts) {
+                status = GameStatus.LOST;
+            }
+        } else if ((wordLetters & ~mask) == 0) {
+            status = GameStatus.WON;
+        }
+        return pack(wordId(packed), attempts, misses, mask, status);
+    }
+
+    /**
+     * Writes the reveal state of a packed round.
+     *
+     * @param packed The packed round.
+     * @param words  The word table the round refers to.
+     * @return The word with unrevealed letters replaced by {@link GameEngine#HIDDEN}.
+     */
+    public static char[] pattern(long packed, WordTable words) {
+        char[] pattern = words.word(wordId(packed)).toCharArray();
+        int mask = guessedMask(packed);
+        for (int i = 0; i < pattern.length; i++) {
+            if ((mask & (1 << (pattern[i] - 'A'))) == 0) {
+                pattern[i] = GameEngine.HIDDEN;
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * Rebuilds the engine of a packed round, with its hangman, keyboard and word in the packed state.
+     *
+     * @param packed The packed round.
+     * @param words  The word table the round refers to.
+     * @return The engine.
+     */
+    public static GameEngine toEngine(long packed, WordTable words) {
+        GameEngine engine = new GameEngine(
+            new SimpleHangman(),
+            new CapitalizedKeyboard(),
+            new CapitalizedWord(words.word(wordId(packed)))
+        );
+        engine.resume(attempts(packed), guessedMask(packed), misses(packed));
+        return engine;
+    }
+}
@@ -0,0 +1,79 @@
+package session;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+
+/**
+ * Resident storage for paused rounds, keyed by session id.
+ * Rounds are kept as {@link PackedSession} values in a primitive open-addressing map,
+ * about 16 to 32 bytes per session depending on the load factor, so millions of rounds fit
+ * where a few thousand rendered games would. Not thread-safe.
+ */
+public final class PackedSessionStore {
+    private static final long ABSENT = -1L;
+
+    private final Long2LongOpenHashMap sessions;
+
+    public PackedSessionStore(int expectedSessions) {
+        this.sessions = new Long2LongOpenHashMap(expectedSessions);
+        sessions.defaultReturnValue(ABSENT);
+    }
+
+    /**
+     * Stores a round, replacing any previous round of the session.
+     *
+     * @param sessionId The session id.
+     * @param packed    The packed round.
+     */
+    public void put(long sessionId, long packed) {
+        sessions.put(sessionId, packed);
+    }
+
+    /**
+     * Returns the round of a session.
+     *
+     * @param sessionId The session id.
+     * @return The packed round, or -1 if the session is unknown; -1 is never a valid packed round.
+     */
+    public long get(long sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Applies a letter guess to the stored round of a session.
+     *
+     * @param sessionId The session id.
+     * @param letter    An uppercase latin letter.
+     * @param words     The word table the rounds refer to.
+     * @return The packed round after the guess.
+     * @throws IllegalArgumentException If the session is unknown or the letter is not in the range {@code A-Z}.
+     * @throws IllegalStateException    If the round is already over.
+     */
+    public long guess(long sessionId, char letter, WordTable words) {
+        long packed = sessions.get(sessionId);
+        if (packed == ABSENT) {
+            throw new IllegalArgumentException("Unknown session: " + sessionId);
+        }
+        long next = PackedSession.guess(packed, letter, words);
+        sessions.put(sessionId, next);
+        return next;
+    }
+
+    /**
+     * Removes the round of a session.
+     *
+     * @param sessionId The session id.
+     * @return The removed packed round, or -1 if the session was unknown.
+     */
+    public long remove(long sessionId) {
+        return sessions.remove(sessionId);
+    }
+
+    /**
+     * Returns the number of stored rounds.
+     *
+     * @return The session count.
+     */
+    public int size() {
+        return sessions.size();
+    }
+}
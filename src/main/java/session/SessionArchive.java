@@ -0,0 +1,91 @@
+package session;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * On-disk storage for sessions that were evicted from memory, one small file per session.
+ * Files are spread over 256 subdirectories by the low byte of the session id, so no directory grows
+ * too large to list. Thread-safe as long as a session is not saved from two threads at once.
+ */
+public final class SessionArchive {
+    private static final int SHARDS = 256;
+    private static final long ABSENT = -1L;
+
+    private final Path directory;
+
+    /**
+     * Opens an archive, creating its directory if needed.
+     *
+     * @param directory The archive directory.
+     * @throws UncheckedIOException If the directory cannot be created.
+     */
+    public SessionArchive(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the session archive: " + directory, e);
+        }
+    }
+
+    private Path file(long sessionId) {
+        String shard = String.format(Locale.ROOT, "%02x", sessionId & (SHARDS - 1));
+        return directory.resolve(shard).resolve(Long.toString(sessionId));
+    }
+
+    /**
+     * Writes the packed round of a session, replacing an earlier one.
+     *
+     * @param sessionId The session id.
+     * @param packed    The packed round.
+     * @throws UncheckedIOException If writing fails.
+     */
+    public void save(long sessionId, long packed) {
+        Path file = file(sessionId);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, ByteBuffer.allocate(Long.BYTES).putLong(packed).array());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot archive session " + sessionId, e);
+        }
+    }
+
+    /**
+     * Reads the packed round of a session.
+     *
+     * @param sessionId The session id.
+     * @return The packed round, or -1 if the session was never archived or its file is damaged.
+     * @throws UncheckedIOException If reading fails.
+     */
+    public long load(long sessionId) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file(sessionId));
+        } catch (NoSuchFileException e) {
+            return ABSENT;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read archived session " + sessionId, e);
+        }
+        return bytes.length == Long.BYTES ? ByteBuffer.wrap(bytes).getLong() : ABSENT;
+    }
+
+    /**
+     * Deletes the archived round of a session, if any.
+     *
+     * @param sessionId The session id.
+     * @throws UncheckedIOException If deleting fails.
+     */
+    public void delete(long sessionId) {
+        try {
+            Files.deleteIfExists(file(sessionId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete archived session " + sessionId, e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent map from session ids to {@link PackedSession} rounds, with idle eviction to a {@link SessionArchive}.
+ * Sessions live in a Caffeine cache: reads are lock-free, writes lock a single hash bin, and access
+ * order is recorded through striped buffers, so lookups from many cores do not contend. Each session
+ * is held in its own {@link AtomicLong} and guesses update it with a compare-and-set, without touching
+ * the map at all.
+ * Sessions that stay idle for the timeout, or that no longer fit, are written to the archive when they
+ * are evicted and are resumed from it transparently on their next lookup. Evictions, and with them the
+ * archive writes, run on virtual threads of the registry rather than on the common fork-join pool.
+ * A session that cannot be written is lost and counted in {@link SessionStats#archiveFailures()}.
+ */
+public final class SessionRegistry implements AutoCloseable {
+    private static final long ABSENT = -1L;
+    // Marks a holder whose session was evicted; updates that find it look the session up again
+    private static final long RETIRED = -2L;
+    private static final int ID_BITS_PER_MILLI = 16;
+
+    private final WordTable words;
+    private final SessionArchive archive;
+    private final Cache<Long, AtomicLong> sessions;
+    private final ExecutorService maintenance;
+    private final AtomicLong archiveFailures = new AtomicLong();
+    // Seeded from the clock, so sessions created after a restart do not reuse the ids of archived ones
+    private final AtomicLong nextId = new AtomicLong(System.currentTimeMillis() << ID_BITS_PER_MILLI);
+
+    /**
+     * Constructs a registry.
+     *
+     * @param words       The word table the rounds refer to.
+     * @param archive     Where evicted sessions are written.
+     * @param idleTimeout How long a session stays in memory after its last lookup.
+     * @param maxSessions The number of sessions kept in memory.
+     */
+    public SessionRegistry(WordTable words, SessionArchive archive, Duration idleTimeout, long maxSessions) {
+        this(words, archive, idleTimeout, maxSessions, Ticker.systemTicker());
+    }
+
+    SessionRegistry(WordTable words, SessionArchive archive, Duration idleTimeout, long maxSessions, Ticker ticker) {
+        this.words = words;
+        this.archive = archive;
+        this.maintenance = Executors.newVirtualThreadPerTaskExecutor();
+        this.sessions = Caffeine.newBuilder()
+            .executor(maintenance)
+            .ticker(ticker)
+            .expireAfterAccess(idleTimeout)
+            .maximumSize(maxSessions)
+            .scheduler(Scheduler.systemScheduler())
+            .evictionListener(this::archive)
+            .recordStats()
+            .build();
+    }
+
+    // Runs atomically with the removal, so a concurrent lookup either sees the session or finds it archived
+    private void archive(Long sessionId, AtomicLong holder, RemovalCause cause) {
+        // A session retired already was archived by whoever retired it
+        long packed = sessionId != null && holder != null ? holder.getAndSet(RETIRED) : RETIRED;
+        if (packed != RETIRED) {
+            try {
+                archive.save(sessionId, packed);
+            } catch (UncheckedIOException e) {
+                archiveFailures.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Starts a new session.
+     *
+     * @param wordId   The id of the word.
+     * @param attempts The number of misses allowed, 1 to 6.
+     * @return The session id.
+     */
+    public long create(int wordId, int attempts) {
+        long sessionId = nextId.getAndIncrement();
+        sessions.put(sessionId, new AtomicLong(PackedSession.start(wordId, attempts)));
+        return sessionId;
+    }
+
+    /**
+     * Returns the round of a session, resuming it from the archive if it was evicted.
+     *
+     * @param sessionId The session id.
+     * @return The packed round, or -1 if the session is unknown.
+     */
+    public long get(long sessionId) {
+        while (true) {
+            AtomicLong holder = holder(sessionId);
+            if (holder == null) {
+                return ABSENT;
+            }
+            long packed = holder.get();
+            if (packed != RETIRED) {
+                return packed;
+            }
+        }
+    }
+
+    /**
+     * Applies a letter guess to a session.
+     *
+     * @param sessionId The session id.
+     * @param letter    An uppercase latin letter.
+     * @return The packed round after the guess.
+     * @throws IllegalArgumentException If the session is unknown or the letter is not in the range {@code A-Z}.
+     * @throws IllegalStateException    If the round is already over.
+     */
+    public long guess(long sessionId, char letter) {
+        while (true) {
+            AtomicLong holder = holder(sessionId);
+            if (holder == null) {
+                throw new IllegalArgumentException("Unknown session: " + sessionId);
+            }
+            long packed = holder.get();
+            if (packed == RETIRED) {
+                continue;
+            }
+            long next = PackedSession.guess(packed, letter, words);
+            if (next == packed || holder.compareAndSet(packed, next)) {
+                return next;
+            }
+        }
+    }
+
+    private AtomicLong holder(long sessionId) {
+        return sessions.get(sessionId, id -> {
+            long packed = archive.load(id);
+            return packed == ABSENT ? null : new AtomicLong(packed);
+        });
+    }
+
+    /**
+     * Ends a session, in memory and in the archive.
+     *
+     * @param sessionId The session id.
+     */
+    public void remove(long sessionId) {
+        sessions.invalidate(sessionId);
+        archive.delete(sessionId);
+    }
+
+    /**
+     * Performs pending evictions now instead of on the next cache activity.
+     */
+    public void cleanUp() {
+        sessions.cleanUp();
+    }
+
+    /**
+     * Returns the lookup and eviction counters.
+     *
+     * @return The counters.
+     */
+    public SessionStats stats() {
+        CacheStats stats = sessions.stats();
+        return new SessionStats(
+            stats.hitCount(),
+            stats.missCount(),
+            stats.loadSuccessCount(),
+            stats.evictionCount(),
+            archiveFailures.get(),
+            sessions.estimatedSize()
+        );
+    }
+
+    /**
+     * Finishes pending evictions and archives every session still in memory, so all of them can be resumed
+     * by a new registry. No archive write happens after this returns.
+     */
+    @Override
+    public void close() {
+        sessions.cleanUp();
+        sessions.asMap().forEach((sessionId, holder) -> archive(sessionId, holder, RemovalCause.EXPLICIT));
+        sessions.invalidateAll();
+        maintenance.shutdown();
+        try {
+            maintenance.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package session;
+
+/**
+ * Counters of a {@link SessionRegistry}.
+ *
+ * @param hits            Lookups answered from memory.
+ * @param misses          Lookups of sessions that were not in memory, whether or not they were resumed from disk.
+ * @param resumed         Sessions loaded back from the archive.
+ * @param evictions       Sessions moved to the archive for being idle or for lack of room.
+ * @param archiveFailures Evicted sessions that could not be written to the archive and were lost.
+ * @param size            Sessions currently in memory.
+ */
+public record SessionStats(long hits, long misses, long resumed, long evictions, long archiveFailures, long size) {
+}
@@ -0,0 +1,100 @@
+package session;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Collection;
+import java.util.Locale;
+import util.HangmanWords;
+
+/**
+ * Numbers the words a server can deal, so a session can refer to its word by a small id.
+ * Each word's set of letters is precomputed as a bitmask, which lets packed sessions apply guesses
+ * without looking at the word itself. Immutable and thread-safe.
+ */
+public final class WordTable {
+    /**
+     * The largest number of words a packed session can refer to.
+     */
+    public static final int MAX_WORDS = 1 << PackedSession.WORD_ID_BITS;
+
+    private final String[] words;
+    private final int[] letterMasks;
+    private final Object2IntOpenHashMap<String> ids;
+
+    /**
+     * Builds a table of the given words, uppercased, in iteration order without duplicates.
+     *
+     * @param words The words, consisting of latin letters.
+     * @throws IllegalArgumentException If there are too many words or a word has other characters.
+     */
+    public WordTable(Collection<String> words) {
+        this.words = words.stream()
+            .map(w -> w.toUpperCase(Locale.ROOT))
+            .distinct()
+            .toArray(String[]::new);
+        if (this.words.length > MAX_WORDS) {
+            throw new IllegalArgumentException("Too many words: " + this.words.length);
+        }
+        this.letterMasks = new int[this.words.length];
+        this.ids = new Object2IntOpenHashMap<>(this.words.length);
+        ids.defaultReturnValue(-1);
+        for (int id = 0; id < this.words.length; id++) {
+            String word = this.words[id];
+            if (word.isEmpty() || !word.chars().allMatch(c -> c >= 'A' && c <= 'Z')) {
+                throw new IllegalArgumentException("Not a latin word: " + word);
+            }
+            for (int i = 0; i < word.length(); i++) {
+                letterMasks[id] |= 1 << (word.charAt(i) - 'A');
+            }
+            ids.put(word, id);
+        }
+    }
+
+    /**
+     * Builds a table of all categories of the given word lists.
+     *
+     * @param hangmanWords The word lists.
+     * @return The table.
+     */
+    public static WordTable of(HangmanWords hangmanWords) {
+        return new WordTable(hangmanWords.getWords(0));
+    }
+
+    /**
+     * Returns the id of a word.
+     *
+     * @param word The word, in any case.
+     * @return The id, or -1 if the word is not in the table.
+     */
+    public int id(String word) {
+        return ids.getInt(word.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the word with the given id.
+     *
+     * @param id The id.
+     * @return The uppercase word.
+     */
+    public String word(int id) {
+        return words[id];
+    }
+
+    /**
+     * Returns the letters of the word with the given id.
+     *
+     * @param id The id.
+     * @return The bitmask, bit {@code i} standing for letter {@code 'A' + i}.
+     */
+    public int letterMask(int id) {
+        return letterMasks[id];
+    }
+
+    /**
+     * Returns the number of words.
+     *
+     * @return The word count.
+     */
+    public int size() {
+        return words.length;
+    }
+}
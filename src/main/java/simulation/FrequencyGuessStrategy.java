@@ -0,0 +1,20 @@
+package simulation;
+
+/**
+ * Guesses letters in the order of their frequency in English text.
+ */
+public class FrequencyGuessStrategy implements GuessStrategy {
+    /** The Latin letters, most frequent in English text first. */
+    public static final String ORDER = "ETAOINSHRDLCUMWFGYPBVKJXQZ";
+
+    @Override
+    public char nextGuess(char[] pattern, int guessedMask) {
+        for (int i = 0; i < ORDER.length(); i++) {
+            char letter = ORDER.charAt(i);
+            if ((guessedMask & (1 << (letter - 'A'))) == 0) {
+                return letter;
+            }
+        }
+        throw new IllegalStateException("All letters have already been guessed.");
+    }
+}
@@ -0,0 +1,143 @@
+package simulation;
+
+import game.GameEngine;
+import game.GameStatus;
+import hangman.SimpleHangman;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import keyboard.CapitalizedKeyboard;
+import util.HangmanWords;
+import word.CapitalizedWord;
+
+/**
+ * Plays large numbers of headless games across all cores.
+ * The games are split into fork-join leaves, each leaf plays its share sequentially with its own
+ * strategy instance and tally, and the tallies are merged on join, so threads never share mutable state.
+ */
+public class GameSimulator {
+    private static final int LEAF_SIZE = 2048;
+
+    private final List<String> words;
+    private final int attempts;
+    private final Function<SplittableRandom, ? extends GuessStrategy> strategyFactory;
+
+    /**
+     * Constructs a simulator over one category of the dictionary.
+     *
+     * @param hangmanWords    The dictionary to take the words from.
+     * @param categoryId      The category ID, or 0 for all categories.
+     * @param attempts        The number of misses allowed per game.
+     * @param strategyFactory Creates a strategy for every leaf task from the leaf's random source.
+     */
+    public GameSimulator(
+        HangmanWords hangmanWords,
+        int categoryId,
+        int attempts,
+        Function<SplittableRandom, ? extends GuessStrategy> strategyFactory
+    ) {
+        this.words = hangmanWords.getWords(categoryId).stream()
+            .map(w -> w.toUpperCase(Locale.ROOT))
+            .toList();
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("No words available for category ID: " + categoryId);
+        }
+        this.attempts = attempts;
+        this.strategyFactory = strategyFactory;
+    }
+
+    /**
+     * Plays a single game to completion.
+     *
+     * @param word     The uppercase word to guess.
+     * @param attempts The number of misses allowed.
+     * @param strategy The strategy that picks the letters.
+     * @return The engine in its final state.
+     * @throws IllegalStateException If the strategy guesses the same letter twice.
+     */
+    public static GameEngine play(String word, int attempts, GuessStrategy strategy) {
+        GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(word));
+        engine.start(attempts);
+        strategy.newGame(word.length());
+
+        char[] pattern = engine.pattern();
+        while (engine.status() == GameStatus.IN_PROGRESS) {
+            char letter = strategy.nextGuess(pattern, engine.guessedMask());
+            if (engine.isGuessed(letter)) {
+                throw new IllegalStateException("Strategy repeated the letter " + letter);
+            }
+            engine.guess(letter);
+            engine.pattern(pattern);
+        }
+        return engine;
+    }
+
+    /**
+     * Plays the given number of games on the common fork-join pool.
+     *
+     * @param games The number of games to play.
+     * @param seed  The seed for word selection and randomized strategies.
+     * @return The merged report.
+     */
+    public SimulationReport run(int games, long seed) {
+        return run(games, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the given number of games on the given pool.
+     *
+     * @param games The number of games to play.
+     * @param seed  The seed for word selection and randomized strategies.
+     * @param pool  The pool to run on, its parallelism bounds the number of cores used.
+     * @return The merged report.
+     */
+    public SimulationReport run(int games, long seed, ForkJoinPool pool) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count must be non-negative.");
+        }
+        long startTime = System.nanoTime();
+        SimulationTally tally = pool.invoke(new SimulationTask(0, games, new SplittableRandom(seed)));
+        long elapsed = System.nanoTime() - startTime;
+        return new SimulationReport(words, tally, elapsed, pool.getParallelism());
+    }
+
+    // Fork-join tasks are never serialized
+    @SuppressWarnings("serial")
+    private final class SimulationTask extends RecursiveTask<SimulationTally> {
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        SimulationTask(int from, int to, SplittableRandom random) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationTally compute() {
+            if (to - from <= LEAF_SIZE) {
+                return playRange();
+            }
+            int mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(from, mid, random.split());
+            left.fork();
+            SimulationTally right = new SimulationTask(mid, to, random).compute();
+            return left.join().merge(right);
+        }
+
+        private SimulationTally playRange() {
+            SimulationTally tally = new SimulationTally(words.size());
+            GuessStrategy strategy = strategyFactory.apply(random);
+            for (int i = from; i < to; i++) {
+                int wordIndex = random.nextInt(words.size());
+                GameEngine engine = play(words.get(wordIndex), attempts, strategy);
+                tally.recordGame(wordIndex, engine.status() == GameStatus.WON, engine.misses());
+            }
+            return tally;
+        }
+    }
+}
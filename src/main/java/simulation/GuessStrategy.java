@@ -0,0 +1,26 @@
+package simulation;
+
+/**
+ * A pluggable guessing policy used by the {@link GameSimulator} and bots.
+ * Implementations only see what a player sees: the revealed pattern and the letters guessed so far.
+ * A single instance plays one game at a time and is never shared between threads.
+ */
+public interface GuessStrategy {
+
+    /**
+     * Resets the strategy before a new game.
+     *
+     * @param wordLength The length of the hidden word.
+     */
+    default void newGame(int wordLength) {
+    }
+
+    /**
+     * Picks the next letter to guess.
+     *
+     * @param pattern     The revealed pattern, hidden letters are {@link game.GameEngine#HIDDEN}.
+     * @param guessedMask Bit {@code i} is set if letter {@code 'A' + i} was already guessed.
+     * @return An uppercase latin letter that has not been guessed yet.
+     */
+    char nextGuess(char[] pattern, int guessedMask);
+}
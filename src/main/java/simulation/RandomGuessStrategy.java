@@ -0,0 +1,29 @@
+package simulation;
+
+import game.GameEngine;
+import java.util.SplittableRandom;
+
+/**
+ * Guesses a uniformly random letter among those not guessed yet.
+ */
+public class RandomGuessStrategy implements GuessStrategy {
+    private static final int ALPHABET_MASK = (1 << GameEngine.ALPHABET_SIZE) - 1;
+    private final SplittableRandom random;
+
+    public RandomGuessStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public char nextGuess(char[] pattern, int guessedMask) {
+        int remaining = ~guessedMask & ALPHABET_MASK;
+        if (remaining == 0) {
+            throw new IllegalStateException("All letters have already been guessed.");
+        }
+        // Skip a random number of unguessed letters, then take the lowest one left
+        for (int skip = random.nextInt(Integer.bitCount(remaining)); skip > 0; skip--) {
+            remaining &= remaining - 1;
+        }
+        return (char) ('A' + Integer.numberOfTrailingZeros(remaining));
+    }
+}
@@ -0,0 +1,75 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+import util.Nanos;
+
+/**
+ * Aggregated results of a {@link GameSimulator} run.
+ */
+@Getter
+public class SimulationReport {
+    private final long games;
+    private final long wins;
+    private final long totalMisses;
+    private final long elapsedNanos;
+    private final int parallelism;
+    private final List<WordDifficulty> wordDifficulties;
+
+    SimulationReport(List<String> words, SimulationTally tally, long elapsedNanos, int parallelism) {
+        long gameCount = 0;
+        long winCount = 0;
+        long missCount = 0;
+        List<WordDifficulty> difficulties = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            gameCount += tally.plays(i);
+            winCount += tally.wins(i);
+            missCount += tally.misses(i);
+            if (tally.plays(i) > 0) {
+                difficulties.add(new WordDifficulty(words.get(i), tally.plays(i), tally.wins(i), tally.misses(i)));
+            }
+        }
+        difficulties.sort(Comparator.comparingDouble(WordDifficulty::lossRate)
+            .thenComparingDouble(WordDifficulty::averageMisses)
+            .reversed());
+
+        this.games = gameCount;
+        this.wins = winCount;
+        this.totalMisses = missCount;
+        this.elapsedNanos = elapsedNanos;
+        this.parallelism = parallelism;
+        this.wordDifficulties = List.copyOf(difficulties);
+    }
+
+    public double winRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public double averageMisses() {
+        return games == 0 ? 0 : (double) totalMisses / games;
+    }
+
+    public double gamesPerSecond() {
+        return Nanos.perSecond(games, elapsedNanos);
+    }
+
+    /**
+     * Simulation results for a single word.
+     *
+     * @param word   The word.
+     * @param plays  How many games used this word.
+     * @param wins   How many of those games were won.
+     * @param misses The total number of misses over those games.
+     */
+    public record WordDifficulty(String word, long plays, long wins, long misses) {
+        public double lossRate() {
+            return 1.0 - (double) wins / plays;
+        }
+
+        public double averageMisses() {
+            return (double) misses / plays;
+        }
+    }
+}
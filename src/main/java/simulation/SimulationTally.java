@@ -0,0 +1,45 @@
+package simulation;
+
+/**
+ * Per-word counters filled by a single simulation leaf and merged afterwards.
+ */
+final class SimulationTally {
+    private final long[] plays;
+    private final long[] wins;
+    private final long[] misses;
+
+    SimulationTally(int wordCount) {
+        this.plays = new long[wordCount];
+        this.wins = new long[wordCount];
+        this.misses = new long[wordCount];
+    }
+
+    void recordGame(int wordIndex, boolean won, int missCount) {
+        plays[wordIndex]++;
+        if (won) {
+            wins[wordIndex]++;
+        }
+        misses[wordIndex] += missCount;
+    }
+
+    SimulationTally merge(SimulationTally other) {
+        for (int i = 0; i < plays.length; i++) {
+            plays[i] += other.plays[i];
+            wins[i] += other.wins[i];
+            misses[i] += other.misses[i];
+        }
+        return this;
+    }
+
+    long plays(int wordIndex) {
+        return plays[wordIndex];
+    }
+
+    long wins(int wordIndex) {
+        return wins[wordIndex];
+    }
+
+    long misses(int wordIndex) {
+        return misses[wordIndex];
+    }
+}
@@ -0,0 +1,82 @@
+package simulation;
+
+import handlers.OutputHandler;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import solver.BitsetSolver;
+import solver.DictionaryIndex;
+import util.HangmanWords;
+
+/**
+ * Entry point for bulk simulations.
+ * Usage: {@code SimulatorMain [games] [categoryId] [attempts] [strategy] [threads] [seed]},
+ * where strategy is {@code frequency}, {@code random} or {@code solver}.
+ */
+@UtilityClass
+@SuppressWarnings("MagicNumber")
+public class SimulatorMain {
+    private static final int HARDEST_WORDS = 10;
+    private static final String FREQUENCY = "frequency";
+
+    public static void main(String[] args) {
+        int games = intArg(args, 0, 1_000_000);
+        int categoryId = intArg(args, 1, 0);
+        int attempts = intArg(args, 2, 6);
+        String strategyName = args.length > 3 ? args[3] : FREQUENCY;
+        int threads = intArg(args, 4, Runtime.getRuntime().availableProcessors());
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : System.nanoTime();
+
+        HangmanWords hangmanWords = new HangmanWords();
+        GameSimulator simulator = new GameSimulator(
+            hangmanWords,
+            categoryId,
+            attempts,
+            strategyFactory(strategyName, hangmanWords.getWords(categoryId))
+        );
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            printReport(simulator.run(games, seed, pool), strategyName);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static Function<SplittableRandom, GuessStrategy> strategyFactory(String name, List<String> words) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case FREQUENCY -> random -> new FrequencyGuessStrategy();
+            case "random" -> RandomGuessStrategy::new;
+            case "solver" -> {
+                DictionaryIndex index = DictionaryIndex.of(words);
+                yield random -> new BitsetSolver(index);
+            }
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+
+    private static void printReport(SimulationReport report, String strategyName) {
+        OutputHandler.printf(Locale.ROOT, "Strategy:       %s%n", strategyName);
+        OutputHandler.printf(Locale.ROOT, "Games:          %d%n", report.games());
+        OutputHandler.printf(Locale.ROOT, "Win rate:       %.2f%%%n", report.winRate() * 100);
+        OutputHandler.printf(Locale.ROOT, "Average misses: %.3f%n", report.averageMisses());
+        OutputHandler.printf(Locale.ROOT, "Threads:        %d%n", report.parallelism());
+        OutputHandler.printf(Locale.ROOT, "Elapsed:        %.3f s%n", report.elapsedNanos() / 1e9);
+        OutputHandler.printf(Locale.ROOT, "Throughput:     %.0f games/s%n", report.gamesPerSecond());
+        OutputHandler.println("Hardest words:");
+
+        List<SimulationReport.WordDifficulty> hardest = report.wordDifficulties();
+        for (SimulationReport.WordDifficulty difficulty : hardest.subList(0, Math.min(HARDEST_WORDS, hardest.size()))) {
+            OutputHandler.printf(Locale.ROOT, "  %-14s loss %6.2f%%  misses %.3f  (%d games)%n",
+                difficulty.word(), difficulty.lossRate() * 100, difficulty.averageMisses(), difficulty.plays());
+        }
+        OutputHandler.flush();
+    }
+
+    private static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
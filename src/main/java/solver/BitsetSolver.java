@@ -0,0 +1,250 @@
+package solver;
+
+import game.GameEngine;
+import java.util.Arrays;
+import simulation.FrequencyGuessStrategy;
+import simulation.GuessStrategy;
+
+/**
+ * Plays against a {@link DictionaryIndex} by always guessing the letter that best splits the remaining candidates.
+ * The candidate set is a bitset over the words of the hidden word's length; every guess narrows it with
+ * per-(position, letter) bitsets and only the non-empty 64-word blocks are visited afterwards,
+ * so the cost of a step shrinks together with the candidate set.
+ * <p>
+ * A guessed letter splits the candidates into families, one per set of positions the letter would be revealed at,
+ * plus the family of words without it. The solver minimizes the expected size of the family left after the guess,
+ * the sum of the squared family sizes over the candidate count. A letter contained in every candidate
+ * at the same positions leaves a single family and scores as badly as a letter contained in none.
+ * Instances are stateful and must not be shared between concurrent games.
+ */
+public class BitsetSolver implements GuessStrategy {
+    private final DictionaryIndex index;
+    private final GuessStrategy fallback = new FrequencyGuessStrategy();
+    private final int[] letterCounts = new int[GameEngine.ALPHABET_SIZE];
+    private DictionaryIndex.Group group;
+    private long[] candidates = new long[0];
+    private int[] active = new int[0];
+    private long[] families = new long[0];
+    private int activeCount;
+    private int candidateCount;
+    private int appliedMask;
+    private boolean countsValid;
+
+    public BitsetSolver(DictionaryIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void newGame(int wordLength) {
+        group = index.group(wordLength);
+        appliedMask = 0;
+        countsValid = true;
+        if (group == null) {
+            activeCount = 0;
+            candidateCount = 0;
+            Arrays.fill(letterCounts, 0);
+            return;
+        }
+
+        if (candidates.length < group.blocks) {
+            candidates = new long[group.blocks];
+            active = new int[group.blocks];
+        }
+        if (families.length < group.words.length) {
+            families = new long[group.words.length];
+        }
+        for (int block = 0; block < group.blocks; block++) {
+            int remaining = group.words.length - block * Long.SIZE;
+            candidates[block] = remaining >= Long.SIZE ? -1L : (1L << remaining) - 1;
+            active[block] = block;
+        }
+        activeCount = group.blocks;
+        candidateCount = group.words.length;
+        System.arraycopy(group.letterCounts, 0, letterCounts, 0, GameEngine.ALPHABET_SIZE);
+    }
+
+    @Override
+    public char nextGuess(char[] pattern, int guessedMask) {
+        narrow(pattern, guessedMask);
+        return bestLetter(guessedMask);
+    }
+
+    /**
+     * Removes the candidates that contradict the letters guessed since the previous call.
+     * A guessed letter must appear exactly at the positions where the pattern shows it.
+     *
+     * @param pattern     The revealed pattern.
+     * @param guessedMask Bit {@code i} is set if letter {@code 'A' + i} was guessed.
+     */
+    public void narrow(char[] pattern, int guessedMask) {
+        int pending = guessedMask & ~appliedMask;
+        appliedMask |= pending;
+        if (group == null || pending == 0) {
+            return;
+        }
+
+        int length = group.length;
+        int hits = 0;
+        for (char shown : pattern) {
+            if (shown >= 'A' && shown <= 'Z') {
+                hits |= 1 << (shown - 'A');
+            }
+        }
+        hits &= pending;
+        int missed = pending & ~hits;
+
+        long[] positions = group.positions;
+        long[] contains = group.contains;
+        int kept = 0;
+        int count = 0;
+        for (int a = 0; a < activeCount; a++) {
+            int block = active[a];
+            long bits = candidates[block];
+            // A missed letter rules out every word containing it, no matter where
+            for (int letters = missed; letters != 0; letters &= letters - 1) {
+                bits &= ~contains[block * GameEngine.ALPHABET_SIZE + Integer.numberOfTrailingZeros(letters)];
+            }
+            int base = block * length * GameEngine.ALPHABET_SIZE;
+            for (int letters = hits; letters != 0 && bits != 0; letters &= letters - 1) {
+                int letter = Integer.numberOfTrailingZeros(letters);
+                char shown = (char) ('A' + letter);
+                for (int position = 0; position < length; position++) {
+                    long atPosition = positions[base + position * GameEngine.ALPHABET_SIZE + letter];
+                    bits &= pattern[position] == shown ? atPosition : ~atPosition;
+                }
+            }
+            candidates[block] = bits;
+            if (bits != 0) {
+                active[kept++] = block;
+                count += Long.bitCount(bits);
+            }
+        }
+        activeCount = kept;
+        candidateCount = count;
+        countsValid = false;
+    }
+
+    /**
+     * Picks the unguessed letter whose guess leaves the fewest candidates on average.
+     * Ties go to the letter contained in more candidates, which is less likely to cost an attempt,
+     * then to the first letter. Letters contained in no candidate are never picked;
+     * falls back to English letter frequency once no candidate is left.
+     *
+     * @param guessedMask Bit {@code i} is set if letter {@code 'A' + i} was guessed.
+     * @return The letter to guess next.
+     */
+    public char bestLetter(int guessedMask) {
+        int[] counts = letterCounts();
+        int best = -1;
+        long bestScore = Long.MAX_VALUE;
+        for (int letter = 0; letter < GameEngine.ALPHABET_SIZE; letter++) {
+            if ((guessedMask & (1 << letter)) == 0 && counts[letter] > 0) {
+                long score = partitionScore(letter, counts[letter]);
+                if (score < bestScore || score == bestScore && counts[letter] > counts[best]) {
+                    best = letter;
+                    bestScore = score;
+                }
+            }
+        }
+        if (best < 0) {
+            return fallback.nextGuess(null, guessedMask);
+        }
+        return (char) ('A' + best);
+    }
+
+    /**
+     * Returns the sum of the squared sizes of the families a letter splits the candidates into.
+     * The family of a word containing the letter is the set of positions holding it, read from the position bitsets.
+     *
+     * @param letter     The letter index.
+     * @param containing The number of candidates containing the letter.
+     * @return The score, lower is better.
+     */
+    private long partitionScore(int letter, int containing) {
+        int length = group.length;
+        long[] positions = group.positions;
+        long[] contains = group.contains;
+        int size = 0;
+        for (int a = 0; a < activeCount; a++) {
+            int block = active[a];
+            int base = block * length * GameEngine.ALPHABET_SIZE + letter;
+            for (long bits = candidates[block] & contains[block * GameEngine.ALPHABET_SIZE + letter]; bits != 0;
+                bits &= bits - 1) {
+                int word = Long.numberOfTrailingZeros(bits);
+                long family = 0;
+                for (int position = 0; position < length; position++) {
+                    family |= (positions[base + position * GameEngine.ALPHABET_SIZE] >>> word & 1) << position;
+                }
+                families[size++] = family;
+            }
+        }
+        Arrays.sort(families, 0, size);
+        long absent = candidateCount - containing;
+        long score = absent * absent;
+        int start = 0;
+        while (start < size) {
+            int end = start + 1;
+            while (end < size && families[end] == families[start]) {
+                ++end;
+            }
+            score += (long) (end - start) * (end - start);
+            start = end;
+        }
+        return score;
+    }
+
+    /**
+     * Returns the number of remaining candidates containing the given letter.
+     *
+     * @param letter An uppercase latin letter.
+     * @return The candidate count.
+     */
+    public int letterCount(char letter) {
+        return letterCounts()[letter - 'A'];
+    }
+
+    /**
+     * Returns the number of words still consistent with everything revealed so far.
+     *
+     * @return The candidate count.
+     */
+    public int candidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Returns the remaining candidates.
+     * Intended for diagnostics, allocates a new array.
+     *
+     * @return The candidate words in index order.
+     */
+    public String[] candidates() {
+        String[] result = new String[candidateCount];
+        int next = 0;
+        for (int a = 0; a < activeCount; a++) {
+            int block = active[a];
+            for (long bits = candidates[block]; bits != 0; bits &= bits - 1) {
+                result[next++] = group.words[block * Long.SIZE + Long.numberOfTrailingZeros(bits)];
+            }
+        }
+        return result;
+    }
+
+    private int[] letterCounts() {
+        if (countsValid) {
+            return letterCounts;
+        }
+        Arrays.fill(letterCounts, 0);
+        long[] contains = group.contains;
+        for (int a = 0; a < activeCount; a++) {
+            int block = active[a];
+            long bits = candidates[block];
+            int base = block * GameEngine.ALPHABET_SIZE;
+            for (int letter = 0; letter < GameEngine.ALPHABET_SIZE; letter++) {
+                letterCounts[letter] += Long.bitCount(bits & contains[base + letter]);
+            }
+        }
+        countsValid = true;
+        return letterCounts;
+    }
+}
@@ -0,0 +1,109 @@
+package solver;
+
+import game.GameEngine;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable bitset index over a word list.
+ * Words are grouped by length; inside a group every word gets a bit, and for each block of 64 words
+ * the index stores which of them contain a letter at all and which of them have a letter at a position.
+ * Candidate sets can then be narrowed with a handful of AND operations and letter frequencies counted
+ * with popcounts instead of scanning strings.
+ */
+public final class DictionaryIndex {
+    private final Map<Integer, Group> groups;
+
+    private DictionaryIndex(Map<Integer, Group> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * Builds an index over the given words.
+     * Words are uppercased; words containing anything but latin letters are skipped.
+     *
+     * @param words The words to index.
+     * @return The index.
+     */
+    public static DictionaryIndex of(Collection<String> words) {
+        Map<Integer, List<String>> byLength = new TreeMap<>();
+        for (String word : words) {
+            String upper = word.toUpperCase(Locale.ROOT);
+            if (!upper.isEmpty() && upper.chars().allMatch(c -> c >= 'A' && c <= 'Z')) {
+                byLength.computeIfAbsent(upper.length(), length -> new ArrayList<>()).add(upper);
+            }
+        }
+        Map<Integer, Group> groups = new TreeMap<>();
+        byLength.forEach((length, list) -> groups.put(length, new Group(length, list)));
+        return new DictionaryIndex(groups);
+    }
+
+    /**
+     * Returns the group of words with the given length.
+     *
+     * @param length The word length.
+     * @return The group, or {@code null} if no word has that length.
+     */
+    Group group(int length) {
+        return groups.get(length);
+    }
+
+    /**
+     * Returns the number of indexed words.
+     *
+     * @return The word count over all lengths.
+     */
+    public int size() {
+        return groups.values().stream().mapToInt(group -> group.words.length).sum();
+    }
+
+    /**
+     * All indexed words of one length.
+     */
+    static final class Group {
+        final int length;
+        final String[] words;
+        final int blocks;
+        /**
+         * Bit {@code w % 64} of {@code positions[((w / 64) * length + position) * 26 + letter]}
+         * is set if word {@code w} has {@code letter} at {@code position}.
+         */
+        final long[] positions;
+        /**
+         * Bit {@code w % 64} of {@code contains[(w / 64) * 26 + letter]} is set if word {@code w}
+         * contains {@code letter} anywhere.
+         */
+        final long[] contains;
+        /**
+         * Number of words containing each letter, i.e. the letter counts of an unnarrowed candidate set.
+         */
+        final int[] letterCounts = new int[GameEngine.ALPHABET_SIZE];
+
+        Group(int length, List<String> words) {
+            this.length = length;
+            this.words = words.toArray(String[]::new);
+            this.blocks = (this.words.length + Long.SIZE - 1) / Long.SIZE;
+            this.positions = new long[blocks * length * GameEngine.ALPHABET_SIZE];
+            this.contains = new long[blocks * GameEngine.ALPHABET_SIZE];
+
+            for (int w = 0; w < this.words.length; w++) {
+                int block = w / Long.SIZE;
+                long bit = 1L << (w % Long.SIZE);
+                int seen = 0;
+                for (int position = 0; position < length; position++) {
+                    int letter = this.words[w].charAt(position) - 'A';
+                    positions[(block * length + position) * GameEngine.ALPHABET_SIZE + letter] |= bit;
+                    contains[block * GameEngine.ALPHABET_SIZE + letter] |= bit;
+                    seen |= 1 << letter;
+                }
+                for (int letter = 0; letter < GameEngine.ALPHABET_SIZE; letter++) {
+                    letterCounts[letter] += (seen >>> letter) & 1;
+                }
+            }
+        }
+    }
+}
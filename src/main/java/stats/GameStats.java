@@ -0,0 +1,151 @@
+package stats;
+
+import game.GameEngine;
+import game.GameStatus;
+import game.GuessListener;
+import hangman.Hangman;
+import java.util.ArrayList;
+import java.util.List;
+import session.WordTable;
+import util.HangmanWords;
+
+/**
+ * Live statistics of finished games, shared by all sessions of a server.
+ * <p>
+ * Games are counted by category and attempt count, and per word. The counters are kept on the heap,
+ * or in a {@link StatsFile} that survives restarts and is shared with other processes.
+ * Recording a game costs a handful of uncontended atomic adds,
+ * and {@link #snapshot()} reads the counters without stopping writers. Thread-safe.
+ */
+public final class GameStats {
+    /**
+     * The category id range, 0 standing for games on a random category.
+     */
+    public static final int CATEGORIES = HangmanWords.Category.values().length + 1;
+    static final int ATTEMPT_SLOTS = Hangman.MAX_ATTEMPTS + 1;
+
+    private final WordTable words;
+    private final StatsCounters counters;
+    private final Leaderboard leaderboard;
+
+    /**
+     * Constructs empty statistics on the heap.
+     *
+     * @param words           The words games are played on.
+     * @param leaderboardSize The number of hardest words to keep.
+     * @param minPlays        The number of games a word needs before it is ranked.
+     */
+    public GameStats(WordTable words, int leaderboardSize, long minPlays) {
+        this(words, new MemoryCounters(CATEGORIES * ATTEMPT_SLOTS, words.size()), leaderboardSize, minPlays);
+    }
+
+    /**
+     * Constructs statistics that continue the counters of a stats file.
+     *
+     * @param file            The stats file, opened on the same word table.
+     * @param words           The words games are played on.
+     * @param leaderboardSize The number of hardest words to keep.
+     * @param minPlays        The number of games a word needs before it is ranked.
+     */
+    public GameStats(StatsFile file, WordTable words, int leaderboardSize, long minPlays) {
+        this(words, file, leaderboardSize, minPlays);
+    }
+
+    private GameStats(WordTable words, StatsCounters counters, int leaderboardSize, long minPlays) {
+        this.words = words;
+        this.counters = counters;
+        this.leaderboard = new Leaderboard(leaderboardSize, minPlays);
+        // Ranks the words of earlier runs: one pass over the counters, which are already in place
+        for (int wordId = 0; wordId < words.size(); wordId++) {
+            long playsWins = counters.playsWins(wordId);
+            if (playsWins != 0) {
+                offer(wordId, playsWins, counters.wordMisses(wordId));
+            }
+        }
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param categoryId The category, 0 for a random category.
+     * @param attempts   The number of misses allowed.
+     * @param wordId     The id of the word in the word table.
+     * @param won        Whether the game was won.
+     * @param missCount  The misses of the game.
+     * @throws IllegalArgumentException If the category or attempt count is out of range.
+     */
+    public void recordGame(int categoryId, int attempts, int wordId, boolean won, int missCount) {
+        if (categoryId < 0 || categoryId >= CATEGORIES || attempts < 0 || attempts > Hangman.MAX_ATTEMPTS) {
+            throw new IllegalArgumentException("Unsupported category or attempts: " + categoryId + ", " + attempts);
+        }
+        counters.addGame(categoryId * ATTEMPT_SLOTS + attempts, won, missCount);
+        long playsWins = counters.addPlay(wordId, won);
+        offer(wordId, playsWins, counters.addMisses(wordId, missCount));
+    }
+
+    private void offer(int wordId, long playsWins, long wordMisses) {
+        leaderboard.offer(wordId, playsWins >>> StatsCounters.PLAYS_SHIFT, playsWins & StatsCounters.WINS_MASK,
+            wordMisses);
+    }
+
+    /**
+     * Returns a listener that records the game of an engine once it is won or lost.
+     *
+     * @param engine     The started engine.
+     * @param categoryId The category the word was taken from, 0 for a random category.
+     * @param wordId     The id of the word in the word table.
+     * @return The listener.
+     */
+    public GuessListener listener(GameEngine engine, int categoryId, int wordId) {
+        return (letter, outcome) -> {
+            if (outcome.isTerminal()) {
+                recordGame(categoryId, engine.attempts(), wordId, engine.status() == GameStatus.WON,
+                    engine.misses());
+            }
+        };
+    }
+
+    /**
+     * Reads the current statistics without blocking games that finish meanwhile.
+     *
+     * @return The statistics.
+     */
+    public StatsSnapshot snapshot() {
+        long totalGames = 0;
+        long totalWins = 0;
+        long totalMisses = 0;
+        List<StatsSnapshot.CellStats> cells = new ArrayList<>();
+        for (int categoryId = 0; categoryId < CATEGORIES; categoryId++) {
+            for (int attempts = 0; attempts <= Hangman.MAX_ATTEMPTS; attempts++) {
+                int cell = categoryId * ATTEMPT_SLOTS + attempts;
+                long cellGames = counters.games(cell);
+                if (cellGames == 0) {
+                    continue;
+                }
+                long cellWins = counters.wins(cell);
+                long cellMisses = counters.misses(cell);
+                cells.add(new StatsSnapshot.CellStats(categoryId, attempts, cellGames, cellWins, cellMisses));
+                totalGames += cellGames;
+                totalWins += cellWins;
+                totalMisses += cellMisses;
+            }
+        }
+        List<StatsSnapshot.WordDifficulty> hardest = leaderboard.entries().stream()
+            .map(entry -> new StatsSnapshot.WordDifficulty(words.word(entry.wordId()), entry.plays(), entry.wins(),
+                entry.misses()))
+            .toList();
+        return new StatsSnapshot(totalGames, totalWins, totalMisses, List.copyOf(cells), hardest);
+    }
+
+    /**
+     * Returns the current totals of a word.
+     *
+     * @param wordId The id of the word in the word table.
+     * @return The totals, with zero plays if the word was never played.
+     */
+    public StatsSnapshot.WordDifficulty word(int wordId) {
+        long playsWins = counters.playsWins(wordId);
+        return new StatsSnapshot.WordDifficulty(words.word(wordId), playsWins >>> StatsCounters.PLAYS_SHIFT,
+            playsWins & StatsCounters.WINS_MASK, counters.wordMisses(wordId));
+    }
+}
@@ -0,0 +1,116 @@
+package stats;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The hardest words, kept up to date as games finish instead of being sorted on every read.
+ * The board is an immutable array replaced on every change, so readers never lock. A finished game
+ * only takes the lock when its word is on the board or now ranks above the last entry; once the board
+ * is full, the games of all other words are turned away by comparing against the last entry.
+ */
+final class Leaderboard {
+    private final int size;
+    private final long minPlays;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Entry[] board = new Entry[0];
+
+    /**
+     * Constructs an empty board.
+     *
+     * @param size     The number of words kept.
+     * @param minPlays The number of games a word needs before it is ranked.
+     */
+    Leaderboard(int size, long minPlays) {
+        this.size = size;
+        this.minPlays = minPlays;
+    }
+
+    /**
+     * Updates the board with the current totals of a word.
+     *
+     * @param wordId The word.
+     * @param plays  Finished games on the word.
+     * @param wins   Won games.
+     * @param misses Misses over those games.
+     */
+    void offer(int wordId, long plays, long wins, long misses) {
+        if (plays >= minPlays && size > 0) {
+            Entry entry = new Entry(wordId, plays, wins, misses);
+            Entry[] current = board;
+            if (current.length < size || indexOf(current, wordId) >= 0 || entry.harderThan(current[size - 1])) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry entry) {
+        lock.lock();
+        try {
+            Entry[] entries = board;
+            int index = indexOf(entries, entry.wordId());
+            // Totals only grow, an update that lost the race to a newer one is stale
+            if (index < 0 || entries[index].plays() < entry.plays()) {
+                board = placed(entries, index, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Copies the board without the old entry of the word, if any, and with the new one in its rank
+    private Entry[] placed(Entry[] entries, int index, Entry entry) {
+        int length = index >= 0 ? entries.length - 1 : Math.min(entries.length, size - 1);
+        Entry[] updated = new Entry[length + 1];
+        int from = 0;
+        boolean inserted = false;
+        for (int to = 0; to < updated.length; to++) {
+            if (from == index) {
+                ++from;
+            }
+            if (!inserted && (from >= entries.length || entry.harderThan(entries[from]))) {
+                updated[to] = entry;
+                inserted = true;
+            } else {
+                updated[to] = entries[from++];
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Returns the board, hardest word first.
+     *
+     * @return The entries.
+     */
+    List<Entry> entries() {
+        return List.of(board);
+    }
+
+    private static int indexOf(Entry[] entries, int wordId) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].wordId() == wordId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The totals of a word when it was last ranked.
+     */
+    record Entry(int wordId, long plays, long wins, long misses) {
+        double lossRate() {
+            return 1.0 - (double) wins / plays;
+        }
+
+        double averageMisses() {
+            return (double) misses / plays;
+        }
+
+        boolean harderThan(Entry other) {
+            int byLossRate = Double.compare(lossRate(), other.lossRate());
+            return byLossRate > 0 || byLossRate == 0 && averageMisses() > other.averageMisses();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters on the heap, lost when the process exits.
+ * Cell totals are {@link LongAdder}s, which spread concurrent updates over striped cells instead of
+ * contending on one value. Word totals live in a primitive {@link AtomicLongArray}, padded to four longs
+ * per word so the counters of a word never straddle a cache line.
+ */
+final class MemoryCounters implements StatsCounters {
+    private static final int WORD_STRIDE = 4;
+    private static final int PLAYS_WINS = 0;
+    private static final int MISSES = 1;
+
+    private final LongAdder[] games;
+    private final LongAdder[] wins;
+    private final LongAdder[] misses;
+    private final AtomicLongArray wordTotals;
+
+    /**
+     * Constructs zeroed counters.
+     *
+     * @param cells The number of cells.
+     * @param words The number of words.
+     */
+    MemoryCounters(int cells, int words) {
+        this.games = newAdders(cells);
+        this.wins = newAdders(cells);
+        this.misses = newAdders(cells);
+        this.wordTotals = new AtomicLongArray(words * WORD_STRIDE);
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    @Override
+    public void addGame(int cell, boolean won, int missCount) {
+        games[cell].increment();
+        if (won) {
+            wins[cell].increment();
+        }
+        misses[cell].add(missCount);
+    }
+
+    @Override
+    public long addPlay(int wordId, boolean won) {
+        return wordTotals.addAndGet(wordId * WORD_STRIDE + PLAYS_WINS, (1L << PLAYS_SHIFT) | (won ? 1 : 0));
+    }
+
+    @Override
+    public long addMisses(int wordId, int missCount) {
+        return wordTotals.addAndGet(wordId * WORD_STRIDE + MISSES, missCount);
+    }
+
+    @Override
+    public long games(int cell) {
+        return games[cell].sum();
+    }
+
+    @Override
+    public long wins(int cell) {
+        return wins[cell].sum();
+    }
+
+    @Override
+    public long misses(int cell) {
+        return misses[cell].sum();
+    }
+
+    @Override
+    public long playsWins(int wordId) {
+        return wordTotals.get(wordId * WORD_STRIDE + PLAYS_WINS);
+    }
+
+    @Override
+    public long wordMisses(int wordId) {
+        return wordTotals.get(wordId * WORD_STRIDE + MISSES);
+    }
+}
@@ -0,0 +1,84 @@
+package stats;
+
+/**
+ * The counters behind {@link GameStats}: games, wins and misses per cell of category and attempt count,
+ * and per word plays and wins packed into one long, so a single add keeps them consistent, plus misses.
+ * Implementations are thread-safe and never lock.
+ */
+interface StatsCounters {
+    /**
+     * The shift of the plays in a packed plays and wins value.
+     */
+    int PLAYS_SHIFT = 32;
+    /**
+     * The mask of the wins in a packed plays and wins value.
+     */
+    long WINS_MASK = 0xFFFFFFFFL;
+
+    /**
+     * Counts a finished game in a cell.
+     *
+     * @param cell   The cell.
+     * @param won    Whether the game was won.
+     * @param misses The misses of the game.
+     */
+    void addGame(int cell, boolean won, int misses);
+
+    /**
+     * Counts a finished game of a word.
+     *
+     * @param wordId The word.
+     * @param won    Whether the game was won.
+     * @return The plays and wins of the word after the game, packed.
+     */
+    long addPlay(int wordId, boolean won);
+
+    /**
+     * Adds misses to a word.
+     *
+     * @param wordId The word.
+     * @param misses The misses of a game.
+     * @return The misses of the word after the game.
+     */
+    long addMisses(int wordId, int misses);
+
+    /**
+     * Returns the games of a cell.
+     *
+     * @param cell The cell.
+     * @return The games.
+     */
+    long games(int cell);
+
+    /**
+     * Returns the won games of a cell.
+     *
+     * @param cell The cell.
+     * @return The wins.
+     */
+    long wins(int cell);
+
+    /**
+     * Returns the misses of a cell.
+     *
+     * @param cell The cell.
+     * @return The misses.
+     */
+    long misses(int cell);
+
+    /**
+     * Returns the plays and wins of a word, packed.
+     *
+     * @param wordId The word.
+     * @return The plays and wins.
+     */
+    long playsWins(int wordId);
+
+    /**
+     * Returns the misses of a word.
+     *
+     * @param wordId The word.
+     * @return The misses.
+     */
+    long wordMisses(int wordId);
+}
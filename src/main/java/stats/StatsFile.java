@@ -0,0 +1,177 @@
+package stats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import session.WordTable;
+
+/**
+ * Counters kept in a memory-mapped file, so statistics survive restarts and are shared by all processes
+ * on a host that open the same file.
+ * <p>
+ * The file has a fixed layout of little-endian longs:
+ * <pre>
+ * bytes  0-63   header: magic, version, cell count, word count, fingerprint of the word table
+ * 64 bytes      per cell: games, wins, misses, padded to a cache line
+ * 32 bytes      per word: plays and wins packed, misses, padding
+ * </pre>
+ * Counters are updated in place with atomic adds through a {@link VarHandle} view of the mapped buffer.
+ * The adds are atomic instructions on the shared page cache, so concurrent processes never lose updates,
+ * and the operating system writes the pages back even if a process crashes. Opening a file only maps it:
+ * there is nothing to load. A file lock serializes the creation of the header between processes,
+ * and the fingerprint refuses a file that numbered another word table. Thread-safe.
+ */
+public final class StatsFile implements StatsCounters, AutoCloseable {
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+        ByteOrder.LITTLE_ENDIAN);
+    private static final long MAGIC = 0x5441_5453_474E_4148L;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int CELLS_OFFSET = 12;
+    private static final int WORDS_OFFSET = 16;
+    private static final int FINGERPRINT_OFFSET = 20;
+    private static final int CELL_SIZE = 64;
+    private static final int WORD_SIZE = 32;
+    private static final int GAMES = 0;
+    private static final int WINS = 8;
+    private static final int MISSES = 16;
+    private static final int PLAYS_WINS = 0;
+    private static final int WORD_MISSES = 8;
+    private static final int HASH_MULTIPLIER = 31;
+
+    private final MappedByteBuffer buffer;
+    private final int wordsOffset;
+
+    /**
+     * Opens a stats file, creating it if it does not exist.
+     *
+     * @param file  The file.
+     * @param words The word table the word ids refer to.
+     * @throws IllegalArgumentException If the file is not a stats file of the same word table.
+     * @throws UncheckedIOException     If the file cannot be opened.
+     */
+    public StatsFile(Path file, WordTable words) {
+        int cells = GameStats.CATEGORIES * GameStats.ATTEMPT_SLOTS;
+        int fingerprint = fingerprint(words);
+        this.wordsOffset = HEADER_SIZE + cells * CELL_SIZE;
+        long size = wordsOffset + (long) words.size() * WORD_SIZE;
+        // File locks are held by the whole JVM, the monitor keeps its threads from overlapping
+        synchronized (StatsFile.class) {
+            try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    if (channel.size() != 0 && channel.size() != size) {
+                        throw notAStatsFile(file);
+                    }
+                    // The mapping stays valid after the channel is closed
+                    this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                    buffer.order(ByteOrder.LITTLE_ENDIAN);
+                    // A file whose creation was cut short has no magic yet and is written again
+                    if ((long) LONGS.getVolatile(buffer, MAGIC_OFFSET) == 0) {
+                        buffer.putInt(VERSION_OFFSET, VERSION);
+                        buffer.putInt(CELLS_OFFSET, cells);
+                        buffer.putInt(WORDS_OFFSET, words.size());
+                        buffer.putInt(FINGERPRINT_OFFSET, fingerprint);
+                        buffer.force();
+                        // The magic goes last, so a torn header is never taken for a valid one
+                        LONGS.setVolatile(buffer, MAGIC_OFFSET, MAGIC);
+                        buffer.force();
+                    }
+                } finally {
+                    lock.release();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open the stats file: " + file, e);
+            }
+        }
+        if ((long) LONGS.getVolatile(buffer, MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION
+            || buffer.getInt(CELLS_OFFSET) != cells || buffer.getInt(WORDS_OFFSET) != words.size()
+            || buffer.getInt(FINGERPRINT_OFFSET) != fingerprint) {
+            throw notAStatsFile(file);
+        }
+    }
+
+    private static IllegalArgumentException notAStatsFile(Path file) {
+        return new IllegalArgumentException("Not a stats file of these words: " + file);
+    }
+
+    private static int fingerprint(WordTable words) {
+        int hash = 1;
+        for (int id = 0; id < words.size(); id++) {
+            hash = HASH_MULTIPLIER * hash + words.word(id).hashCode();
+        }
+        return hash;
+    }
+
+    private long add(int offset, long delta) {
+        return (long) LONGS.getAndAdd(buffer, offset, delta) + delta;
+    }
+
+    private long get(int offset) {
+        return (long) LONGS.getVolatile(buffer, offset);
+    }
+
+    @Override
+    public void addGame(int cell, boolean won, int misses) {
+        int offset = HEADER_SIZE + cell * CELL_SIZE;
+        add(offset + GAMES, 1);
+        if (won) {
+            add(offset + WINS, 1);
+        }
+        add(offset + MISSES, misses);
+    }
+
+    @Override
+    public long addPlay(int wordId, boolean won) {
+        return add(wordsOffset + wordId * WORD_SIZE + PLAYS_WINS, (1L << PLAYS_SHIFT) | (won ? 1 : 0));
+    }
+
+    @Override
+    public long addMisses(int wordId, int misses) {
+        return add(wordsOffset + wordId * WORD_SIZE + WORD_MISSES, misses);
+    }
+
+    @Override
+    public long games(int cell) {
+        return get(HEADER_SIZE + cell * CELL_SIZE + GAMES);
+    }
+
+    @Override
+    public long wins(int cell) {
+        return get(HEADER_SIZE + cell * CELL_SIZE + WINS);
+    }
+
+    @Override
+    public long misses(int cell) {
+        return get(HEADER_SIZE + cell * CELL_SIZE + MISSES);
+    }
+
+    @Override
+    public long playsWins(int wordId) {
+        return get(wordsOffset + wordId * WORD_SIZE + PLAYS_WINS);
+    }
+
+    @Override
+    public long wordMisses(int wordId) {
+        return get(wordsOffset + wordId * WORD_SIZE + WORD_MISSES);
+    }
+
+    /**
+     * Writes the counters to the disk. The mapping stays usable: the file is unmapped once this object
+     * is garbage-collected.
+     */
+    @Override
+    public void close() {
+        buffer.force();
+    }
+}
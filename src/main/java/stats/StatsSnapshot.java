@@ -0,0 +1,61 @@
+package stats;
+
+import java.util.List;
+
+/**
+ * Statistics of a {@link GameStats} as read at one moment.
+ * Counters are read one by one while games keep finishing, so totals may be off by the games
+ * that finished during the read, but never by more.
+ *
+ * @param games   Finished games.
+ * @param wins    Won games.
+ * @param misses  Misses over all finished games.
+ * @param cells   Results by category and attempt count, for the combinations that were played.
+ * @param hardest The hardest words, by loss rate and then by average misses.
+ */
+public record StatsSnapshot(long games, long wins, long misses, List<CellStats> cells, List<WordDifficulty> hardest) {
+    public double winRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public double averageMisses() {
+        return games == 0 ? 0 : (double) misses / games;
+    }
+
+    /**
+     * Results of the games played in one category with one attempt count.
+     *
+     * @param categoryId The category, 0 for games on a random category.
+     * @param attempts   The number of misses allowed.
+     * @param games      Finished games.
+     * @param wins       Won games.
+     * @param misses     Misses over those games.
+     */
+    public record CellStats(int categoryId, int attempts, long games, long wins, long misses) {
+        public double winRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+
+        public double averageMisses() {
+            return games == 0 ? 0 : (double) misses / games;
+        }
+    }
+
+    /**
+     * Results of the games played on one word.
+     *
+     * @param word   The word.
+     * @param plays  Finished games on the word.
+     * @param wins   Won games.
+     * @param misses Misses over those games.
+     */
+    public record WordDifficulty(String word, long plays, long wins, long misses) {
+        public double lossRate() {
+            return 1.0 - (double) wins / plays;
+        }
+
+        public double averageMisses() {
+            return (double) misses / plays;
+        }
+    }
+}
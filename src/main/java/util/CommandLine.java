@@ -0,0 +1,50 @@
+package util;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import handlers.OutputHandler;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Parses the flags of the entry points into their JCommander options classes.
+ */
+@UtilityClass
+public class CommandLine {
+    private static final int USAGE_ERROR = 2;
+
+    /**
+     * Parses the arguments into an options object.
+     * Malformed arguments print the error and the usage, then exit with status 2.
+     *
+     * @param programName The name shown in the usage.
+     * @param options     The options object, annotated with JCommander's {@code @Parameter}.
+     * @param args        The command-line arguments.
+     * @return {@code false} if help was requested, in which case the usage was printed and nothing should run.
+     */
+    public static boolean parse(String programName, Object options, String... args) {
+        JCommander commander = JCommander.newBuilder()
+            .programName(programName)
+            .addObject(options)
+            .build();
+        try {
+            commander.parse(args);
+        } catch (ParameterException e) {
+            OutputHandler.println(e.getMessage());
+            printUsage(commander);
+            System.exit(USAGE_ERROR);
+        }
+        boolean help = commander.getParameters().stream().anyMatch(parameter -> parameter.isHelp()
+            && parameter.isAssigned());
+        if (help) {
+            printUsage(commander);
+        }
+        return !help;
+    }
+
+    private static void printUsage(JCommander commander) {
+        StringBuilder usage = new StringBuilder();
+        commander.getUsageFormatter().usage(usage);
+        OutputHandler.print(usage);
+        OutputHandler.flush();
+    }
+}
@@ -2,9 +2,11 @@ package util;
 
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import jfr.WordSelectionEvent;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -63,6 +65,8 @@ public final class HangmanWords {
         }
     }
 
+    private static final String INVALID_CATEGORY = "Invalid category ID: ";
+
     // Immutable map holding categories and their corresponding word lists
     private final Map<Integer, List<String>> categoryWordsMap;
 
@@ -70,6 +74,9 @@ public final class HangmanWords {
     @Setter
     private SecureRandom secureRandom;
 
+    // The seed passed to reseed, or null while the words are chosen by an unseeded generator
+    private Long seed;
+
     /**
      * Constructs a new HangmanWords instance with the default word lists and SecureRandom.
      */
@@ -121,6 +128,25 @@ public final class HangmanWords {
         }
     }
 
+    /**
+     * Replaces the generator with one that repeats its choices for the same seed,
+     * and remembers the seed so a game can be recorded and reproduced.
+     * SHA1PRNG is only deterministic when seeded before its first use.
+     *
+     * @param seed the seed
+     * @throws IllegalStateException if SHA1PRNG is not available
+     */
+    public void reseed(long seed) {
+        try {
+            SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+            random.setSeed(seed);
+            this.secureRandom = random;
+            this.seed = seed;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA1PRNG is not available", e);
+        }
+    }
+
     /**
      * Retrieves a random word from the specified category.
      * If categoryId is 0, a random category is selected first.
@@ -130,6 +156,8 @@ public final class HangmanWords {
      * @throws IllegalArgumentException if the categoryId is invalid
      */
     public String getRandomWord(int categoryId) {
+        WordSelectionEvent event = new WordSelectionEvent();
+        event.begin();
         Category category;
 
         if (categoryId == 0) {
@@ -137,7 +165,7 @@ public final class HangmanWords {
         } else {
             category = Category.fromId(categoryId);
             if (category == null) {
-                throw new IllegalArgumentException("Invalid category ID: " + categoryId);
+                throw new IllegalArgumentException(INVALID_CATEGORY + categoryId);
             }
         }
 
@@ -147,7 +175,31 @@ public final class HangmanWords {
         }
 
         int randomIndex = secureRandom().nextInt(words.size());
-        return words.get(randomIndex);
+        String word = words.get(randomIndex);
+        event.finish(categoryId, category.name(), words.size(), word.length());
+        return word;
+    }
+
+    /**
+     * Retrieves all words of the specified category.
+     * If categoryId is 0, the words of every category are returned, ordered by category ID.
+     *
+     * @param categoryId the ID of the category (0 for all categories)
+     * @return an immutable list of words
+     * @throws IllegalArgumentException if the categoryId is invalid
+     */
+    public List<String> getWords(int categoryId) {
+        if (categoryId == 0) {
+            List<String> words = new ArrayList<>();
+            for (Category category : Category.values()) {
+                words.addAll(categoryWordsMap().getOrDefault(category.id(), List.of()));
+            }
+            return List.copyOf(words);
+        }
+        if (Category.fromId(categoryId) == null) {
+            throw new IllegalArgumentException(INVALID_CATEGORY + categoryId);
+        }
+        return List.copyOf(categoryWordsMap().getOrDefault(categoryId, List.of()));
     }
 
     /**
@@ -1,8 +1,11 @@
 package util;
 
+import handlers.InputLine;
+import handlers.InputReader;
 import handlers.OutputHandler;
-import java.nio.charset.StandardCharsets;
-import java.util.Scanner;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
 
 public final class InputUtil {
 
@@ -11,9 +14,6 @@ public final class InputUtil {
         throw new UnsupportedOperationException("InputUtil is a utility class and cannot be instantiated.");
     }
 
-    // Single Scanner instance for all methods with specified encoding
-    private static final Scanner SCANNER = new Scanner(System.in, StandardCharsets.UTF_8);
-
     /**
      * Reads an integer from the user within the specified range [min, max].
      *
@@ -25,7 +25,7 @@ public final class InputUtil {
     public static int readIntInRange(String prompt, int min, int max) {
         while (true) {
             OutputHandler.print(prompt + " ");
-            String input = SCANNER.nextLine().trim();
+            String input = nextLine().trim();
             try {
                 int value = Integer.parseInt(input);
                 if (value < min || value > max) {
@@ -48,7 +48,7 @@ public final class InputUtil {
     public static boolean readYesNo(String prompt) {
         while (true) {
             OutputHandler.print(prompt + " (y/n): ");
-            String input = SCANNER.nextLine().trim().toLowerCase();
+            String input = nextLine().trim().toLowerCase();
             if ("y".equals(input)) {  // Changed from input.equals("y")
                 return true;
             } else if ("n".equals(input)) {  // Changed from input.equals("n")
@@ -69,7 +69,7 @@ public final class InputUtil {
     public static String readWordWithLimit(String prompt, int maxLength) {
         while (true) {
             OutputHandler.print(prompt + " ");
-            String input = SCANNER.nextLine().trim();
+            String input = nextLine().trim();
             if (input.isEmpty()) {
                 OutputHandler.println("Input cannot be empty. Please enter a valid word.");
                 continue;
@@ -88,9 +88,33 @@ public final class InputUtil {
     }
 
     /**
-     * Optionally, call this method to close the scanner when it's no longer needed.
+     * Reads the next line from the input shared with the game.
+     *
+     * @return The line.
+     * @throws NoSuchElementException If the input has ended.
+     * @throws UncheckedIOException   If reading fails.
+     */
+    private static String nextLine() {
+        try {
+            InputLine line = InputReader.stdin().readLine();
+            if (line == null) {
+                throw new NoSuchElementException("No more input.");
+            }
+            return line.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Optionally, call this method to close the console input when it's no longer needed.
+     * Like the scanner it is named after, it closes {@code System.in}.
      */
     public static void closeScanner() {
-        SCANNER.close();
+        try {
+            System.in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
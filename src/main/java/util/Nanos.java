@@ -0,0 +1,43 @@
+package util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Converts nanosecond durations, as measured with {@link System#nanoTime()}, into the units the reports print.
+ */
+@UtilityClass
+public class Nanos {
+    private static final double PER_SECOND = 1_000_000_000.0;
+    private static final double PER_MILLI = 1_000_000.0;
+
+    /**
+     * Converts a duration to seconds.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The duration in seconds.
+     */
+    public static double toSeconds(long nanos) {
+        return nanos / PER_SECOND;
+    }
+
+    /**
+     * Converts a duration to milliseconds.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The duration in milliseconds.
+     */
+    public static double toMillis(long nanos) {
+        return nanos / PER_MILLI;
+    }
+
+    /**
+     * Returns how many events per second a count over a duration amounts to.
+     *
+     * @param count The number of events.
+     * @param nanos The duration in nanoseconds.
+     * @return The rate, 0 if the duration is 0.
+     */
+    public static double perSecond(long count, long nanos) {
+        return nanos == 0 ? 0 : count * PER_SECOND / nanos;
+    }
+}
@@ -31,11 +31,13 @@ public final class SetupWizard {
 
     public static String setupWordChoice() {
         HangmanWords hangmanWords = new HangmanWords();
+        return hangmanWords.getRandomWord(setupCategory(hangmanWords)).toUpperCase();
+    }
+
+    public static int setupCategory(HangmanWords hangmanWords) {
         OutputHandler.println("Please specify word category "
             + "(0 - Random, 1 - Fruits, 2 - Animals, 3 - Countries, 4 - Sports, 5 - Colors)");
-        int categoryId = InputUtil.readIntInRange("Enter category ID:", 0,
+        return InputUtil.readIntInRange("Enter category ID:", 0,
             hangmanWords.getAllCategories().size());
-
-        return hangmanWords.getRandomWord(categoryId).toUpperCase();
     }
 }
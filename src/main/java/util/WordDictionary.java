@@ -0,0 +1,72 @@
+package util;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Membership check over a loaded word list.
+ * A compact Bloom filter answers most negative lookups with a few hash probes;
+ * only words the filter reports as possibly present are confirmed by binary search
+ * over a sorted array, so the answer is always exact.
+ * Words are compared case-insensitively. Thread-safe once constructed.
+ */
+public final class WordDictionary {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final BloomFilter<CharSequence> filter;
+    private final String[] sortedWords;
+
+    /**
+     * Builds a dictionary from the given words.
+     *
+     * @param words The words to accept.
+     */
+    public WordDictionary(Collection<String> words) {
+        this.sortedWords = words.stream()
+            .map(w -> w.toUpperCase(Locale.ROOT))
+            .distinct()
+            .sorted()
+            .toArray(String[]::new);
+        this.filter = BloomFilter.create(
+            Funnels.unencodedCharsFunnel(),
+            Math.max(sortedWords.length, 1),
+            FALSE_POSITIVE_RATE
+        );
+        for (String word : sortedWords) {
+            filter.put(word);
+        }
+    }
+
+    /**
+     * Builds a dictionary from all categories of the given word lists.
+     *
+     * @param hangmanWords The word lists.
+     * @return The dictionary.
+     */
+    public static WordDictionary of(HangmanWords hangmanWords) {
+        return new WordDictionary(hangmanWords.getWords(0));
+    }
+
+    /**
+     * Checks whether the word is in the dictionary.
+     *
+     * @param word The word, in any case.
+     * @return {@code true} if the word is in the dictionary.
+     */
+    public boolean contains(String word) {
+        String upper = word.toUpperCase(Locale.ROOT);
+        return filter.mightContain(upper) && Arrays.binarySearch(sortedWords, upper) >= 0;
+    }
+
+    /**
+     * Returns the number of distinct words.
+     *
+     * @return The word count.
+     */
+    public int size() {
+        return sortedWords.length;
+    }
+}
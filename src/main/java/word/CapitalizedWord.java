@@ -4,8 +4,10 @@ import display.MutableLine;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import lombok.Getter;
+import metrics.Metrics;
 
 public class CapitalizedWord implements Word {
     @Getter private final MutableLine<String> wordLine = new MutableLine<>();
@@ -23,27 +25,54 @@ public class CapitalizedWord implements Word {
     }
 
     public byte pushLetter(char letter) {
-        if (!wordSet.contains(letter)) {
-            return -1;
-        }
-        wordSet.remove(letter);
+        long start = Metrics.start();
+        try {
+            if (!wordSet.contains(letter)) {
+                return -1;
+            }
+            wordSet.remove(letter);
 
-        boolean found = false;
-        for (int ind = 0; ind < word.length; ind++) {
-            if (word[ind] == letter) {
-                wordLine.setContent(ind, applyUnderline(word[ind]));
-                found = true;
+            boolean found = false;
+            for (int ind = 0; ind < word.length; ind++) {
+                if (word[ind] == letter) {
+                    wordLine.setContent(ind, applyUnderline(word[ind]));
+                    found = true;
+                }
+            }
+
+            if (!found) {
+                return -1;
             }
-        }
 
-        if (!found) {
-            return -1;
+            if (wordSet.isEmpty()) {
+                return 0;
+            }
+            return 1;
+        } finally {
+            Metrics.stop(Metrics.Timer.PUSH_LETTER, start);
         }
+    }
 
-        if (wordSet.isEmpty()) {
-            return 0;
+    /**
+     * Reveals several letters with a single content update of the word line.
+     *
+     * @param letterMask The letters, bit {@code i} standing for letter {@code 'A' + i}.
+     */
+    @Override
+    public void revealLetters(int letterMask) {
+        List<String> letters = new ArrayList<>(wordLine.content());
+        boolean changed = false;
+        for (int ind = 0; ind < word.length; ind++) {
+            char letter = word[ind];
+            if ((letterMask & (1 << (letter - 'A'))) != 0) {
+                wordSet.remove(letter);
+                letters.set(ind, applyUnderline(letter));
+                changed = true;
+            }
+        }
+        if (changed) {
+            wordLine.setContent(letters);
         }
-        return 1;
     }
 
     private String applyUnderline(Object input) {
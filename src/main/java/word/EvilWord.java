@@ -0,0 +1,208 @@
+package word;
+
+import display.MutableLine;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import lombok.Getter;
+
+/**
+ * A word that is never fixed: an adversarial host that keeps every dictionary word consistent with
+ * the reveals so far, and after each guess keeps the largest family of candidates sharing the same
+ * reveal pattern for that letter.
+ * A pattern is the bitmask of positions holding the guessed letter, so families are counted in a
+ * reusable open-addressing map with primitive keys and nothing is allocated per candidate.
+ */
+public class EvilWord implements Word {
+    private static final int MAX_LENGTH = Long.SIZE - 1;
+
+    @Getter private final MutableLine<String> wordLine = new MutableLine<>();
+    /**
+     * Letters of the remaining candidates, {@code length} bytes per candidate, packed back to back.
+     */
+    private final byte[] candidates;
+    private final long[] patterns;
+    private final Long2IntOpenHashMap familySizes = new Long2IntOpenHashMap();
+    private final int length;
+    private int candidateCount;
+    private int guessedMask;
+    private long revealed;
+
+    /**
+     * Constructs an adversarial word over the dictionary words of the given length.
+     * Words are uppercased; words containing anything but latin letters are ignored.
+     *
+     * @param dictionary The words the host may choose from.
+     * @param length     The length of the hidden word.
+     * @throws IllegalArgumentException If no dictionary word has that length.
+     */
+    public EvilWord(Collection<String> dictionary, int length) {
+        if (length <= 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Unsupported word length: " + length);
+        }
+        this.length = length;
+        String[] words = dictionary.stream()
+            .map(w -> w.toUpperCase(Locale.ROOT))
+            .filter(w -> w.length() == length && w.chars().allMatch(c -> c >= 'A' && c <= 'Z'))
+            .distinct()
+            .toArray(String[]::new);
+        if (words.length == 0) {
+            throw new IllegalArgumentException("No words of length " + length + " in the dictionary.");
+        }
+        this.candidates = new byte[words.length * length];
+        for (int i = 0; i < words.length; i++) {
+            System.arraycopy(words[i].getBytes(StandardCharsets.US_ASCII), 0, candidates, i * length, length);
+        }
+        this.candidateCount = words.length;
+        this.patterns = new long[words.length];
+        String emptyChar = applyUnderline(" ");
+        wordLine.setContent(new ArrayList<>(Collections.nCopies(length, emptyChar)));
+    }
+
+    @Override
+    public byte pushLetter(char letter) {
+        if (letter < 'A' || letter > 'Z' || (guessedMask & (1 << (letter - 'A'))) != 0) {
+            return -1;
+        }
+        guessedMask |= 1 << (letter - 'A');
+
+        long pattern = largestFamily(letter);
+        int kept = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (patterns[i] == pattern) {
+                System.arraycopy(candidates, i * length, candidates, kept * length, length);
+                ++kept;
+            }
+        }
+        candidateCount = kept;
+
+        if (pattern == 0) {
+            return -1;
+        }
+        revealed |= pattern;
+        for (long bits = pattern; bits != 0; bits &= bits - 1) {
+            wordLine.setContent(Long.numberOfTrailingZeros(bits), applyUnderline(letter));
+        }
+        return Long.bitCount(revealed) == length ? (byte) 0 : (byte) 1;
+    }
+
+    /**
+     * Returns one of the remaining candidates.
+     * Every candidate matches the reveals so far, so any of them is a valid answer once the game ends.
+     *
+     * @return The current representative word.
+     */
+    @Override
+    public char[] word() {
+        char[] word = new char[length];
+        for (int position = 0; position < length; position++) {
+            word[position] = (char) candidates[position];
+        }
+        return word;
+    }
+
+    /**
+     * Checks a full-word guess: only the last remaining candidate matches.
+     *
+     * @param guess The guessed word in uppercase.
+     * @return {@code true} if the guess is the only word left.
+     */
+    @Override
+    public boolean matches(char[] guess) {
+        return candidateCount == 1 && guess.length == length && candidateEquals(0, guess);
+    }
+
+    /**
+     * Accepts a full-word guess only when it is the last remaining candidate.
+     * Otherwise the guessed word is dropped from the candidates, so the host stays consistent
+     * with having rejected it.
+     *
+     * @param guess The guessed word in uppercase.
+     * @return {@code true} if the guess is the only word left.
+     */
+    @Override
+    public boolean pushWord(char[] guess) {
+        if (guess.length != length) {
+            return false;
+        }
+        int found = -1;
+        for (int i = 0; i < candidateCount && found < 0; i++) {
+            if (candidateEquals(i, guess)) {
+                found = i;
+            }
+        }
+        if (found < 0) {
+            return false;
+        }
+        if (candidateCount == 1) {
+            return true;
+        }
+        --candidateCount;
+        System.arraycopy(candidates, candidateCount * length, candidates, found * length, length);
+        return false;
+    }
+
+    /**
+     * Returns the number of dictionary words still consistent with the reveals.
+     *
+     * @return The candidate count.
+     */
+    public int candidateCount() {
+        return candidateCount;
+    }
+
+    private long largestFamily(char letter) {
+        familySizes.clear();
+        // Most candidates usually miss the letter, count that family without touching the map
+        int missing = 0;
+        byte target = (byte) letter;
+        for (int i = 0, offset = 0; i < candidateCount; i++, offset += length) {
+            long pattern = 0;
+            for (int position = 0; position < length; position++) {
+                if (candidates[offset + position] == target) {
+                    pattern |= 1L << position;
+                }
+            }
+            patterns[i] = pattern;
+            if (pattern == 0) {
+                ++missing;
+            } else {
+                familySizes.addTo(pattern, 1);
+            }
+        }
+
+        // Prefer the biggest family, then the one revealing the fewest positions
+        long best = 0;
+        int bestSize = missing;
+        ObjectIterator<Long2IntMap.Entry> families = familySizes.long2IntEntrySet().fastIterator();
+        while (families.hasNext()) {
+            Long2IntMap.Entry entry = families.next();
+            long pattern = entry.getLongKey();
+            int size = entry.getIntValue();
+            if (size > bestSize || size == bestSize && Long.bitCount(pattern) < Long.bitCount(best)) {
+                best = pattern;
+                bestSize = size;
+            }
+        }
+        return best;
+    }
+
+    private boolean candidateEquals(int index, char[] guess) {
+        int offset = index * length;
+        for (int position = 0; position < length; position++) {
+            if (candidates[offset + position] != guess[position]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String applyUnderline(Object input) {
+        return "\u001B[4m" + input.toString() + "\u001B[0m";
+    }
+}
@@ -1,6 +1,7 @@
 package word;
 
 import display.MutableLine;
+import java.util.Arrays;
 
 /**
  * Interface representing the core behavior of a word.
@@ -37,4 +38,38 @@ public interface Word {
      * @return The original word as a {@link String}.
      */
     char[] word();
+
+    /**
+     * Reveals several letters at once, as when a saved game is restored.
+     * Letters that are not in the word are ignored.
+     *
+     * @param letterMask The letters, bit {@code i} standing for letter {@code 'A' + i}.
+     */
+    default void revealLetters(int letterMask) {
+        for (int remaining = letterMask; remaining != 0; remaining &= remaining - 1) {
+            pushLetter((char) ('A' + Integer.numberOfTrailingZeros(remaining)));
+        }
+    }
+
+    /**
+     * Checks a full-word guess without changing the word.
+     *
+     * @param guess The guessed word in uppercase.
+     * @return {@code true} if the guess is the hidden word.
+     */
+    default boolean matches(char[] guess) {
+        return Arrays.equals(word(), guess);
+    }
+
+    /**
+     * Pushes a full-word guess to the word.
+     * A host that has not settled on a word yet may react to the guess, as {@link #pushLetter(char)} does
+     * to a letter; a fixed word only compares it.
+     *
+     * @param guess The guessed word in uppercase.
+     * @return {@code true} if the guess is the hidden word.
+     */
+    default boolean pushWord(char[] guess) {
+        return matches(guess);
+    }
 }
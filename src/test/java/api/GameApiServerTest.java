@@ -0,0 +1,224 @@
+package api;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import journal.RecoveredSessions;
+import journal.SessionRecovery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import session.WordTable;
+import util.HangmanWords;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameApiServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private GameApiServer server;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = new GameApiServer(new HangmanWords(Map.of(1, List.of("cat")), new SecureRandom()), 2);
+        server.start(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String body)
+        throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.port() + path))
+            .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void testCreateAndPlayGame() throws IOException, InterruptedException {
+        // Act
+        HttpResponse<String> created = send("POST", "/games", "{\"category\": 1, \"attempts\": 5}");
+        HttpResponse<String> miss = send("POST", "/games/1/guesses", "{\"guess\": \"e\"}");
+        HttpResponse<String> win = send("POST", "/games/1/guesses", "{\"guess\": \"cat\"}");
+        HttpResponse<String> state = send("GET", "/games/1", null);
+
+        // Assert
+        assertEquals(201, created.statusCode());
+        assertEquals("{\"id\":1,\"status\":\"IN_PROGRESS\",\"pattern\":\"___\",\"guessed\":\"\","
+            + "\"attempts\":5,\"misses\":0,\"remaining\":5}", created.body());
+        assertEquals("{\"id\":1,\"status\":\"IN_PROGRESS\",\"outcome\":\"MISS\",\"pattern\":\"___\",\"guessed\":\"E\","
+            + "\"attempts\":5,\"misses\":1,\"remaining\":4}", miss.body());
+        assertTrue(win.body().contains("\"outcome\":\"WIN\""));
+        assertEquals("{\"id\":1,\"status\":\"WON\",\"pattern\":\"CAT\",\"guessed\":\"ACET\","
+            + "\"attempts\":5,\"misses\":1,\"remaining\":4,\"word\":\"CAT\"}", state.body());
+    }
+
+    @Test
+    public void testStats() throws IOException, InterruptedException {
+        // Arrange
+        send("POST", "/games", "{\"category\": 1, \"attempts\": 2}");
+        send("POST", "/games/1/guesses", "{\"guess\": \"x\"}");
+        send("POST", "/games/1/guesses", "{\"guess\": \"y\"}");
+
+        // Act
+        HttpResponse<String> stats = send("GET", "/stats", null);
+
+        // Assert
+        assertEquals(200, stats.statusCode());
+        assertEquals("{\"games\":1,\"winRate\":0.0,\"averageMisses\":2.0,\"byCategory\":[{\"category\":1,"
+            + "\"attempts\":2,\"games\":1,\"winRate\":0.0,\"averageMisses\":2.0}],\"hardestWords\":[]}",
+            stats.body());
+        assertEquals(405, send("POST", "/stats", null).statusCode());
+    }
+
+    @Test
+    public void testErrors() throws IOException, InterruptedException {
+        // Arrange
+        send("POST", "/games", "{\"category\": 1, \"attempts\": 1}");
+        send("POST", "/games/1/guesses", "{\"guess\": \"x\"}");
+
+        // Act & Assert
+        assertEquals(409, send("POST", "/games/1/guesses", "{\"guess\": \"c\"}").statusCode());
+        assertEquals(400, send("POST", "/games/1/guesses", "{\"guess\": \"1\"}").statusCode());
+        assertEquals(400, send("POST", "/games/1/guesses", "not json").statusCode());
+        assertEquals(404, send("GET", "/games/7", null).statusCode());
+        assertEquals(404, send("GET", "/games/1/hints", null).statusCode());
+        assertEquals(404, send("POST", "/gamesfoo", null).statusCode());
+        assertEquals(404, send("GET", "/statsfoo", null).statusCode());
+        assertEquals(405, send("DELETE", "/games/1", null).statusCode());
+        assertEquals(400, send("POST", "/games", "{\"category\": 1, \"attempts\": 9}").statusCode());
+        assertEquals(400, send("POST", "/games", "{\"category\": 1, \"attempts\": 0}").statusCode());
+        assertEquals("{\"error\":\"Unsupported attempt count: 0\"}",
+            send("POST", "/games", "{\"attempts\": 0}").body());
+        assertEquals("{\"error\":\"Unknown game: 7\"}", send("GET", "/games/7", null).body());
+    }
+
+    @Test
+    public void testGameLimit() throws IOException, InterruptedException {
+        // Act
+        send("POST", "/games", "{\"category\": 1}");
+        send("POST", "/games", "{\"category\": 1}");
+        HttpResponse<String> refused = send("POST", "/games", "{\"category\": 1}");
+        int fullCount = server.gameCount();
+        send("POST", "/games/1/guesses", "{\"guess\": \"cat\"}");
+        HttpResponse<String> afterWin = send("POST", "/games", "{\"category\": 1}");
+
+        // Assert
+        assertEquals(503, refused.statusCode());
+        assertEquals(2, fullCount);
+        assertEquals(201, afterWin.statusCode());
+        assertEquals(2, server.gameCount());
+        assertEquals(200, send("GET", "/games/1", null).statusCode());
+    }
+
+    @Test
+    public void testIdleGamesAreDropped() throws IOException, InterruptedException {
+        // Arrange
+        server.close();
+        AtomicLong nanos = new AtomicLong();
+        server = new GameApiServer(new HangmanWords(Map.of(1, List.of("cat")), new SecureRandom()), 1, null,
+            Duration.ofMinutes(5), null, nanos::get);
+        server.start(InetAddress.getLoopbackAddress(), 0);
+        send("POST", "/games", "{\"category\": 1}");
+
+        // Act
+        HttpResponse<String> refused = send("POST", "/games", "{\"category\": 1}");
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        HttpResponse<String> afterIdle = send("POST", "/games", "{\"category\": 1}");
+
+        // Assert
+        assertEquals(503, refused.statusCode());
+        assertEquals(201, afterIdle.statusCode());
+        assertEquals(404, send("GET", "/games/1", null).statusCode());
+        assertEquals(1, server.gameCount());
+    }
+
+    @Test
+    public void testJournaledGamesSurviveRestart() throws IOException, InterruptedException {
+        // Arrange
+        server.close();
+        Path journal = Files.createTempDirectory("api-journal");
+        HangmanWords words = new HangmanWords(Map.of(1, List.of("cat")), new SecureRandom());
+        try {
+            server = new GameApiServer(words, 2, null, Duration.ofMinutes(5), journal);
+            server.start(InetAddress.getLoopbackAddress(), 0);
+            send("POST", "/games", "{\"category\": 1, \"attempts\": 5}");
+            send("POST", "/games/1/guesses", "{\"guess\": \"a\"}");
+            send("POST", "/games/1/guesses", "{\"guess\": \"z\"}");
+            send("POST", "/games", "{\"category\": 1, \"attempts\": 5}");
+            send("POST", "/games/2/guesses", "{\"guess\": \"cat\"}");
+            server.close();
+
+            // Act
+            server = new GameApiServer(words, 2, null, Duration.ofMinutes(5), journal);
+            server.start(InetAddress.getLoopbackAddress(), 0);
+            HttpResponse<String> recovered = send("GET", "/games/1", null);
+            HttpResponse<String> created = send("POST", "/games", "{\"category\": 1}");
+
+            // Assert
+            assertEquals("{\"id\":1,\"status\":\"IN_PROGRESS\",\"pattern\":\"_A_\",\"guessed\":\"AZ\","
+                + "\"attempts\":5,\"misses\":1,\"remaining\":4}", recovered.body());
+            assertTrue(created.body().startsWith("{\"id\":2,"));
+            assertEquals(2, server.gameCount());
+        } finally {
+            server.close();
+            server = null;
+            try (Stream<Path> files = Files.walk(journal)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLiveCheckpointBoundsRecovery() throws IOException, InterruptedException {
+        // Arrange
+        server.close();
+        Path journal = Files.createTempDirectory("api-journal");
+        HangmanWords words = new HangmanWords(Map.of(1, List.of("cat")), new SecureRandom());
+        try {
+            server = new GameApiServer(words, 2, null, Duration.ofMinutes(5), journal);
+            server.syncAcknowledgements(true);
+            server.start(InetAddress.getLoopbackAddress(), 0);
+            send("POST", "/games", "{\"category\": 1, \"attempts\": 5}");
+            send("POST", "/games/1/guesses", "{\"guess\": \"a\"}");
+            send("POST", "/games/1/guesses", "{\"guess\": \"z\"}");
+            server.checkpointLive();
+            send("POST", "/games/1/guesses", "{\"guess\": \"q\"}");
+
+            // Act: recover while the server still runs, as after a crash
+            RecoveredSessions recovered = SessionRecovery.recover(journal.resolve("checkpoint"),
+                journal.resolve("log"), WordTable.of(words));
+
+            // Assert
+            assertEquals(1, recovered.replayed());
+            assertEquals(2, recovered.sessions().get(1).misses());
+            assertEquals(0, server.checkpointFailures());
+        } finally {
+            server.close();
+            server = null;
+            try (Stream<Path> files = Files.walk(journal)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
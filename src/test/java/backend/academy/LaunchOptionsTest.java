@@ -0,0 +1,94 @@
+package backend.academy;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LaunchOptionsTest {
+
+    @Test
+    public void testDefaultsAreValid() {
+        // Act
+        LaunchOptions options = parse();
+
+        // Assert
+        assertEquals(6, options.attempts());
+        assertEquals(0, options.category());
+        assertDoesNotThrow(options::validate);
+    }
+
+    @Test
+    public void testAttemptsOutsideOneToSixAreRejected() {
+        // Act & Assert
+        assertDoesNotThrow(parse("--attempts", "1")::validate);
+        assertDoesNotThrow(parse("-a", "6")::validate);
+        assertEquals("Attempt count must be between 1 and 6: 0",
+            assertThrows(ParameterException.class, parse("--attempts", "0")::validate).getMessage());
+        assertThrows(ParameterException.class, parse("-a", "7")::validate);
+    }
+
+    @Test
+    public void testUnknownCategoriesAreRejected() {
+        // Act & Assert
+        assertDoesNotThrow(parse("--category", "5")::validate);
+        assertEquals("Unknown category ID: 6",
+            assertThrows(ParameterException.class, parse("--category", "6")::validate).getMessage());
+        assertThrows(ParameterException.class, parse("-c", "-1")::validate);
+    }
+
+    @Test
+    public void testMetricsPortOutsideRangeIsRejected() {
+        // Act & Assert
+        assertDoesNotThrow(parse("--metrics", "0")::validate);
+        assertDoesNotThrow(parse("--metrics", "65535")::validate);
+        assertThrows(ParameterException.class, parse("--metrics", "65536")::validate);
+        assertThrows(ParameterException.class, parse("--metrics", "-1")::validate);
+    }
+
+    @Test
+    public void testWordMustBeLatin() {
+        // Act & Assert
+        assertDoesNotThrow(parse("--word", "Kiwi")::validate);
+        assertEquals("The word must consist of latin letters: киви",
+            assertThrows(ParameterException.class, parse("--word", "киви")::validate).getMessage());
+        assertThrows(ParameterException.class, parse("-w", "kiwi1")::validate);
+        assertThrows(ParameterException.class, parse("-w", "")::validate);
+    }
+
+    @Test
+    public void testDictionaryMustBeReadable() throws IOException {
+        // Arrange
+        Path dictionary = Files.createTempFile("dictionary", ".txt");
+        Path missing = dictionary.resolveSibling(dictionary.getFileName() + ".missing");
+
+        try {
+            // Act & Assert
+            assertDoesNotThrow(parse("--dictionary", dictionary.toString())::validate);
+            assertEquals("Cannot read the dictionary: " + missing,
+                assertThrows(ParameterException.class, parse("--dictionary", missing.toString())::validate)
+                    .getMessage());
+        } finally {
+            Files.delete(dictionary);
+        }
+    }
+
+    @Test
+    public void testEvilGamesCannotBeRecorded() {
+        // Act & Assert
+        assertDoesNotThrow(parse("--evil")::validate);
+        assertDoesNotThrow(parse("--record", "game.replay")::validate);
+        assertThrows(ParameterException.class, parse("--record", "game.replay", "--evil")::validate);
+    }
+
+    private static LaunchOptions parse(String... args) {
+        LaunchOptions options = new LaunchOptions();
+        JCommander.newBuilder().addObject(options).build().parse(args);
+        return options;
+    }
+}
@@ -0,0 +1,104 @@
+package batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchRunnerTest {
+
+    @Test
+    public void testPlayWinningScript() {
+        // Act
+        BatchResult result = BatchRunner.play("test", 1, "hello 6 h x e l o");
+
+        // Assert
+        assertEquals("HELLO", result.word());
+        assertEquals(BatchStatus.WON, result.status());
+        assertEquals(1, result.misses());
+        assertEquals(5, result.guesses());
+    }
+
+    @Test
+    public void testGuessesAfterGameEndAreIgnored() {
+        // Act
+        BatchResult result = BatchRunner.play("test", 1, "hi 1 x h i");
+
+        // Assert
+        assertEquals(BatchStatus.LOST, result.status());
+        assertEquals(1, result.guesses());
+    }
+
+    @Test
+    public void testWordGuessesAndInvalidTokens() {
+        // Act
+        BatchResult result = BatchRunner.play("test", 1, "hello 6 1 ? hello");
+
+        // Assert
+        assertEquals(BatchStatus.WON, result.status());
+        assertEquals(1, result.guesses(), "Tokens that are not letters are skipped");
+    }
+
+    @Test
+    public void testUnfinishedAndInvalidScripts() {
+        // Act
+        BatchResult unfinished = BatchRunner.play("test", 1, "hello 6 h");
+        BatchResult noAttempts = BatchRunner.play("test", 2, "hello");
+        BatchResult badAttempts = BatchRunner.play("test", 3, "hello 9 h");
+
+        // Assert
+        assertEquals(BatchStatus.IN_PROGRESS, unfinished.status());
+        assertEquals(BatchStatus.INVALID, noAttempts.status());
+        assertEquals(BatchStatus.INVALID, badAttempts.status());
+        assertEquals("test:3\thello\tINVALID\t0\t0\tUnsupported attempt count: 9", badAttempts.toLine());
+    }
+
+    @Test
+    public void testZeroAttemptsIsInvalid() {
+        // Act
+        BatchResult result = BatchRunner.play("test", 1, "word 0 x");
+
+        // Assert
+        assertEquals(BatchStatus.INVALID, result.status());
+        assertEquals("test:1\tword\tINVALID\t0\t0\tUnsupported attempt count: 0", result.toLine());
+    }
+
+    @Test
+    public void testWordWithNonLettersIsInvalid() {
+        // Act
+        BatchResult result = BatchRunner.play("test", 1, "ice-cream 6 i c e");
+
+        // Assert
+        assertEquals(BatchStatus.INVALID, result.status());
+        assertEquals("test:1\tice-cream\tINVALID\t0\t0\tThe word must consist of latin letters: ICE-CREAM",
+            result.toLine());
+    }
+
+    @Test
+    public void testRunDirectoryKeepsScriptOrder() throws IOException {
+        // Arrange
+        Path directory = Files.createTempDirectory("scripts");
+        Path first = Files.writeString(directory.resolve("a.txt"), "# comment\ncat 6 c a t\n\ndog 6 x\n");
+        Path second = Files.writeString(directory.resolve("b.txt"), "hi 1 z\n");
+
+        try {
+            // Act
+            List<BatchResult> results = BatchRunner.run(directory).toList();
+
+            // Assert
+            assertEquals(3, results.size());
+            assertEquals(BatchStatus.WON, results.get(0).status());
+            assertEquals(2, results.get(0).lineNumber());
+            assertEquals(BatchStatus.IN_PROGRESS, results.get(1).status());
+            assertEquals(4, results.get(1).lineNumber());
+            assertEquals(BatchStatus.LOST, results.get(2).status());
+            assertEquals(second.toString(), results.get(2).source());
+        } finally {
+            Files.delete(first);
+            Files.delete(second);
+            Files.delete(directory);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PerfGateTest {
+    private static final String RESULTS = """
+        [ {
+          "benchmark" : "benchmark.WordBenchmark.pushMissingLetter",
+          "params" : { "wordLength" : "8" },
+          "primaryMetric" : { "score" : 1.9 },
+          "secondaryMetrics" : { "gc.alloc.rate.norm" : { "score" : 0.00001 } }
+        }, {
+          "benchmark" : "benchmark.KeyboardBenchmark.crossOutCrossedLetter",
+          "params" : { "wordLength" : "8" },
+          "primaryMetric" : { "score" : 55.0 },
+          "secondaryMetrics" : { "gc.alloc.rate.norm" : { "score" : 96.0 } }
+        }, {
+          "benchmark" : "benchmark.GameRenderBenchmark.renderGuess",
+          "primaryMetric" : { "score" : 6000.0 },
+          "secondaryMetrics" : { "gc.alloc.rate.norm" : { "score" : 4960.0 } }
+        } ]
+        """;
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("perf");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testRegressionsAreCaughtBeyondTolerance() throws IOException {
+        // Arrange
+        Path resultFile = Files.writeString(directory.resolve("jmh-result.json"), RESULTS, StandardCharsets.UTF_8);
+        PerfGate gate = new PerfGate(new PerfGate.Tolerances(0.25, 2, 0.1, 16), Map.of(
+            "WordBenchmark.pushMissingLetter[wordLength=8]", new PerfGate.Measurement(1.5, 0),
+            "KeyboardBenchmark.crossOutCrossedLetter[wordLength=8]", new PerfGate.Measurement(55, 32),
+            "GameRenderBenchmark.renderGuess", new PerfGate.Measurement(4000, 4950),
+            "HangmanBenchmark.nextStage", new PerfGate.Measurement(10, 0)));
+
+        // Act
+        Map<String, PerfGate.Measurement> results = PerfGate.readResults(resultFile);
+        List<PerfGate.Check> checks = gate.check(results);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(55.0, results.get("KeyboardBenchmark.crossOutCrossedLetter[wordLength=8]").nanosPerOp());
+        assertEquals(List.of("GameRenderBenchmark.renderGuess", "HangmanBenchmark.nextStage",
+            "KeyboardBenchmark.crossOutCrossedLetter[wordLength=8]", "WordBenchmark.pushMissingLetter[wordLength=8]"),
+            checks.stream().map(PerfGate.Check::benchmark).toList());
+        // Time regressed by half, allocation within tolerance
+        assertFalse(checks.get(0).timeOk());
+        assertTrue(checks.get(0).bytesOk());
+        // Did not run
+        assertNull(checks.get(1).current());
+        assertFalse(checks.get(1).passed());
+        // Allocation tripled
+        assertTrue(checks.get(2).timeOk());
+        assertFalse(checks.get(2).bytesOk());
+        // Within the slack of a nanosecond path
+        assertTrue(checks.get(3).passed());
+    }
+
+    @Test
+    public void testUpdatedBaselinePassesItsOwnResults() throws IOException {
+        // Arrange
+        Path resultFile = Files.writeString(directory.resolve("jmh-result.json"), RESULTS, StandardCharsets.UTF_8);
+        Path baselineFile = directory.resolve("baseline.json");
+        Map<String, PerfGate.Measurement> results = PerfGate.readResults(resultFile);
+        new PerfGate(new PerfGate.Tolerances(0.25, 2, 0.1, 16), Map.of()).writeBaseline(results, baselineFile);
+
+        // Act
+        PerfGate gate = PerfGate.readBaseline(baselineFile);
+        List<PerfGate.Check> checks = gate.check(results);
+        gate.writeReport(checks, directory.resolve("perf-gate.json"));
+
+        // Assert
+        assertEquals(3, checks.size());
+        assertTrue(checks.stream().allMatch(PerfGate.Check::passed));
+        assertTrue(Files.readString(directory.resolve("perf-gate.json")).contains("\"passed\" : true"));
+        assertEquals(PerfGate.Machine.current(), gate.machine());
+        assertTrue(gate.recordedOn(PerfGate.Machine.current()));
+    }
+
+    @Test
+    public void testBaselineFromAnotherMachineIsRefused() {
+        // Arrange
+        PerfGate.Machine current = PerfGate.Machine.current();
+        PerfGate.Machine otherJvm = new PerfGate.Machine(current.os(), current.arch(), current.processors(),
+            "OpenJDK 64-Bit Server VM 1.0", current.javaVersion() - 1);
+        PerfGate.Machine otherCores = new PerfGate.Machine(current.os(), current.arch(), current.processors() + 1,
+            current.jvm(), current.javaVersion());
+        PerfGate.Tolerances tolerances = new PerfGate.Tolerances(0.25, 2, 0.1, 16);
+
+        // Act & Assert
+        assertFalse(new PerfGate(tolerances, Map.of(), otherJvm).recordedOn(current));
+        assertFalse(new PerfGate(tolerances, Map.of(), otherCores).recordedOn(current));
+        assertFalse(new PerfGate(tolerances, Map.of()).recordedOn(current));
+    }
+
+    @Test
+    public void testBaselineFromAnotherKernelAndJvmBuildIsAccepted() {
+        // Arrange
+        PerfGate.Machine current = PerfGate.Machine.current();
+        PerfGate.Machine patched = new PerfGate.Machine("Linux 0.0.1", current.arch(), current.processors(),
+            "OpenJDK 64-Bit Server VM " + current.javaVersion() + ".0.99+1", current.javaVersion());
+
+        // Act & Assert
+        assertTrue(new PerfGate(new PerfGate.Tolerances(0.25, 2, 0.1, 16), Map.of(), patched).recordedOn(current));
+    }
+}
@@ -0,0 +1,26 @@
+package benchmark;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RenderBenchmarkTest {
+    @Test
+    public void testBothModesPlayTheSameFrames() {
+        // Arrange
+        List<String> words = List.of("KIWI", "APPLE", "FIG");
+
+        // Act
+        RenderReport inPlace = new RenderBenchmark(3, RenderBenchmark.RenderMode.UPDATE_LINE, words).run(1, 2);
+        RenderReport redrawn = new RenderBenchmark(3, RenderBenchmark.RenderMode.FULL_REDRAW, words).run(1, 2);
+
+        // Assert
+        assertEquals(51, inPlace.lines());
+        assertEquals(inPlace.frames(), redrawn.frames());
+        assertEquals(inPlace.frames(), inPlace.flushes());
+        assertTrue(inPlace.frames() > 0);
+        assertTrue(redrawn.bytesPerGuess() > inPlace.bytesPerGuess() * 10,
+            inPlace.bytesPerGuess() + " vs " + redrawn.bytesPerGuess());
+    }
+}
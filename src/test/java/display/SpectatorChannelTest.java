@@ -0,0 +1,124 @@
+package display;
+
+import handlers.OutputHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpectatorChannelTest {
+
+    private static String text(Frame frame) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            frame.writeTo(bytes);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testFramesAreEncodedOnceForAllViewers() throws InterruptedException {
+        // Arrange
+        SpectatorChannel channel = new SpectatorChannel();
+        channel.publishScreen(List.of("a", "b"));
+        List<SpectatorChannel.Viewer> viewers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            SpectatorChannel.Viewer viewer = channel.subscribe();
+            viewer.take();
+            viewers.add(viewer);
+        }
+        long encodedBefore = channel.encodedFrames();
+
+        // Act
+        channel.publishLine(1, "c");
+
+        // Assert
+        Frame first = viewers.get(0).take();
+        for (SpectatorChannel.Viewer viewer : viewers.subList(1, viewers.size())) {
+            assertSame(first, viewer.take());
+        }
+        assertEquals(encodedBefore + 1, channel.encodedFrames());
+        assertFalse(first.keyframe());
+        assertEquals("\033[2;1H\033[2Kc", text(first));
+    }
+
+    @Test
+    public void testSlowViewerGetsOneKeyframe() throws InterruptedException {
+        // Arrange
+        SpectatorChannel channel = new SpectatorChannel();
+        channel.publishScreen(List.of("a", "b"));
+        SpectatorChannel.Viewer fast = channel.subscribe();
+        SpectatorChannel.Viewer slow = channel.subscribe();
+        fast.take();
+        slow.take();
+
+        // Act
+        List<Frame> fastFrames = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            channel.publishLine(0, "x" + i);
+            fastFrames.add(fast.take());
+        }
+        Frame merged = slow.take();
+
+        // Assert
+        assertEquals(5, fastFrames.size());
+        assertTrue(merged.keyframe());
+        assertEquals("\033[H\033[2Jx4\r\nb\r\n", text(merged));
+        assertEquals(4, slow.droppedFrames());
+        assertEquals(0, fast.droppedFrames());
+    }
+
+    @Test
+    public void testNewViewerStartsWithKeyframe() throws InterruptedException {
+        // Arrange
+        SpectatorChannel channel = new SpectatorChannel();
+        channel.publishScreen(List.of("a"));
+        channel.publishLine(0, "b");
+
+        // Act
+        Frame frame = channel.subscribe().take();
+
+        // Assert
+        assertTrue(frame.keyframe());
+        assertEquals("\033[H\033[2Jb\r\n", text(frame));
+    }
+
+    @Test
+    public void testDisplayPublishesLineChanges() throws Exception {
+        // Arrange
+        PrintStream original = OutputHandler.printStream();
+        OutputHandler.setPrintStream(OutputStream.nullOutputStream(), false);
+        try {
+            MutableLine<String> line = new MutableLine<>(List.of("old"));
+            ConsoleDisplay display = new ConsoleDisplay(List.of(new ImmutableLine("title"), line));
+            display.render();
+            ByteArrayOutputStream watched = new ByteArrayOutputStream();
+            SpectatorChannel.Viewer viewer = display.spectators().attach(watched);
+
+            // Act
+            line.setContent(List.of("new"));
+            for (int i = 0; i < 100 && !watched.toString(StandardCharsets.UTF_8).contains("new"); i++) {
+                Thread.sleep(10);
+            }
+            viewer.close();
+
+            // Assert
+            String stream = watched.toString(StandardCharsets.UTF_8);
+            assertTrue(stream.startsWith("\033[H\033[2Jtitle\r\n"));
+            assertTrue(stream.contains("new"));
+            assertEquals(0, display.spectators().viewerCount());
+        } finally {
+            OutputHandler.printStream(original);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package display;
+
+import handlers.OutputHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TerminalRecorderTest {
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testRingWrapsAroundAndDropsWhenFull() {
+        // Arrange
+        FrameRing ring = new FrameRing(128);
+        List<String> drained = new ArrayList<>();
+        FrameRing.FrameSink sink = (timestamp, frame, offset, length) ->
+            drained.add(timestamp + ":" + new String(frame, offset, length, StandardCharsets.UTF_8));
+        ring.offer(1, bytes("a frame of 20 bytes."), 0, 20);
+        ring.drain(sink);
+
+        // Act
+        boolean middle = ring.offer(2, bytes("a frame of forty bytes, taking 64 bytes."), 0, 40);
+        boolean wrapped = ring.offer(3, bytes("this one wraps around"), 0, 21);
+        boolean full = ring.offer(4, bytes("x"), 0, 1);
+        int frames = ring.drain(sink);
+        boolean afterDrain = ring.offer(5, bytes("room again"), 0, 10);
+
+        // Assert
+        assertTrue(middle);
+        assertTrue(wrapped);
+        assertFalse(full);
+        assertTrue(afterDrain);
+        assertEquals(2, frames);
+        assertEquals(List.of("1:a frame of 20 bytes.", "2:a frame of forty bytes, taking 64 bytes.",
+            "3:this one wraps around"), drained);
+        assertEquals(1, ring.dropped());
+    }
+
+    @Test
+    public void testOutputIsRecordedAsAsciicast() throws IOException {
+        // Arrange
+        Path file = Files.createTempFile("game", ".cast");
+        ByteArrayOutputStream terminal = new ByteArrayOutputStream();
+        PrintStream originalOut = OutputHandler.printStream();
+        PrintStream terminalStream = new PrintStream(terminal, false, StandardCharsets.UTF_8);
+        long frames;
+        long dropped;
+        try {
+            OutputHandler.printStream(terminalStream);
+            try (TerminalRecorder recorder = new TerminalRecorder(file, 80, 24)) {
+                // Act
+                OutputHandler.print("\033[H\033[2J");
+                OutputHandler.println("Hangman \"ü\"");
+                OutputHandler.flush();
+                OutputHandler.print("Enter letter or word: ");
+                OutputHandler.flush();
+                frames = recorder.stop();
+                dropped = recorder.droppedFrames();
+            }
+            assertSame(terminalStream, OutputHandler.printStream());
+        } finally {
+            OutputHandler.printStream(originalOut);
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Files.delete(file);
+
+        // Assert
+        assertEquals(2, frames);
+        assertEquals(0, dropped);
+        assertEquals("\033[H\033[2JHangman \"ü\"" + System.lineSeparator() + "Enter letter or word: ",
+            terminal.toString(StandardCharsets.UTF_8));
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"version\":2,\"width\":80,\"height\":24,\"timestamp\":"), lines.get(0));
+        assertTrue(lines.get(1).matches("\\[[0-9.E-]+,\"o\",\"\\\\u001B\\[H\\\\u001B\\[2JHangman \\\\\"ü\\\\\".*\"]"),
+            lines.get(1));
+        assertTrue(lines.get(2).endsWith(",\"o\",\"Enter letter or word: \"]"), lines.get(2));
+    }
+}
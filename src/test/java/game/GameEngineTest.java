@@ -0,0 +1,123 @@
+package game;
+
+import hangman.SimpleHangman;
+import java.util.List;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.Test;
+import util.WordDictionary;
+import word.CapitalizedWord;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameEngineTest {
+
+    private static GameEngine newEngine(String word, int attempts) {
+        GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(word));
+        engine.start(attempts);
+        return engine;
+    }
+
+    @Test
+    public void testGuessOutcomes() {
+        // Arrange
+        GameEngine engine = newEngine("HELLO", 6);
+
+        // Act & Assert
+        assertEquals(GuessOutcome.HIT, engine.guess('L'));
+        assertEquals(GuessOutcome.REPEAT, engine.guess('L'));
+        assertEquals(GuessOutcome.MISS, engine.guess('Z'));
+        assertEquals(GuessOutcome.REPEAT, engine.guess('Z'));
+        assertEquals(1, engine.misses(), "Repeated misses should not be counted twice");
+        assertEquals(5, engine.remainingAttempts());
+        assertArrayEquals("__LL_".toCharArray(), engine.pattern());
+    }
+
+    @Test
+    public void testWinRevealsWord() {
+        // Arrange
+        GameEngine engine = newEngine("HI", 6);
+
+        // Act
+        engine.guess('H');
+        GuessOutcome outcome = engine.guess('I');
+
+        // Assert
+        assertEquals(GuessOutcome.WIN, outcome);
+        assertEquals(GameStatus.WON, engine.status());
+        assertArrayEquals("HI".toCharArray(), engine.pattern());
+    }
+
+    @Test
+    public void testLossAfterLastAttempt() {
+        // Arrange
+        GameEngine engine = newEngine("HI", 2);
+
+        // Act
+        GuessOutcome first = engine.guess('A');
+        GuessOutcome second = engine.guess('B');
+
+        // Assert
+        assertEquals(GuessOutcome.MISS, first);
+        assertEquals(GuessOutcome.LOSS, second);
+        assertTrue(engine.status().isOver());
+        assertThrows(IllegalStateException.class, () -> engine.guess('H'));
+    }
+
+    @Test
+    public void testRejectsInvalidInput() {
+        // Arrange
+        GameEngine engine = newEngine("HI", 6);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> engine.guess('h'));
+        assertThrows(IllegalArgumentException.class, () -> newEngine("HI", 7));
+        assertThrows(IllegalArgumentException.class, () -> newEngine("HI", 0));
+    }
+
+    @Test
+    public void testCorrectWordGuessWins() {
+        // Arrange
+        GameEngine engine = newEngine("HELLO", 6);
+        engine.guess('L');
+
+        // Act
+        GuessOutcome outcome = engine.guessWord("HELLO");
+
+        // Assert
+        assertEquals(GuessOutcome.WIN, outcome);
+        assertEquals(GameStatus.WON, engine.status());
+        assertArrayEquals("HELLO".toCharArray(), engine.pattern());
+        assertEquals(0, engine.misses());
+    }
+
+    @Test
+    public void testWrongWordGuessCostsAttempt() {
+        // Arrange
+        GameEngine engine = newEngine("HELLO", 1);
+
+        // Act
+        GuessOutcome outcome = engine.guessWord("WORLD");
+
+        // Assert
+        assertEquals(GuessOutcome.LOSS, outcome);
+        assertEquals(1, engine.misses());
+    }
+
+    @Test
+    public void testWordOutsideDictionaryIsRejected() {
+        // Arrange
+        GameEngine engine = newEngine("HELLO", 6);
+        engine.dictionary(new WordDictionary(List.of("hello", "world")));
+
+        // Act
+        GuessOutcome rejected = engine.guessWord("HELLX");
+        GuessOutcome miss = engine.guessWord("WORLD");
+
+        // Assert
+        assertEquals(GuessOutcome.REJECTED, rejected);
+        assertEquals(GuessOutcome.MISS, miss);
+        assertEquals(1, engine.misses(), "Rejected words must not cost an attempt");
+    }
+}
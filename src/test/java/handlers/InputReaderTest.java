@@ -0,0 +1,94 @@
+package handlers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InputReaderTest {
+
+    private static InputReader readerOf(String text) {
+        return new InputReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testReadLinesWithMixedTerminators() throws IOException {
+        // Arrange
+        InputReader reader = readerOf("first\r\nsecond\n\nlast");
+
+        // Act & Assert
+        assertEquals("first", reader.readLine().toString());
+        assertEquals("second", reader.readLine().toString());
+        assertEquals("", reader.readLine().toString());
+        assertEquals("last", reader.readLine().toString());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void testLineIsReused() throws IOException {
+        // Arrange
+        InputReader reader = readerOf("a\nb\n");
+
+        // Act
+        InputLine first = reader.readLine();
+        InputLine second = reader.readLine();
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(second.contentEquals("b"));
+        assertFalse(second.contentEquals("a"));
+        assertEquals('b', second.charAt(0));
+    }
+
+    @Test
+    public void testLongLineAndUtf8() throws IOException {
+        // Arrange
+        String longWord = "x".repeat(1000);
+        InputReader reader = readerOf(longWord + "\nпривет\n");
+
+        // Act & Assert
+        assertEquals(longWord, reader.readLine().toString());
+        assertEquals("привет", reader.readLine().toString());
+    }
+
+    @Test
+    public void testReadSingleBytesAfterLine() throws IOException {
+        // Arrange
+        InputReader reader = readerOf("yes\nab");
+
+        // Act
+        reader.readLine();
+
+        // Assert
+        assertEquals('a', reader.read());
+        assertEquals('b', reader.read());
+        assertEquals(-1, reader.read());
+    }
+
+    @Test
+    public void testSharedReaderFollowsSystemIn() {
+        // Arrange
+        InputStream originalIn = System.in;
+        try {
+            System.setIn(new ByteArrayInputStream(new byte[0]));
+            InputReader first = InputReader.stdin();
+
+            // Act
+            InputReader again = InputReader.stdin();
+            System.setIn(new ByteArrayInputStream(new byte[0]));
+            InputReader replaced = InputReader.stdin();
+
+            // Assert
+            assertSame(first, again);
+            assertFalse(first == replaced, "A new reader is needed once System.in is replaced");
+        } finally {
+            System.setIn(originalIn);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.experimental.Accessors;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -170,4 +171,54 @@ public class UserInputHandlerTest {
         assertEquals(exitSeq, handler.exitSeq());
         assertSame(logic, handler.logic());
     }
+
+    /**
+     * Tests that a handler built from an {@link InputLogic} still exposes it as a predicate.
+     */
+    @Test
+    public void testInputLogicIsExposedAsPredicate() {
+        // Arrange
+        InputLogic logic = input -> input.length() == 1;
+
+        // Act
+        UserInputHandler handler = new UserInputHandler(logic, "Enter input:", "exit");
+
+        // Assert
+        assertTrue(handler.logic().test("a"));
+        assertFalse(handler.logic().test("ab"));
+    }
+
+    /**
+     * Tests that keystroke mode passes every printable key to the logic, skips the escape sequences
+     * of arrow and function keys, and stops on a lone Escape.
+     */
+    @Test
+    public void testKeystrokeModePassesSingleKeys() {
+        // Arrange
+        List<String> inputsReceived = new ArrayList<>();
+        InputLogic logic = input -> {
+            inputsReceived.add(input.toString());
+            return true;
+        };
+        InputReader reader = new InputReader(new ByteArrayInputStream(new byte[] {
+            'a', '\n', 0x1B, '[', 'A', 'B', 0x1B, '[', '1', ';', '5', 'C', '?', 0x1B, 'O', 'P', 'c', 0x1B
+        }));
+
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        PrintStream originalOut = OutputHandler.printStream();
+
+        try {
+            OutputHandler.printStream(new PrintStream(testOut));
+
+            UserInputHandler handler = new UserInputHandler(logic, "Enter input:", "exit");
+            handler.runKeystrokes(reader);
+
+            // Assert
+            assertEquals(List.of("a", "B", "?", "c"), inputsReceived);
+            assertEquals(4, handler.keystrokes());
+            assertTrue(removeAnsiCodes(testOut.toString()).contains("The program was terminated by the user."));
+        } finally {
+            OutputHandler.printStream(originalOut);
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package hint;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import util.HangmanWords;
+import util.HangmanWords.Category;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HintEngineTest {
+
+    private static HintEngine newEngine() {
+        HangmanWords words = new HangmanWords(
+            Map.of(
+                Category.FRUITS.id(), List.of("fig", "kiwi", "lime", "lemon"),
+                Category.ANIMALS.id(), List.of("cat", "cow")
+            ),
+            new SecureRandom()
+        );
+        return new HintEngine(words);
+    }
+
+    @Test
+    public void testTablesArePrecomputed() {
+        // Arrange
+        HintEngine engine = newEngine();
+
+        // Act
+        LetterFrequencyTable fruits = engine.table(Category.FRUITS.id());
+        LetterFrequencyTable all = engine.table(0);
+
+        // Assert
+        assertEquals(4, fruits.wordCount());
+        assertEquals(6, all.wordCount());
+        assertEquals(1, fruits.positionCount(4, 0, 'L'));
+        assertEquals(2, fruits.letterCount('L'));
+        assertEquals(0, fruits.letterCount('C'));
+        assertEquals(2, all.letterCount('C'));
+    }
+
+    @Test
+    public void testHintUsesHiddenPositionsOfMatchingLength() {
+        // Arrange
+        HintEngine engine = newEngine();
+
+        // Act
+        char first = engine.hint(Category.FRUITS.id(), "____".toCharArray(), 0);
+        char second = engine.hint(Category.FRUITS.id(), "L___".toCharArray(), 1 << ('L' - 'A'));
+
+        // Assert
+        assertEquals('I', first, "I appears three times in four-letter fruits");
+        assertEquals('I', second);
+    }
+
+    @Test
+    public void testHintSkipsGuessedLetters() {
+        // Arrange
+        HintEngine engine = newEngine();
+        int guessed = (1 << ('C' - 'A')) | (1 << ('A' - 'A'));
+
+        // Act
+        char hint = engine.hint(Category.ANIMALS.id(), "C__".toCharArray(), guessed);
+
+        // Assert
+        assertEquals('O', hint);
+    }
+
+    @Test
+    public void testHintFallsBackForUnknownLength() {
+        // Arrange
+        HintEngine engine = newEngine();
+
+        // Act
+        char hint = engine.hint(Category.ANIMALS.id(), "_________".toCharArray(), 0);
+
+        // Assert
+        assertEquals('C', hint, "Overall counts are used when no word has that length");
+    }
+
+    @Test
+    public void testHintWhenAllLettersGuessed() {
+        // Arrange
+        HintEngine engine = newEngine();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> engine.hint(0, "___".toCharArray(), (1 << 26) - 1));
+    }
+}
@@ -0,0 +1,106 @@
+package jfr;
+
+import display.ConsoleDisplay;
+import display.Line;
+import game.GameEngine;
+import handlers.InputReader;
+import handlers.OutputHandler;
+import hangman.SimpleHangman;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.Test;
+import util.HangmanWords;
+import word.CapitalizedWord;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameEventsTest {
+    // Blocks long enough for the input wait threshold of the bundled settings
+    private static final class SlowInputStream extends ByteArrayInputStream {
+        SlowInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.read(b, off, len);
+        }
+    }
+
+    private static Map<String, List<RecordedEvent>> play(Path file) throws IOException {
+        Recording recording = GameEvents.startRecording(file);
+        PrintStream out = new PrintStream(new FrameOutputStream(OutputStream.nullOutputStream()), false,
+            StandardCharsets.UTF_8);
+        OutputHandler.bind(out);
+        GameEvents.bindSession(42);
+        try {
+            String word = new HangmanWords(Map.of(2, List.of("fig")), new SecureRandom()).getRandomWord(2);
+            CapitalizedWord hidden = new CapitalizedWord(word.toUpperCase());
+            GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), hidden);
+            engine.start(6);
+            ConsoleDisplay display = new ConsoleDisplay(List.<Line>of(hidden.wordLine()));
+            display.render();
+            OutputHandler.flush();
+            engine.guess('F');
+            engine.guess('X');
+            OutputHandler.flush();
+            engine.guessWord("FIG");
+            new InputReader(new SlowInputStream(new byte[] {'a', '\n'})).readLine();
+        } finally {
+            GameEvents.unbindSession();
+            OutputHandler.unbind();
+        }
+        recording.stop();
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith("hangman."))
+            .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+    }
+
+    @Test
+    public void testGameEmitsEventsTaggedWithSession() throws IOException {
+        // Arrange
+        Path file = Files.createTempFile("hangman", ".jfr");
+
+        // Act
+        Map<String, List<RecordedEvent>> events;
+        try {
+            events = play(file);
+        } finally {
+            Files.delete(file);
+        }
+
+        // Assert
+        RecordedEvent selection = events.get("hangman.WordSelection").getFirst();
+        assertEquals("ANIMALS", selection.getString("category"));
+        assertEquals(3, selection.getInt("wordLength"));
+        assertEquals(List.of("F:HIT:0", "X:MISS:1", "I:HIT:1", "G:WIN:1"), events.get("hangman.Guess").stream()
+            .map(event -> event.getChar("letter") + ":" + event.getString("outcome") + ":" + event.getInt("misses"))
+            .toList());
+        List<RecordedEvent> frames = events.get("hangman.Frame");
+        assertEquals(2, frames.size());
+        assertEquals(1, frames.get(0).getInt("linesTouched"));
+        // Only the revealed F, the keyboard is not on this display
+        assertEquals(1, frames.get(1).getInt("linesTouched"));
+        assertTrue(frames.get(1).getLong("bytesWritten") > 0);
+        assertEquals(2, events.get("hangman.InputWait").getFirst().getInt("bytesRead"));
+        assertTrue(events.values().stream().flatMap(List::stream).allMatch(event -> event.getLong("sessionId") == 42));
+    }
+}
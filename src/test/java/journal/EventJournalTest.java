@@ -0,0 +1,230 @@
+package journal;
+
+import game.GameEngine;
+import game.GameStatus;
+import game.GuessOutcome;
+import hangman.SimpleHangman;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import session.WordTable;
+import util.WordDictionary;
+import word.CapitalizedWord;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventJournalTest {
+    private static final WordTable WORDS = new WordTable(List.of("apple", "kiwi", "fig"));
+    private Path directory;
+    private Path journalDirectory;
+    private Path checkpoint;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("journal");
+        journalDirectory = directory.resolve("log");
+        checkpoint = directory.resolve("checkpoint");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static GameEngine start(EventJournal journal, long sessionId, String word, int attempts) {
+        GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(word));
+        engine.start(attempts);
+        journal.appendStart(sessionId, WORDS.id(word), attempts);
+        engine.guessListener(journal.listener(sessionId));
+        return engine;
+    }
+
+    private static void assertSameRound(GameEngine expected, GameEngine actual) {
+        assertEquals(expected.status(), actual.status());
+        assertEquals(expected.misses(), actual.misses());
+        assertEquals(expected.guessedMask(), actual.guessedMask());
+        assertEquals(expected.word().wordLine().getContent(), actual.word().wordLine().getContent());
+        assertEquals(expected.keyboard().keyboardLine1().getContent(), actual.keyboard().keyboardLine1().getContent());
+    }
+
+    @Test
+    public void testEventsAreReadBackAcrossSegments() throws InterruptedException {
+        // Arrange
+        List<JournalEvent> events = new ArrayList<>();
+        long end;
+        try (EventJournal journal = new EventJournal(journalDirectory, 4 * EventJournal.RECORD_SIZE,
+            Duration.ofMillis(5))) {
+            GameEngine engine = start(journal, 7, "APPLE", 6);
+            for (char letter : "AXPQLRE".toCharArray()) {
+                engine.guess(letter);
+            }
+            end = journal.position();
+            journal.awaitCommit(end);
+            assertTrue(journal.committed() >= end);
+        }
+
+        // Act
+        long replayed = EventJournal.replay(journalDirectory, 0, events::add);
+
+        // Assert
+        assertEquals(8 * EventJournal.RECORD_SIZE, end);
+        assertEquals(end, replayed);
+        assertEquals(8, events.size());
+        assertEquals(JournalEvent.Type.START, events.getFirst().type());
+        assertEquals(WORDS.id("APPLE"), events.getFirst().wordId());
+        assertEquals('X', events.get(2).letter());
+        assertEquals(GuessOutcome.MISS, events.get(2).outcome());
+        assertEquals(GuessOutcome.WIN, events.getLast().outcome());
+        assertTrue(events.stream().allMatch(event -> event.sessionId() == 7));
+    }
+
+    @Test
+    public void testReopenedJournalContinuesAfterTornRecord() throws IOException {
+        // Arrange
+        try (EventJournal journal = new EventJournal(journalDirectory, 1024, Duration.ofMillis(5))) {
+            journal.appendStart(1, 0, 6);
+            journal.appendGuess(1, 'A', GuessOutcome.HIT);
+        }
+        Path segment = journalDirectory.resolve("0000000000000000.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // A record whose checksum was never written
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 0, 0, 0, 0, 1}), 2L * EventJournal.RECORD_SIZE);
+            channel.write(ByteBuffer.wrap(new byte[] {2}), 2L * EventJournal.RECORD_SIZE + 16);
+        }
+
+        // Act
+        long position;
+        try (EventJournal journal = new EventJournal(journalDirectory, 1024, Duration.ofMillis(5))) {
+            position = journal.appendGuess(1, 'P', GuessOutcome.HIT);
+        }
+        List<JournalEvent> events = new ArrayList<>();
+        EventJournal.replay(journalDirectory, 0, events::add);
+
+        // Assert
+        assertEquals(3 * EventJournal.RECORD_SIZE, position);
+        assertEquals(3, events.size());
+        assertEquals('P', events.getLast().letter());
+    }
+
+    @Test
+    public void testRecoveryFromCheckpointAndTail() {
+        // Arrange
+        GameEngine apple;
+        GameEngine kiwi;
+        GameEngine fig;
+        try (EventJournal journal = new EventJournal(journalDirectory, 2 * EventJournal.RECORD_SIZE,
+            Duration.ofMillis(5))) {
+            apple = start(journal, 1, "APPLE", 6);
+            kiwi = start(journal, 2, "KIWI", 3);
+            apple.guess('P');
+            kiwi.guessWord("KIWA");
+            Long2ObjectOpenHashMap<GameEngine> live = new Long2ObjectOpenHashMap<>();
+            live.put(1, apple);
+            live.put(2, kiwi);
+            SessionRecovery.checkpoint(checkpoint, journal.position(), live, WORDS);
+            assertEquals(1, journal.deleteBefore(journal.position()));
+
+            apple.guess('Z');
+            kiwi.guessWord("KILO");
+            kiwi.guess('W');
+            fig = start(journal, 3, "FIG", 6);
+            fig.guess('F');
+            GameEngine lost = start(journal, 4, "FIG", 1);
+            lost.guess('Q');
+        }
+
+        // Act
+        RecoveredSessions recovered = SessionRecovery.recover(checkpoint, journalDirectory, WORDS);
+
+        // Assert
+        assertEquals(3, recovered.sessions().size());
+        assertSameRound(apple, recovered.sessions().get(1));
+        assertSameRound(kiwi, recovered.sessions().get(2));
+        assertSameRound(fig, recovered.sessions().get(3));
+        assertEquals(2, recovered.sessions().get(2).misses());
+        assertNull(recovered.sessions().get(4));
+        assertEquals(GameStatus.IN_PROGRESS, recovered.sessions().get(3).status());
+        assertEquals(7, recovered.replayed());
+    }
+
+    @Test
+    public void testLiveCheckpointSkipsGuessesItAlreadyHolds() throws InterruptedException {
+        // Arrange
+        GameEngine apple;
+        GameEngine kiwi;
+        long from;
+        try (EventJournal journal = new EventJournal(journalDirectory, 2 * EventJournal.RECORD_SIZE,
+            Duration.ofMillis(5))) {
+            apple = start(journal, 1, "APPLE", 6);
+            kiwi = start(journal, 2, "KIWI", 3);
+            GameEngine fig = start(journal, 3, "FIG", 1);
+            fig.guess('Q');
+            apple.guess('P');
+            Map<Long, GameEngine> sessions = new AbstractMap<>() {
+                @Override
+                public Set<Entry<Long, GameEngine>> entrySet() {
+                    // A guess made after the checkpoint started, but before the session is saved
+                    kiwi.guessWord("KIWA");
+                    return new TreeMap<>(Map.of(1L, apple, 2L, kiwi, 3L, fig)).entrySet();
+                }
+            };
+            from = SessionRecovery.checkpoint(checkpoint, journal, sessions, WORDS);
+            journal.deleteBefore(from);
+
+            // Act
+            apple.guess('Z');
+        }
+        RecoveredSessions recovered = SessionRecovery.recover(checkpoint, journalDirectory, WORDS);
+
+        // Assert
+        assertEquals(5 * EventJournal.RECORD_SIZE, from);
+        assertEquals(2, recovered.sessions().size());
+        assertSameRound(apple, recovered.sessions().get(1));
+        assertSameRound(kiwi, recovered.sessions().get(2));
+        assertEquals(1, recovered.sessions().get(2).misses());
+        assertEquals(1, recovered.replayed());
+    }
+
+    @Test
+    public void testRejectedWordsAreNotJournaled() {
+        // Arrange
+        List<JournalEvent> events = new ArrayList<>();
+        try (EventJournal journal = new EventJournal(journalDirectory, 1024, Duration.ofMillis(5))) {
+            GameEngine engine = start(journal, 5, "FIG", 6);
+            engine.dictionary(new WordDictionary(List.of("FIG", "FOG")));
+
+            // Act
+            engine.guessWord("FAG");
+            engine.guessWord("FOG");
+        }
+        EventJournal.replay(journalDirectory, 0, events::add);
+
+        // Assert
+        assertEquals(2, events.size());
+        assertEquals(GameEngine.WRONG_WORD, events.getLast().letter());
+        assertFalse(events.getLast().outcome().isTerminal());
+    }
+}
@@ -0,0 +1,129 @@
+package metrics;
+
+import display.ConsoleDisplay;
+import display.Line;
+import handlers.OutputHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import word.CapitalizedWord;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsTest {
+    @AfterEach
+    public void disableMetrics() {
+        Metrics.disable();
+    }
+
+    private static void play() {
+        CapitalizedWord word = new CapitalizedWord("KIWI");
+        CapitalizedKeyboard keyboard = new CapitalizedKeyboard();
+        ByteArrayOutputStream terminal = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(new CountingOutputStream(terminal), false, StandardCharsets.UTF_8);
+        OutputHandler.bind(out);
+        try {
+            ConsoleDisplay display = new ConsoleDisplay(List.<Line>of(word.wordLine()));
+            display.render();
+            word.pushLetter('K');
+            keyboard.crossOutLetter("K");
+            OutputHandler.flush();
+        } finally {
+            OutputHandler.unbind();
+        }
+    }
+
+    @Test
+    public void testHistogramQuantilesStayWithinRelativeError() {
+        // Arrange
+        Histogram histogram = new Histogram();
+
+        // Act
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.recordValue(value);
+        }
+        Histogram.Snapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(100_000, snapshot.count());
+        assertEquals(100_000, snapshot.max());
+        assertEquals(50_000.5, snapshot.mean(), 1e-9);
+        assertEquals(50_000, snapshot.quantile(0.5), 50_000 / 32.0);
+        assertEquals(99_000, snapshot.quantile(0.99), 99_000 / 32.0);
+        assertEquals(63, Histogram.highestValue(Histogram.bucket(63)));
+        for (long value = 64; value < 1 << 20; value += 997) {
+            long highest = Histogram.highestValue(Histogram.bucket(value));
+            assertTrue(highest >= value && highest - value <= value / 32, value + " -> " + highest);
+        }
+    }
+
+    @Test
+    public void testDisabledMetricsRecordNothing() {
+        // Act
+        long start = Metrics.start();
+        play();
+
+        // Assert
+        assertEquals(0, start);
+        assertNull(Metrics.registry());
+    }
+
+    @Test
+    public void testHotPathsAreTimedAndCounted() {
+        // Arrange
+        MetricsRegistry registry = Metrics.enable();
+
+        // Act
+        play();
+
+        // Assert
+        assertEquals(1, registry.histogram(Metrics.Timer.PUSH_LETTER).snapshot().count());
+        assertEquals(1, registry.histogram(Metrics.Timer.CROSS_OUT_LETTER).snapshot().count());
+        // The word line on setup, the revealed K and the crossed out K
+        assertEquals(3, registry.histogram(Metrics.Timer.LINE_NOTIFY).snapshot().count());
+        assertEquals(1, registry.histogram(Metrics.Timer.UPDATE_LINE).snapshot().count());
+        assertEquals(1, registry.count(Metrics.Counter.OUTPUT_FLUSHES));
+        assertTrue(registry.count(Metrics.Counter.OUTPUT_BYTES) > 0);
+    }
+
+    @Test
+    public void testMetricsAreServedAsPrometheusTextAndOverJmx()
+        throws IOException, InterruptedException, JMException {
+        // Arrange
+        Metrics.enable();
+        play();
+
+        // Act
+        HttpResponse<String> response;
+        try (MetricsServer server = new MetricsServer(0)) {
+            HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + server.port() + "/metrics")).build();
+            response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        }
+        ObjectName name = new ObjectName(MetricsBean.OBJECT_NAME);
+        TabularData counts = (TabularData) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Counts");
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("text/plain; version=0.0.4"));
+        assertTrue(response.body().contains("# TYPE hangman_push_letter_seconds summary\n"), response.body());
+        assertTrue(response.body().contains("hangman_push_letter_seconds_count 1\n"), response.body());
+        assertTrue(response.body().contains("hangman_output_flushes_total 1\n"), response.body());
+        assertEquals(1L, counts.get(new Object[] {"hangman_push_letter"}).get("value"));
+        assertEquals(Boolean.TRUE, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Enabled"));
+    }
+}
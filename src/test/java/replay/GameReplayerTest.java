@@ -0,0 +1,155 @@
+package replay;
+
+import game.Game;
+import game.GameStatus;
+import handlers.OutputHandler;
+import hangman.SimpleHangman;
+import hint.HintEngine;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.Test;
+import util.HangmanWords;
+import util.WordDictionary;
+import word.CapitalizedWord;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameReplayerTest {
+    private static final HangmanWords HANGMAN_WORDS = new HangmanWords();
+    private static final WordDictionary DICTIONARY = WordDictionary.of(HANGMAN_WORDS);
+    private static final HintEngine HINTS = new HintEngine(HANGMAN_WORDS);
+
+    private static GameRecording record(String word, int attempts, String input) {
+        return record(word, attempts, input, true);
+    }
+
+    private static GameRecording record(String word, int attempts, String input, boolean checked) {
+        Game game = new Game(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(word));
+        if (checked) {
+            game.enableHints(HINTS, 0);
+            game.enableDictionaryCheck(DICTIONARY);
+        }
+        game.build();
+
+        InputStream originalIn = System.in;
+        PrintStream originalOut = OutputHandler.printStream();
+        try {
+            System.setIn(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)));
+            OutputHandler.printStream(new PrintStream(OutputStream.nullOutputStream()));
+            return GameRecorder.recordGame(game, HANGMAN_WORDS, 0, attempts);
+        } finally {
+            System.setIn(originalIn);
+            OutputHandler.printStream(originalOut);
+        }
+    }
+
+    @Test
+    public void testRecordingSurvivesFileFormat() throws IOException {
+        // Arrange
+        HANGMAN_WORDS.reseed(42);
+        GameRecording recording = record("KIWI", 6, "k\nx\nkiwa\nkiwi\n");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // Act
+        recording.write(bytes);
+        GameRecording read = GameRecording.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        // Assert
+        assertEquals(GameStatus.WON, recording.status());
+        assertEquals(42L, read.seed());
+        assertEquals("KIWI", read.word());
+        assertEquals(recording.status(), read.status());
+        assertEquals(recording.misses(), read.misses());
+        assertEquals(new GameOptions(false, true, true), read.options());
+        assertEquals(recording.input().size(), read.input().size());
+        for (int i = 0; i < read.input().size(); i++) {
+            assertEquals(recording.input().get(i).offsetMicros(), read.input().get(i).offsetMicros());
+            assertArrayEquals(recording.input().get(i).bytes(), read.input().get(i).bytes());
+        }
+        assertTrue(bytes.size() < 64, "size " + bytes.size());
+        assertThrows(IOException.class, () -> GameRecording.read(new ByteArrayInputStream(new byte[8])));
+    }
+
+    @Test
+    public void testReplayReproducesLineGame() {
+        // Arrange
+        GameRecording recording = record("APPLE", 3, "p\nq\nzzzzz\n?\nw\nlemon\n");
+        GameReplayer replayer = new GameReplayer(HINTS, DICTIONARY);
+
+        // Act
+        ReplayResult result = replayer.replay(recording);
+
+        // Assert
+        assertEquals(GameStatus.LOST, recording.status());
+        assertEquals(GameStatus.LOST, result.status());
+        assertTrue(result.reproduced());
+    }
+
+    @Test
+    public void testReplayKeepsUncheckedWordGuessesAsMisses() throws IOException {
+        // Arrange
+        GameRecording recording = record("APPLE", 3, "zzzzz\nlemon\n", false);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        recording.write(bytes);
+        GameRecording read = GameRecording.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        // Act
+        ReplayResult result = new GameReplayer(HINTS, DICTIONARY).replay(read);
+
+        // Assert
+        assertEquals(new GameOptions(false, false, false), read.options());
+        assertEquals(2, recording.misses());
+        assertEquals(2, result.misses());
+        assertTrue(result.reproduced());
+    }
+
+    @Test
+    public void testReplayReproducesKeystrokeGameAndOutput() {
+        // Arrange
+        GameRecording recording = new GameRecording(null, 0, 6, "FIG", new GameOptions(true, true, true), List.of(
+            new InputChunk(0, new byte[] {'f'}),
+            new InputChunk(2000, new byte[] {'x', 'g'}),
+            new InputChunk(5000, new byte[] {'i'})
+        ), GameStatus.WON, 1);
+        GameReplayer replayer = new GameReplayer(HINTS, DICTIONARY);
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        // Act
+        ReplayResult result = replayer.replay(recording, false, new PrintStream(first));
+        replayer.replay(recording, true, new PrintStream(second));
+
+        // Assert
+        assertEquals(GameStatus.WON, result.status());
+        assertEquals(1, result.misses());
+        assertTrue(result.reproduced());
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+    }
+
+    @Test
+    public void testDivergingReplayIsReported() {
+        // Arrange
+        GameRecording recording = record("FIG", 6, "f\ni\ng\n");
+        GameRecording tampered = new GameRecording(null, 0, 6, "FOG", recording.options(), recording.input(),
+            recording.status(), recording.misses());
+
+        // Act
+        ReplayResult result = new GameReplayer(HINTS, DICTIONARY).replay(tampered);
+
+        // Assert
+        assertEquals(GameStatus.WON, recording.status());
+        assertEquals(GameStatus.IN_PROGRESS, result.status());
+        assertEquals(1, result.misses());
+        assertFalse(result.reproduced());
+    }
+}
@@ -0,0 +1,124 @@
+package server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import util.HangmanWords;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameServerTest {
+    private static final int TIMEOUT_MILLIS = 10_000;
+
+    private static GameServer startServer(int maxSessions) throws IOException {
+        HangmanWords words = new HangmanWords(Map.of(1, List.of("cat")), new SecureRandom());
+        GameServer server = new GameServer(words, 1, 6, maxSessions, TIMEOUT_MILLIS);
+        server.start(InetAddress.getLoopbackAddress(), 0);
+        return server;
+    }
+
+    private static String play(int port, String input) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(TIMEOUT_MILLIS);
+            OutputStream out = socket.getOutputStream();
+            out.write(input.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            // The server closes the connection once the game is over
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testSessionPlaysGameOverConnection() throws IOException {
+        // Arrange
+        try (GameServer server = startServer(10)) {
+            // Act
+            String output = play(server.port(), "c\r\na\r\nt\r\n");
+
+            // Assert
+            assertTrue(output.contains("Enter letter or word: "));
+            assertFalse(output.replace("\r\n", "").contains("\n"), "Every line break is sent as CRLF");
+            assertEquals(1, server.stats().snapshot().wins());
+        }
+    }
+
+    @Test
+    public void testSessionsAreIsolated() throws IOException, InterruptedException {
+        // Arrange
+        try (GameServer server = startServer(10)) {
+            String[] outputs = new String[2];
+            Thread other = Thread.ofVirtual().start(() -> {
+                try {
+                    outputs[1] = play(server.port(), "exit\r\n");
+                } catch (IOException e) {
+                    outputs[1] = e.toString();
+                }
+            });
+
+            // Act
+            outputs[0] = play(server.port(), "cat\r\n");
+            other.join();
+
+            // Assert
+            assertTrue(outputs[1].contains("terminated by the user"));
+            assertFalse(outputs[0].contains("terminated by the user"));
+        }
+    }
+
+    @Test
+    public void testConnectionsAboveLimitAreRejected() throws IOException {
+        // Arrange
+        try (GameServer server = startServer(0)) {
+            // Act
+            String output = play(server.port(), "");
+
+            // Assert
+            assertEquals("Server is full, try again later.\r\n", output);
+            assertEquals(1, server.rejectedSessions());
+        }
+    }
+
+    @Test
+    public void testLoadGeneratorCompletesAllSessions() throws IOException, InterruptedException {
+        // Arrange
+        try (GameServer server = startServer(100)) {
+            LoadGenerator generator = new LoadGenerator(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), server.port()), 50, 0);
+            int[] open = new int[1];
+
+            // Act
+            LoadReport report = generator.run(() -> open[0] = server.activeSessions());
+
+            // Assert
+            assertEquals(50, open[0]);
+            assertEquals(50, report.completed());
+            assertEquals(0, report.failed());
+            // E, T, A, O, I, N, S, H: six misses before C is reached
+            assertEquals(8 * 50, report.guesses());
+        }
+    }
+
+    @Test
+    public void testCrlfTranslation() throws IOException {
+        // Arrange
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // Act
+        try (OutputStream out = new CrlfOutputStream(bytes)) {
+            out.write("a\nb\n\nc".getBytes(StandardCharsets.US_ASCII));
+            out.write('\n');
+        }
+
+        // Assert
+        assertEquals("a\r\nb\r\n\r\nc\r\n", bytes.toString(StandardCharsets.US_ASCII));
+    }
+}
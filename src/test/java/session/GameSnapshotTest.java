@@ -0,0 +1,136 @@
+package session;
+
+import game.Game;
+import game.GameEngine;
+import game.GameStatus;
+import hangman.SimpleHangman;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.Test;
+import word.CapitalizedWord;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GameSnapshotTest {
+    private static final WordTable WORDS = new WordTable(List.of("apple", "kiwi", "hippopotamus", "fig"));
+
+    private static GameEngine play(String word, int attempts, String guesses) {
+        GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(word));
+        engine.start(attempts);
+        for (char letter : guesses.toCharArray()) {
+            engine.guess(letter);
+        }
+        return engine;
+    }
+
+    private static List<String> views(GameEngine engine) {
+        List<String> views = new ArrayList<>();
+        engine.hangman().hangmanLines().forEach(line -> views.add(line.getContent()));
+        views.add(engine.keyboard().keyboardLine1().getContent());
+        views.add(engine.keyboard().keyboardLine2().getContent());
+        views.add(engine.keyboard().keyboardLine3().getContent());
+        views.add(engine.word().wordLine().getContent());
+        return views;
+    }
+
+    @Test
+    public void testRestoredViewsMatchPlayedGame() {
+        // Arrange
+        for (String guesses : List.of("", "XP", "PLXAE", "QWXZV", "QWXZVB", "HOXPTAMUSI")) {
+            GameEngine played = play("HIPPOPOTAMUS", 6, guesses);
+
+            // Act
+            GameEngine byId = GameSnapshot.restore(GameSnapshot.save(played, WORDS), WORDS);
+            GameEngine byWord = GameSnapshot.restore(GameSnapshot.save(played, null), null);
+
+            // Assert
+            for (GameEngine restored : List.of(byId, byWord)) {
+                assertEquals(played.status(), restored.status(), guesses);
+                assertEquals(played.attempts(), restored.attempts());
+                assertEquals(played.misses(), restored.misses());
+                assertEquals(played.guessedMask(), restored.guessedMask());
+                assertEquals(views(played), views(restored), guesses);
+            }
+        }
+    }
+
+    @Test
+    public void testSnapshotsAreTensOfBytes() {
+        // Arrange
+        GameEngine played = play("HIPPOPOTAMUS", 4, "PXO");
+
+        // Act
+        byte[] byId = GameSnapshot.save(played, WORDS);
+        byte[] byWord = GameSnapshot.save(played, null);
+
+        // Assert
+        assertEquals(10, byId.length);
+        assertEquals(19, byWord.length);
+    }
+
+    @Test
+    public void testLostGameKeepsFullHangman() {
+        // Arrange
+        GameEngine played = play("FIG", 2, "XY");
+
+        // Act
+        GameEngine restored = GameSnapshot.restore(GameSnapshot.save(played, WORDS), WORDS);
+        restored.hangman().nextStage();
+
+        // Assert
+        assertEquals(GameStatus.LOST, restored.status());
+        assertEquals(views(played), views(restored));
+    }
+
+    @Test
+    public void testSnapshotsAreReadInSequence() {
+        // Arrange
+        GameEngine first = play("KIWI", 6, "KZ");
+        GameEngine second = play("APPLE", 3, "E");
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.size(first, WORDS) + GameSnapshot.size(second, null));
+        GameSnapshot.write(first, WORDS, buffer);
+        GameSnapshot.write(second, null, buffer);
+        buffer.flip();
+
+        // Act
+        GameEngine firstRestored = GameSnapshot.read(buffer, WORDS);
+        GameEngine secondRestored = GameSnapshot.read(buffer, WORDS);
+
+        // Assert
+        assertEquals(views(first), views(firstRestored));
+        assertEquals(views(second), views(secondRestored));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void testRestoredGameContinues() {
+        // Arrange
+        byte[] snapshot = GameSnapshot.save(play("KIWI", 6, "KX"), null);
+
+        // Act
+        Game game = GameSnapshot.restoreGame(snapshot, null);
+        game.engine().guess('W');
+        game.engine().guess('I');
+
+        // Assert
+        assertEquals(GameStatus.WON, game.engine().status());
+        assertEquals(1, game.engine().misses());
+    }
+
+    @Test
+    public void testMalformedSnapshotsAreRejected() {
+        // Arrange
+        byte[] snapshot = GameSnapshot.save(play("KIWI", 6, "K"), WORDS);
+        byte[] truncated = new byte[snapshot.length - 1];
+        System.arraycopy(snapshot, 0, truncated, 0, truncated.length);
+        byte[] badVersion = snapshot.clone();
+        badVersion[0] = 0x21;
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.restore(snapshot, null));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.restore(truncated, WORDS));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.restore(badVersion, WORDS));
+    }
+}
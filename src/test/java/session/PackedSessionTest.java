@@ -0,0 +1,130 @@
+package session;
+
+import game.GameEngine;
+import game.GameStatus;
+import hangman.SimpleHangman;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.Test;
+import word.CapitalizedWord;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PackedSessionTest {
+    private static final WordTable WORDS = new WordTable(List.of("apple", "kiwi", "hippopotamus", "fig"));
+
+    private static GameEngine newEngine(String word, int attempts) {
+        GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), new CapitalizedWord(word));
+        engine.start(attempts);
+        return engine;
+    }
+
+    private static List<String> views(GameEngine engine) {
+        List<String> views = new ArrayList<>();
+        engine.hangman().hangmanLines().forEach(line -> views.add(line.getContent()));
+        views.add(engine.keyboard().keyboardLine1().getContent());
+        views.add(engine.keyboard().keyboardLine2().getContent());
+        views.add(engine.keyboard().keyboardLine3().getContent());
+        views.add(engine.word().wordLine().getContent());
+        return views;
+    }
+
+    @Test
+    public void testPackRoundTrip() {
+        // Act
+        long packed = PackedSession.pack(WordTable.MAX_WORDS - 1, 6, 3, (1 << 26) - 1, GameStatus.LOST);
+
+        // Assert
+        assertEquals(WordTable.MAX_WORDS - 1, PackedSession.wordId(packed));
+        assertEquals(6, PackedSession.attempts(packed));
+        assertEquals(3, PackedSession.misses(packed));
+        assertEquals((1 << 26) - 1, PackedSession.guessedMask(packed));
+        assertEquals(GameStatus.LOST, PackedSession.status(packed));
+        assertThrows(IllegalArgumentException.class, () -> PackedSession.pack(0, 7, 0, 0, GameStatus.IN_PROGRESS));
+        assertThrows(IllegalArgumentException.class, () -> PackedSession.pack(0, 6, 0, 1 << 26, GameStatus.WON));
+    }
+
+    @Test
+    public void testPackedGuessesFollowEngineRules() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int game = 0; game < 500; game++) {
+            int wordId = random.nextInt(WORDS.size());
+            int attempts = random.nextInt(1, 7);
+            GameEngine engine = newEngine(WORDS.word(wordId), attempts);
+            long packed = PackedSession.start(wordId, attempts);
+
+            // Act
+            while (!engine.status().isOver()) {
+                char letter = (char) ('A' + random.nextInt(26));
+                engine.guess(letter);
+                packed = PackedSession.guess(packed, letter, WORDS);
+
+                // Assert
+                assertEquals(PackedSession.pack(WORDS, engine), packed);
+                assertArrayEquals(engine.pattern(), PackedSession.pattern(packed, WORDS));
+            }
+        }
+    }
+
+    @Test
+    public void testEngineIsRebuiltInPackedState() {
+        // Arrange
+        for (String guesses : List.of("XP", "PLXAE", "EXLAP", "QWXZV", "QPWXZV")) {
+            GameEngine played = newEngine("APPLE", 5);
+            for (char letter : guesses.toCharArray()) {
+                played.guess(letter);
+            }
+
+            // Act
+            GameEngine restored = PackedSession.toEngine(PackedSession.pack(WORDS, played), WORDS);
+
+            // Assert
+            assertEquals(played.status(), restored.status(), guesses);
+            assertEquals(played.misses(), restored.misses());
+            assertEquals(played.guessedMask(), restored.guessedMask());
+            assertEquals(views(played), views(restored));
+        }
+    }
+
+    @Test
+    public void testWrongWordGuessesAreRestoredAsMisses() {
+        // Arrange
+        GameEngine played = newEngine("FIG", 6);
+        played.guess('F');
+        played.guessWord("FOG");
+        played.guess('X');
+
+        // Act
+        GameEngine restored = PackedSession.toEngine(PackedSession.pack(WORDS, played), WORDS);
+
+        // Assert
+        assertEquals(2, restored.misses());
+        assertEquals(views(played), views(restored));
+    }
+
+    @Test
+    public void testStore() {
+        // Arrange
+        PackedSessionStore store = new PackedSessionStore(16);
+        store.put(42, PackedSession.start(WORDS.id("kiwi"), 6));
+
+        // Act
+        long afterHit = store.guess(42, 'K', WORDS);
+        long afterWin = store.guess(42, 'W', WORDS);
+        afterWin = store.guess(42, 'I', WORDS);
+
+        // Assert
+        assertEquals(GameStatus.IN_PROGRESS, PackedSession.status(afterHit));
+        assertEquals(GameStatus.WON, PackedSession.status(afterWin));
+        assertEquals(afterWin, store.get(42));
+        assertEquals(-1, store.get(7));
+        assertThrows(IllegalArgumentException.class, () -> store.guess(7, 'A', WORDS));
+        assertEquals(afterWin, store.remove(42));
+        assertEquals(0, store.size());
+    }
+}
@@ -0,0 +1,147 @@
+package session;
+
+import game.GameStatus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SessionRegistryTest {
+    private static final WordTable WORDS = new WordTable(List.of("apple", "kiwi", "fig"));
+    private Path directory;
+    private SessionArchive archive;
+
+    @BeforeEach
+    public void createArchive() throws IOException {
+        directory = Files.createTempDirectory("sessions");
+        archive = new SessionArchive(directory);
+    }
+
+    @AfterEach
+    public void deleteArchive() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testGuessesAndCounters() {
+        // Arrange
+        try (SessionRegistry registry = new SessionRegistry(WORDS, archive, Duration.ofMinutes(1), 100)) {
+            long sessionId = registry.create(WORDS.id("fig"), 6);
+
+            // Act
+            registry.guess(sessionId, 'F');
+            registry.guess(sessionId, 'X');
+            long packed = registry.get(sessionId);
+
+            // Assert
+            assertEquals(1, PackedSession.misses(packed));
+            assertEquals(-1, registry.get(sessionId + 1000));
+            assertThrows(IllegalArgumentException.class, () -> registry.guess(sessionId + 1000, 'A'));
+            SessionStats stats = registry.stats();
+            assertEquals(3, stats.hits());
+            assertEquals(2, stats.misses());
+            assertEquals(1, stats.size());
+        }
+    }
+
+    @Test
+    public void testIdleSessionsAreArchivedAndResumed() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        try (SessionRegistry registry = new SessionRegistry(WORDS, archive, Duration.ofSeconds(10), 100, nanos::get)) {
+            long sessionId = registry.create(WORDS.id("kiwi"), 6);
+            registry.guess(sessionId, 'K');
+
+            // Act
+            nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+            registry.cleanUp();
+            long evictedSize = registry.stats().size();
+            long resumed = registry.guess(sessionId, 'W');
+
+            // Assert
+            assertEquals(0, evictedSize);
+            assertEquals(1, registry.stats().evictions());
+            assertEquals(1, registry.stats().resumed());
+            assertEquals((1 << ('K' - 'A')) | (1 << ('W' - 'A')), PackedSession.guessedMask(resumed));
+        }
+    }
+
+    @Test
+    public void testFailedArchiveWritesAreCounted() throws IOException {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        try (SessionRegistry registry = new SessionRegistry(WORDS, archive, Duration.ofSeconds(10), 100, nanos::get)) {
+            long sessionId = registry.create(WORDS.id("kiwi"), 6);
+            // A file in place of the archive directory fails every write
+            Files.delete(directory);
+            Files.createFile(directory);
+
+            // Act
+            nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+            registry.cleanUp();
+            Files.delete(directory);
+            Files.createDirectory(directory);
+
+            // Assert
+            assertEquals(1, registry.stats().archiveFailures());
+            assertEquals(-1, registry.get(sessionId));
+        }
+    }
+
+    @Test
+    public void testSessionsBeyondCapacityStayReachable() {
+        // Arrange
+        try (SessionRegistry registry = new SessionRegistry(WORDS, archive, Duration.ofMinutes(1), 10)) {
+            List<Long> sessionIds = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                long sessionId = registry.create(WORDS.id("apple"), 6);
+                registry.guess(sessionId, (char) ('A' + i % 26));
+                sessionIds.add(sessionId);
+            }
+
+            // Act
+            registry.cleanUp();
+
+            // Assert
+            assertTrue(registry.stats().evictions() >= 90);
+            for (int i = 0; i < sessionIds.size(); i++) {
+                assertEquals(1 << (i % 26), PackedSession.guessedMask(registry.get(sessionIds.get(i))));
+            }
+        }
+    }
+
+    @Test
+    public void testClosedRegistryIsResumedByNewOne() {
+        // Arrange
+        SessionRegistry registry = new SessionRegistry(WORDS, archive, Duration.ofMinutes(1), 100);
+        long sessionId = registry.create(WORDS.id("fig"), 6);
+        registry.guess(sessionId, 'F');
+        registry.guess(sessionId, 'I');
+        registry.guess(sessionId, 'G');
+
+        // Act
+        registry.close();
+        try (SessionRegistry restarted = new SessionRegistry(WORDS, archive, Duration.ofMinutes(1), 100)) {
+
+            // Assert
+            assertEquals(GameStatus.WON, PackedSession.status(restarted.get(sessionId)));
+            restarted.remove(sessionId);
+            assertEquals(-1, restarted.get(sessionId));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package simulation;
+
+import game.GameEngine;
+import game.GameStatus;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import util.HangmanWords;
+import util.HangmanWords.Category;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GameSimulatorTest {
+
+    @Test
+    public void testPlayWithFrequencyStrategy() {
+        // Act
+        GameEngine engine = GameSimulator.play("TEA", 6, new FrequencyGuessStrategy());
+
+        // Assert
+        assertEquals(GameStatus.WON, engine.status());
+        assertEquals(0, engine.misses());
+    }
+
+    @Test
+    public void testPlayRejectsRepeatingStrategy() {
+        // Arrange
+        GuessStrategy stubborn = (pattern, guessedMask) -> 'Z';
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> GameSimulator.play("TEA", 6, stubborn));
+    }
+
+    @Test
+    public void testRunMergesAllGames() {
+        // Arrange
+        HangmanWords words = new HangmanWords(
+            Map.of(Category.FRUITS.id(), List.of("tea", "eat")),
+            new SecureRandom()
+        );
+        GameSimulator simulator = new GameSimulator(words, Category.FRUITS.id(), 6, random -> new FrequencyGuessStrategy());
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // Act
+        SimulationReport report = simulator.run(10_000, 42L, pool);
+        pool.shutdown();
+
+        // Assert
+        assertEquals(10_000, report.games());
+        assertEquals(1.0, report.winRate());
+        assertEquals(0.0, report.averageMisses());
+        assertEquals(10_000, report.wordDifficulties().stream().mapToLong(SimulationReport.WordDifficulty::plays).sum());
+    }
+
+    @Test
+    public void testRunIsDeterministicForSeed() {
+        // Arrange
+        GameSimulator simulator = new GameSimulator(new HangmanWords(), 0, 6, RandomGuessStrategy::new);
+
+        // Act
+        SimulationReport first = simulator.run(5_000, 7L);
+        SimulationReport second = simulator.run(5_000, 7L);
+
+        // Assert
+        assertEquals(first.wins(), second.wins());
+        assertEquals(first.totalMisses(), second.totalMisses());
+    }
+}
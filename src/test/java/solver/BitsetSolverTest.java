@@ -0,0 +1,107 @@
+package solver;
+
+import game.GameEngine;
+import game.GameStatus;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import simulation.GameSimulator;
+import util.HangmanWords;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BitsetSolverTest {
+
+    private static int mask(String letters) {
+        int mask = 0;
+        for (char c : letters.toCharArray()) {
+            mask |= 1 << (c - 'A');
+        }
+        return mask;
+    }
+
+    @Test
+    public void testNewGameUsesWordsOfMatchingLength() {
+        // Arrange
+        BitsetSolver solver = new BitsetSolver(DictionaryIndex.of(List.of("cat", "cot", "dog", "bird")));
+
+        // Act
+        solver.newGame(3);
+
+        // Assert
+        assertEquals(3, solver.candidateCount());
+        assertEquals(2, solver.letterCount('C'));
+        assertEquals('C', solver.bestLetter(0), "Ties between C, O and T go to the first letter");
+    }
+
+    @Test
+    public void testPrefersLettersThatSplitCandidates() {
+        // Arrange
+        BitsetSolver solver = new BitsetSolver(DictionaryIndex.of(List.of("bat", "cat", "hat", "mat", "bait")));
+
+        // Act
+        solver.newGame(3);
+
+        // Assert
+        assertEquals(4, solver.letterCount('A'));
+        assertEquals('B', solver.bestLetter(0), "A and T are in every candidate and reveal nothing");
+        assertEquals('C', solver.bestLetter(mask("ATB")));
+    }
+
+    @Test
+    public void testNarrowByHitAndMiss() {
+        // Arrange
+        BitsetSolver solver = new BitsetSolver(DictionaryIndex.of(List.of("cat", "cot", "cut", "dog", "tac")));
+        solver.newGame(3);
+
+        // Act
+        solver.narrow("C__".toCharArray(), mask("C"));
+        solver.narrow("C__".toCharArray(), mask("CO"));
+
+        // Assert
+        assertArrayEquals(new String[] {"CAT", "CUT"}, solver.candidates());
+        assertEquals(0, solver.letterCount('O'));
+    }
+
+    @Test
+    public void testNarrowRequiresExactPositions() {
+        // Arrange
+        BitsetSolver solver = new BitsetSolver(DictionaryIndex.of(List.of("book", "boot", "bolt")));
+        solver.newGame(4);
+
+        // Act
+        solver.narrow("_O__".toCharArray(), mask("O"));
+
+        // Assert
+        assertArrayEquals(new String[] {"BOLT"}, solver.candidates(), "Words with a second O must be excluded");
+    }
+
+    @Test
+    public void testUnknownWordFallsBack() {
+        // Arrange
+        BitsetSolver solver = new BitsetSolver(DictionaryIndex.of(List.of("cat")));
+
+        // Act
+        solver.newGame(7);
+
+        // Assert
+        assertEquals(0, solver.candidateCount());
+        assertEquals('E', solver.nextGuess("_______".toCharArray(), 0));
+    }
+
+    @Test
+    public void testSolvesEveryDictionaryWord() {
+        // Arrange
+        List<String> words = new HangmanWords().getWords(0);
+        BitsetSolver solver = new BitsetSolver(DictionaryIndex.of(words));
+
+        for (String word : words) {
+            // Act
+            GameEngine engine = GameSimulator.play(word.toUpperCase(), 6, solver);
+
+            // Assert
+            assertEquals(GameStatus.WON, engine.status(), "Solver should find " + word);
+            assertTrue(engine.misses() < 6);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package stats;
+
+import game.GameEngine;
+import hangman.SimpleHangman;
+import java.util.ArrayList;
+import java.util.List;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.Test;
+import session.WordTable;
+import word.CapitalizedWord;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GameStatsTest {
+    private static final WordTable WORDS = new WordTable(List.of("apple", "kiwi", "fig", "hippopotamus"));
+
+    @Test
+    public void testTotalsByCategoryAndAttempts() {
+        // Arrange
+        GameStats stats = new GameStats(WORDS, 3, 1);
+
+        // Act
+        stats.recordGame(1, 6, WORDS.id("apple"), true, 2);
+        stats.recordGame(1, 6, WORDS.id("kiwi"), false, 6);
+        stats.recordGame(2, 3, WORDS.id("fig"), true, 0);
+        StatsSnapshot snapshot = stats.snapshot();
+
+        // Assert
+        assertEquals(3, snapshot.games());
+        assertEquals(2, snapshot.wins());
+        assertEquals(8.0 / 3, snapshot.averageMisses(), 1e-9);
+        assertEquals(List.of(
+            new StatsSnapshot.CellStats(1, 6, 2, 1, 8),
+            new StatsSnapshot.CellStats(2, 3, 1, 1, 0)
+        ), snapshot.cells());
+        assertEquals(new StatsSnapshot.WordDifficulty("KIWI", 1, 0, 6), stats.word(WORDS.id("kiwi")));
+        assertThrows(IllegalArgumentException.class, () -> stats.recordGame(6, 6, 0, true, 0));
+    }
+
+    @Test
+    public void testLeaderboardKeepsHardestWords() {
+        // Arrange
+        GameStats stats = new GameStats(WORDS, 2, 2);
+        int apple = WORDS.id("apple");
+        int kiwi = WORDS.id("kiwi");
+        int fig = WORDS.id("fig");
+        int hippo = WORDS.id("hippopotamus");
+
+        // Act
+        stats.recordGame(0, 6, hippo, false, 6);
+        stats.recordGame(0, 6, apple, true, 1);
+        stats.recordGame(0, 6, apple, true, 3);
+        stats.recordGame(0, 6, kiwi, true, 5);
+        stats.recordGame(0, 6, kiwi, false, 6);
+        stats.recordGame(0, 6, fig, true, 0);
+        stats.recordGame(0, 6, fig, true, 1);
+        List<String> before = stats.snapshot().hardest().stream().map(StatsSnapshot.WordDifficulty::word).toList();
+        stats.recordGame(0, 6, hippo, false, 6);
+        stats.recordGame(0, 6, kiwi, true, 0);
+        stats.recordGame(0, 6, kiwi, true, 0);
+
+        // Assert
+        assertEquals(List.of("KIWI", "APPLE"), before);
+        assertEquals(List.of(
+            new StatsSnapshot.WordDifficulty("HIPPOPOTAMUS", 2, 0, 12),
+            new StatsSnapshot.WordDifficulty("KIWI", 4, 3, 11)
+        ), stats.snapshot().hardest());
+    }
+
+    @Test
+    public void testConcurrentGamesAreAllCounted() throws InterruptedException {
+        // Arrange
+        GameStats stats = new GameStats(WORDS, 4, 1);
+        List<Thread> threads = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int game = 0; game < 1000; game++) {
+                    GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(),
+                        new CapitalizedWord("FIG"));
+                    engine.start(2);
+                    engine.guessListener(stats.listener(engine, 1, WORDS.id("fig")));
+                    engine.guess((game & 1) == 0 ? 'X' : 'F');
+                    engine.guess((game & 1) == 0 ? 'Y' : 'I');
+                    if (!engine.status().isOver()) {
+                        engine.guess('G');
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        StatsSnapshot snapshot = stats.snapshot();
+
+        // Assert
+        assertEquals(8000, snapshot.games());
+        assertEquals(4000, snapshot.wins());
+        assertEquals(8000, snapshot.misses());
+        assertEquals(new StatsSnapshot.WordDifficulty("FIG", 8000, 4000, 8000), snapshot.hardest().getFirst());
+    }
+}
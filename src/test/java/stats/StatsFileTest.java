@@ -0,0 +1,115 @@
+package stats;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import session.WordTable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StatsFileTest {
+    private static final WordTable WORDS = new WordTable(List.of("apple", "kiwi", "fig"));
+    private Path directory;
+    private Path file;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("stats");
+        file = directory.resolve("stats.bin");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testCountersSurviveReopening() {
+        // Arrange
+        try (StatsFile statsFile = new StatsFile(file, WORDS)) {
+            GameStats stats = new GameStats(statsFile, WORDS, 2, 1);
+            stats.recordGame(1, 6, WORDS.id("kiwi"), false, 6);
+            stats.recordGame(1, 6, WORDS.id("apple"), true, 1);
+        }
+
+        // Act
+        StatsSnapshot snapshot;
+        try (StatsFile statsFile = new StatsFile(file, WORDS)) {
+            GameStats stats = new GameStats(statsFile, WORDS, 2, 1);
+            stats.recordGame(2, 3, WORDS.id("fig"), true, 0);
+            snapshot = stats.snapshot();
+        }
+
+        // Assert
+        assertEquals(3, snapshot.games());
+        assertEquals(2, snapshot.wins());
+        assertEquals(List.of(
+            new StatsSnapshot.CellStats(1, 6, 2, 1, 7),
+            new StatsSnapshot.CellStats(2, 3, 1, 1, 0)
+        ), snapshot.cells());
+        assertEquals(List.of(
+            new StatsSnapshot.WordDifficulty("KIWI", 1, 0, 6),
+            new StatsSnapshot.WordDifficulty("APPLE", 1, 1, 1)
+        ), snapshot.hardest());
+    }
+
+    @Test
+    public void testFileOfOtherWordsIsRefused() {
+        // Arrange
+        new StatsFile(file, WORDS).close();
+        WordTable reordered = new WordTable(List.of("kiwi", "apple", "fig"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new StatsFile(file, reordered));
+        assertThrows(IllegalArgumentException.class,
+            () -> new StatsFile(file, new WordTable(List.of("apple", "kiwi"))));
+    }
+
+    @Test
+    public void testMappingsOfOneFileShareUpdates() throws InterruptedException {
+        // Arrange
+        int threads = 4;
+        int games = 10_000;
+        List<StatsFile> mappings = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            mappings.add(new StatsFile(file, WORDS));
+        }
+        List<Thread> players = new ArrayList<>();
+
+        // Act
+        for (StatsFile mapping : mappings) {
+            GameStats stats = new GameStats(mapping, WORDS, 0, 1);
+            players.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < games; i++) {
+                    stats.recordGame(0, 6, i % WORDS.size(), i % 2 == 0, 1);
+                }
+            }));
+        }
+        for (Thread player : players) {
+            player.join();
+        }
+        mappings.forEach(StatsFile::close);
+        GameStats reopened = new GameStats(new StatsFile(file, WORDS), WORDS, 0, 1);
+
+        // Assert
+        assertEquals(threads * games, reopened.snapshot().games());
+        assertEquals(threads * games / 2, reopened.snapshot().wins());
+        assertEquals(threads * games, reopened.snapshot().misses());
+        long plays = 0;
+        for (int wordId = 0; wordId < WORDS.size(); wordId++) {
+            plays += reopened.word(wordId).plays();
+        }
+        assertEquals(threads * games, plays);
+    }
+}
@@ -0,0 +1,54 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WordDictionaryTest {
+
+    @Test
+    public void testContainsIgnoresCase() {
+        // Arrange
+        WordDictionary dictionary = new WordDictionary(List.of("apple", "Banana", "APPLE"));
+
+        // Act & Assert
+        assertEquals(2, dictionary.size());
+        assertTrue(dictionary.contains("APPLE"));
+        assertTrue(dictionary.contains("banana"));
+        assertFalse(dictionary.contains("cherry"));
+    }
+
+    @Test
+    public void testNoFalsePositives() {
+        // Arrange
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            words.add("WORD" + Integer.toString(i, 26).replaceAll("\\d", "X"));
+        }
+        WordDictionary dictionary = new WordDictionary(words);
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (dictionary.contains("OTHER" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertEquals(0, falsePositives, "The exact fallback must filter out Bloom filter false positives");
+        assertTrue(words.stream().allMatch(dictionary::contains));
+    }
+
+    @Test
+    public void testEmptyDictionary() {
+        // Arrange
+        WordDictionary dictionary = new WordDictionary(List.of());
+
+        // Act & Assert
+        assertFalse(dictionary.contains("ANY"));
+    }
+}
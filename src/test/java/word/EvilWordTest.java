@@ -0,0 +1,103 @@
+package word;
+
+import game.GameEngine;
+import game.GuessOutcome;
+import hangman.SimpleHangman;
+import java.util.List;
+import keyboard.CapitalizedKeyboard;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EvilWordTest {
+
+    @Test
+    void testKeepsLargestFamilyOnMiss() {
+        // Given
+        EvilWord word = new EvilWord(List.of("cat", "cot", "dog", "pig", "bird"), 3);
+
+        // When
+        byte result = word.pushLetter('O');
+
+        // Then
+        // Family without O: CAT, PIG (2), _O_: COT, DOG (2) -> tie goes to the one revealing less
+        assertEquals(-1, result);
+        assertEquals(2, word.candidateCount());
+    }
+
+    @Test
+    void testRevealsWhenForced() {
+        // Given
+        EvilWord word = new EvilWord(List.of("cat", "cot", "cut"), 3);
+
+        // When
+        byte result = word.pushLetter('C');
+
+        // Then
+        assertEquals(1, result);
+        assertEquals(3, word.candidateCount());
+        assertEquals("\u001B[4mC\u001B[0m", word.wordLine().content().getFirst());
+    }
+
+    @Test
+    void testRepeatedLetterIsIgnored() {
+        // Given
+        EvilWord word = new EvilWord(List.of("cat", "cot"), 3);
+        word.pushLetter('C');
+
+        // When
+        byte result = word.pushLetter('C');
+
+        // Then
+        assertEquals(-1, result);
+    }
+
+    @Test
+    void testFullGameThroughEngine() {
+        // Given
+        EvilWord word = new EvilWord(List.of("cat", "cot", "cut"), 3);
+        GameEngine engine = new GameEngine(new SimpleHangman(), new CapitalizedKeyboard(), word);
+        engine.start(6);
+
+        // When
+        engine.guess('C');
+        engine.guess('T');
+        GuessOutcome miss = engine.guess('A');
+        engine.guess('O');
+        GuessOutcome last = engine.guess('U');
+
+        // Then
+        assertEquals(GuessOutcome.MISS, miss);
+        assertEquals(GuessOutcome.WIN, last);
+        assertArrayEquals("CUT".toCharArray(), word.word());
+        assertEquals(2, engine.misses());
+    }
+
+    @Test
+    void testWordGuessOnlyMatchesLastCandidate() {
+        // Given
+        EvilWord word = new EvilWord(List.of("cat", "cot"), 3);
+
+        // When
+        boolean checked = word.matches("COT".toCharArray());
+        int candidatesAfterCheck = word.candidateCount();
+        boolean first = word.pushWord("CAT".toCharArray());
+        boolean second = word.pushWord("COT".toCharArray());
+
+        // Then
+        assertFalse(checked);
+        assertEquals(2, candidatesAfterCheck);
+        assertFalse(first);
+        assertTrue(second);
+        assertTrue(word.matches("COT".toCharArray()));
+        assertEquals(1, word.candidateCount());
+    }
+
+    @Test
+    void testRejectsMissingLength() {
+        assertThrows(IllegalArgumentException.class, () -> new EvilWord(List.of("cat"), 4));
+    }
+}